@@ -1,33 +1,155 @@
 package com.hotel;
 
 
+import com.hotel.config.ConnectionPool;
+import com.hotel.config.DatabaseConfig;
+import com.hotel.config.HttpExecutors;
 import com.hotel.handler.*;
+import com.hotel.metrics.Metrics;
+import com.hotel.service.AuthService;
+import com.hotel.service.AvailabilityIndex;
+import com.hotel.util.Log;
+import com.hotel.util.LoginThrottle;
+import com.hotel.util.SessionManager;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 import java.net.InetSocketAddress;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 
 public class Main {
+
+    private static final Log LOG = Log.get(Main.class);
+
+    // Backpressure — override with -Dhotel.http.maxInFlight / -Dhotel.http.retryAfterSec
+    private static final int MAX_IN_FLIGHT   = Integer.getInteger("hotel.http.maxInFlight", 200);
+    private static final int RETRY_AFTER_SEC = Integer.getInteger("hotel.http.retryAfterSec", 1);
+
+    // Per-client rate limits — see RateLimitFilter; -Dhotel.ratelimit.enabled=false turns them off
+    private static final boolean RATE_LIMITS = Boolean.parseBoolean(
+            System.getProperty("hotel.ratelimit.enabled", "true"));
+
     public static void main(String[] args) throws Exception {
         HttpServer server = HttpServer.create(new InetSocketAddress(8080), 0);
+        AdmissionFilter admission = new AdmissionFilter(MAX_IN_FLIGHT, RETRY_AFTER_SEC);
 
 
         // Static files
-        server.createContext("/", new StaticFileHandler());
+        register(server, "/", new StaticFileHandler(), admission, null);
+
+
+        // Rate limit groups: requests/s and burst per client
+        RateLimitFilter auth         = RateLimitFilter.configured("auth",         0.5, 10);
+        RateLimitFilter reservations = RateLimitFilter.configured("reservations", 10,  30);
+        RateLimitFilter reports      = RateLimitFilter.configured("reports",      1,   5);
+        RateLimitFilter api          = RateLimitFilter.configured("api",          10,  30);
+        List<RateLimitFilter> limiters = List.of(auth, reservations, reports, api);
 
 
         // API endpoints
-        server.createContext("/api/auth",        new AuthHandler());
-        server.createContext("/api/reservations", new ReservationHandler());
-        server.createContext("/api/rooms",        new RoomHandler());
-        server.createContext("/api/guests",       new GuestHandler());
-        server.createContext("/api/bills",        new BillHandler());
-        server.createContext("/api/staff",        new StaffHandler());
-        server.createContext("/api/reports",      new ReportHandler());
+        register(server, "/api/auth",         new AuthHandler(),        admission, auth);
+        register(server, "/api/reservations", new ReservationHandler(), admission, reservations);
+        register(server, "/api/rooms",        new RoomHandler(),        admission, api);
+        register(server, "/api/guests",       new GuestHandler(),       admission, api);
+        register(server, "/api/bills",        new BillHandler(),        admission, api);
+        register(server, "/api/staff",        new StaffHandler(),       admission, api);
+        register(server, "/api/reports",      new ReportHandler(),      admission, reports);
+        register(server, "/api/admin",        new AdminHandler(limiters), admission, api);
+
+        // Prometheus scrape target — not behind admission, so it is never refused with
+        // 503, but it shares the executor and queues behind the same work
+        server.createContext("/api/metrics", new MetricsHandler());
+        registerGauges(admission, limiters);
+
 
+        // Build the in-memory availability index before taking traffic
+        try {
+            AvailabilityIndex.getInstance().load();
+        } catch (Exception e) {
+            LOG.warn("Availability index not loaded, will retry on first use: {}", e.getMessage());
+        }
 
-        server.setExecutor(Executors.newFixedThreadPool(10));
+        HttpExecutors.Mode mode = HttpExecutors.configuredMode();
+        server.setExecutor(admission.track(
+                HttpExecutors.create(mode, HttpExecutors.DEFAULT_THREADS)));
         server.start();
-        System.out.println("Hotel System running at http://localhost:8080");
+        LOG.info("Hotel System running at http://localhost:8080 (executor: {}, max in-flight: {})",
+                mode, MAX_IN_FLIGHT);
+    }
+
+    private static void register(HttpServer server, String path, HttpHandler handler,
+                                 AdmissionFilter admission, RateLimitFilter limiter) {
+        List<Filter> filters = server.createContext(path, handler).getFilters();
+        filters.add(new MetricsFilter(handler.getClass().getSimpleName()));
+        filters.add(admission);
+        if (limiter != null && RATE_LIMITS) filters.add(limiter);
+    }
+
+    // Publishes the counters the server already keeps. The connection pool
+    // reads 0 until something else has opened the database, so a scrape
+    // never creates it.
+    private static void registerGauges(AdmissionFilter admission, List<RateLimitFilter> limiters) {
+        Metrics m = Metrics.getInstance();
+
+        m.gauge  ("hotel_http_in_flight",           "Requests queued or running", admission::getInFlight);
+        m.counter("hotel_http_admission_rejected_total", "Requests refused with 503 by admission",
+                admission::getRejectedCount);
+        m.counter("hotel_http_admission_dropped_total", "Connections closed because even the 503 pool was full",
+                admission::getDroppedCount);
+
+        Metrics.Family<LongSupplier> allowed = m.counterOf(
+                "hotel_ratelimit_allowed_total", "Requests let through by the rate limiter", "group");
+        Metrics.Family<LongSupplier> limited = m.counterOf(
+                "hotel_ratelimit_limited_total", "Requests refused with 429 by the rate limiter", "group");
+        for (RateLimitFilter f : limiters) {
+            allowed.set(f::getAllowedCount, f.getGroup());
+            limited.set(f::getLimitedCount, f.getGroup());
+        }
+
+        SessionManager sessions = SessionManager.getInstance();
+        m.gauge  ("hotel_sessions_live",          "Signed-in sessions held in memory", sessions::getLiveSessions);
+        m.counter("hotel_sessions_created_total", "Sessions created",                  sessions::getCreatedCount);
+
+        LoginThrottle throttle = LoginThrottle.getInstance();
+        m.counter("hotel_login_locked_total", "Login attempts refused by the lockout", throttle::getRejectedCount);
+        m.counter("hotel_login_lockouts_evicted_total", "Locked names or addresses dropped because the throttle was full",
+                throttle::getLockedEvictionCount);
+        m.counter("hotel_password_verified_total", "Password checks completed",
+                () -> AuthService.verifier().getVerifiedCount());
+        m.gauge  ("hotel_password_queue", "Password checks waiting for a thread",
+                () -> AuthService.verifier().getQueuedCount());
+
+        m.counter("hotel_compressed_responses_total", "Responses sent compressed",
+                ResponseCompression::getCompressedResponseCount);
+        m.counter("hotel_compression_bytes_in_total", "Response bytes before compression",
+                ResponseCompression::getBytesIn);
+        m.counter("hotel_compression_bytes_out_total", "Response bytes after compression",
+                ResponseCompression::getBytesOut);
+        m.counterSeconds("hotel_compression_seconds_total", "CPU time spent in Deflater.deflate",
+                () -> ResponseCompression.getCompressionMillis() / 1e3);
+        m.counter("hotel_compression_deflaters_created_total", "Deflaters allocated (pool misses)",
+                ResponseCompression::getDeflatersCreated);
+        m.counter("hotel_log_dropped_total", "Log records dropped because the queue was full",
+                Log::getDroppedCount);
+
+        m.gauge  ("hotel_db_pool_active",  "Connections borrowed",          () -> pool(ConnectionPool::getActiveCount));
+        m.gauge  ("hotel_db_pool_idle",    "Connections idle in the pool",  () -> pool(ConnectionPool::getIdleCount));
+        m.gauge  ("hotel_db_pool_total",   "Connections open",              () -> pool(ConnectionPool::getTotalCount));
+        m.gauge  ("hotel_db_pool_waiting", "Threads waiting for a connection",
+                () -> pool(ConnectionPool::getWaitingCount));
+        m.counter("hotel_db_pool_borrows_total",  "Connections borrowed from the pool",
+                () -> pool(ConnectionPool::getBorrowCount));
+        m.counter("hotel_db_pool_timeouts_total", "Borrows that timed out waiting",
+                () -> pool(ConnectionPool::getTimeoutCount));
+        m.counterSeconds("hotel_db_pool_wait_seconds_total", "Time spent waiting to borrow a connection",
+                () -> pool(ConnectionPool::getTotalWaitNanos) / 1e9);
+    }
+
+    private static long pool(ToLongFunction<ConnectionPool> read) {
+        return DatabaseConfig.isInitialized()
+                ? read.applyAsLong(DatabaseConfig.getInstance().getPool()) : 0;
     }
 }
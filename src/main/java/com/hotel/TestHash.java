@@ -24,8 +24,8 @@ public class TestHash {
         } else {
             System.out.println("✅ Admin found: " + admin.getFullName());
             System.out.println("   Stored hash:  " + admin.getPasswordHash());
-            System.out.println("   Correct hash: " + hash);
-            System.out.println("   Match: " + hash.equals(admin.getPasswordHash()));
+            System.out.println("   New hash:     " + hash);
+            System.out.println("   Match: " + PasswordUtil.verify("Admin@123", admin.getPasswordHash()));
         }
 
         // Print the SQL you need to run
@@ -106,10 +106,10 @@ public class TestRunner {
         printSection("2. PASSWORD UTILITY");
         try {
             String hash = PasswordUtil.hash("Admin@123");
-            if (hash != null && hash.length() == 64) {
-                pass("Hash generated, length=64 ✓");
+            if (hash != null && hash.startsWith("pbkdf2-sha256$")) {
+                pass("Hash generated, PBKDF2 ✓");
             } else {
-                fail("Hash wrong length: " + (hash == null ? "null" : hash.length()));
+                fail("Hash not PBKDF2: " + hash);
             }
 
             if (PasswordUtil.verify("Admin@123", hash)) {
@@ -0,0 +1,287 @@
+package com.hotel.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded JDBC connection pool used behind DatabaseConfig.
+// DAOs keep calling getConnection() / close() exactly as before: close()
+// on a borrowed connection hands the physical connection back to the pool.
+public class ConnectionPool {
+
+    // Opens a new physical connection (DriverManager in production)
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    // Connections used within this window are not re-validated on borrow
+    private static final long VALIDATION_BYPASS_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ConnectionFactory factory;
+    private final int  minSize;
+    private final int  maxSize;
+    private final long idleTimeoutNanos;
+    private final long borrowTimeoutMillis;
+    private final int  validationTimeoutSeconds;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger total  = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+    private final LongAdder  borrowCount        = new LongAdder();
+    private final LongAdder  waitNanos          = new LongAdder();
+    private final AtomicLong maxWaitNanos       = new AtomicLong();
+    private final LongAdder  timeoutCount       = new LongAdder();
+    private final LongAdder  createdCount       = new LongAdder();
+    private final LongAdder  evictedCount       = new LongAdder();
+    private final LongAdder  validationFailures = new LongAdder();
+
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis,
+                          int validationTimeoutSeconds) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Pool max size must be at least 1");
+        if (minSize < 0 || minSize > maxSize)
+            throw new IllegalArgumentException("Pool min size must be between 0 and " + maxSize);
+        this.factory                  = factory;
+        this.minSize                  = minSize;
+        this.maxSize                  = maxSize;
+        this.idleTimeoutNanos         = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.borrowTimeoutMillis      = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits                  = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::maintain, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // ─── Borrow / Release ─────────────────────────────────────────────────
+
+    public Connection borrow() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis +
+                        "ms waiting for a database connection (pool max " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            PooledConnection pc;
+            while ((pc = idle.pollFirst()) != null) {
+                if (isUsable(pc)) break;
+                validationFailures.increment();
+                destroy(pc);
+            }
+            if (pc == null) pc = open();
+            active.incrementAndGet();
+            borrowCount.increment();
+            return pc.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection pc) {
+        try {
+            if (!pc.broken && !pc.raw.getAutoCommit()) {
+                // Never hand a half-finished transaction to the next borrower
+                pc.raw.rollback();
+                pc.raw.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            pc.broken = true;
+        }
+
+        if (closed || pc.broken) {
+            destroy(pc);
+        } else {
+            pc.lastUsedNanos = System.nanoTime();
+            idle.offerFirst(pc);   // LIFO keeps the warmest connections in use
+        }
+        active.decrementAndGet();
+        permits.release();
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        if (System.nanoTime() - pc.lastUsedNanos < VALIDATION_BYPASS_NANOS) return true;
+        try {
+            return pc.raw.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection raw = factory.create();
+        total.incrementAndGet();
+        createdCount.increment();
+        return new PooledConnection(raw);
+    }
+
+    private void destroy(PooledConnection pc) {
+        total.decrementAndGet();
+        try { pc.raw.close(); } catch (SQLException ignored) {}
+    }
+
+    private void recordWait(long nanos) {
+        waitNanos.add(nanos);
+        long prev;
+        while (nanos > (prev = maxWaitNanos.get()))
+            if (maxWaitNanos.compareAndSet(prev, nanos)) break;
+    }
+
+    // ─── Idle Eviction ────────────────────────────────────────────────────
+
+    // Closes connections idle past the timeout (down to minSize), then tops
+    // the pool back up to minSize so a quiet period doesn't cost handshakes.
+    void maintain() {
+        if (closed) return;
+        long now = System.nanoTime();
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext() && total.get() > minSize) {
+            PooledConnection pc = it.next();
+            if (now - pc.lastUsedNanos > idleTimeoutNanos && idle.remove(pc)) {
+                evictedCount.increment();
+                destroy(pc);
+            }
+        }
+        while (total.get() < minSize && permits.tryAcquire()) {
+            try {
+                PooledConnection pc = open();
+                pc.lastUsedNanos = System.nanoTime();
+                idle.offerLast(pc);
+            } catch (SQLException e) {
+                break;   // database not reachable yet — next run will retry
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) destroy(pc);
+    }
+
+    // ─── Metrics Accessors ────────────────────────────────────────────────
+
+    public int  getMinSize()          { return minSize; }
+    public int  getMaxSize()          { return maxSize; }
+    public int  getActiveCount()      { return active.get(); }
+    public int  getIdleCount()        { return idle.size(); }
+    public int  getTotalCount()       { return total.get(); }
+    public int  getWaitingCount()     { return permits.getQueueLength(); }
+    public long getBorrowCount()      { return borrowCount.sum(); }
+    public long getTimeoutCount()     { return timeoutCount.sum(); }
+    public long getCreatedCount()     { return createdCount.sum(); }
+    public long getEvictedCount()     { return evictedCount.sum(); }
+    public long getValidationFailureCount() { return validationFailures.sum(); }
+    public long getTotalWaitNanos()   { return waitNanos.sum(); }
+    public long getMaxWaitNanos()     { return maxWaitNanos.get(); }
+
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.sum();
+        return borrows == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / borrows;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPool[active=" + getActiveCount() + ", idle=" + getIdleCount() +
+                ", total=" + getTotalCount() + ", waiting=" + getWaitingCount() +
+                ", avgWaitMs=" + String.format("%.3f", getAverageWaitMillis()) + "]";
+    }
+
+    // ─── Pooled Connection ────────────────────────────────────────────────
+
+    private final class PooledConnection {
+        final Connection raw;
+        volatile long    lastUsedNanos;
+        volatile boolean broken;
+
+        PooledConnection(Connection raw) {
+            this.raw           = raw;
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        // Each borrow gets its own handle, so a stale reference closed twice
+        // can never release a connection that somebody else now holds.
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Lease(this));
+        }
+    }
+
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pc;
+        private final AtomicBoolean    released = new AtomicBoolean();
+
+        Lease(PooledConnection pc) { this.pc = pc; }
+
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+            switch (m.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) release(pc);
+                    return null;
+                case "isClosed":
+                    return released.get() || pc.raw.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pc.raw + "]";
+                default:
+                    break;
+            }
+            if (released.get())
+                throw new SQLException("Connection has already been returned to the pool");
+            try {
+                return m.invoke(pc.raw, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqe && isFatal(sqe)) pc.broken = true;
+                throw cause;
+            }
+        }
+    }
+
+    // SQLState class 08 = connection exception; the socket is gone
+    private static boolean isFatal(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+}
@@ -1,32 +1,71 @@
 package com.hotel.config;
 
 
+import com.hotel.metrics.DbTimer;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 
 
 public class DatabaseConfig {
-    private static DatabaseConfig instance;
     private static final String URL =
             "jdbc:mysql://localhost:3306/hotel_db?useSSL=false&serverTimezone=UTC";
     private static final String USER = "root";
     private static final String PASS = "pass123";
 
+    // Pool sizing — override with -Dhotel.db.pool.<name>=<value>
+    private static final int  POOL_MIN_SIZE       = Integer.getInteger("hotel.db.pool.minSize", 2);
+    private static final int  POOL_MAX_SIZE       = Integer.getInteger("hotel.db.pool.maxSize", 10);
+    private static final long POOL_IDLE_TIMEOUT   = Long.getLong("hotel.db.pool.idleTimeoutMs", 300_000);
+    private static final long POOL_BORROW_TIMEOUT = Long.getLong("hotel.db.pool.borrowTimeoutMs", 5_000);
+    private static final int  POOL_VALIDATION_TIMEOUT =
+            Integer.getInteger("hotel.db.pool.validationTimeoutSec", 2);
+
+    private final ConnectionPool pool;
+
+    // Set once the singleton exists, so a metrics scrape can read the pool
+    // without being the one to create it
+    private static volatile boolean initialized;
+
 
     private DatabaseConfig() {
         try { Class.forName("com.mysql.cj.jdbc.Driver"); }
         catch (ClassNotFoundException e) { throw new RuntimeException(e); }
+        pool = new ConnectionPool(
+                () -> DriverManager.getConnection(URL, USER, PASS),
+                POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_IDLE_TIMEOUT, POOL_BORROW_TIMEOUT, POOL_VALIDATION_TIMEOUT);
+        initialized = true;
+    }
+
+
+    // Lazily created on first use by the JVM's class initialization, which
+    // is thread-safe; afterwards getInstance() is a plain static read
+    private static final class Holder {
+        static final DatabaseConfig INSTANCE = new DatabaseConfig();
     }
 
+    public static DatabaseConfig getInstance() {
+        return Holder.INSTANCE;
+    }
 
-    public static synchronized DatabaseConfig getInstance() {
-        if (instance == null) instance = new DatabaseConfig();
-        return instance;
+    public static boolean isInitialized() {
+        return initialized;
     }
 
 
+    // Borrows from the pool; closing the returned connection gives it back.
+    // Inside TransactionContext.inTransaction this is the transaction's
+    // connection instead, and closing it does nothing. Either way the
+    // handle is timed until close (see DbTimer).
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASS);
+        long start = System.nanoTime();
+        Connection bound = TransactionContext.boundConnection();
+        return DbTimer.wrap(bound != null ? bound : pool.borrow(), start);
+    }
+
+
+    public ConnectionPool getPool() {
+        return pool;
     }
 }
@@ -0,0 +1,75 @@
+package com.hotel.config;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import com.hotel.util.Log;
+
+// Executor choices for the embedded HttpServer in Main.
+// Select with -Dhotel.http.executor=virtual|fixed|workstealing (default:
+// virtual on JDK 21+, fixed before that) and size the platform pools with -Dhotel.http.threads=<n>.
+public final class HttpExecutors {
+
+    private static final Log LOG = Log.get(HttpExecutors.class);
+
+    public enum Mode {
+        VIRTUAL,        // one virtual thread per request (JDK 21+)
+        FIXED,          // bounded platform thread pool
+        WORK_STEALING   // ForkJoinPool sized to the thread count
+    }
+
+    public static final int DEFAULT_THREADS = Integer.getInteger("hotel.http.threads", 10);
+
+    private HttpExecutors() {}
+
+    // Virtual threads where the JDK has them, the fixed pool otherwise
+    public static Mode configuredMode() {
+        return parse(System.getProperty("hotel.http.executor"));
+    }
+
+    static Mode parse(String value) {
+        if (value == null || value.isBlank())
+            return virtualThreadsSupported() ? Mode.VIRTUAL : Mode.FIXED;
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "virtual":      return Mode.VIRTUAL;
+            case "fixed":        return Mode.FIXED;
+            case "workstealing":
+            case "work_stealing": return Mode.WORK_STEALING;
+            default:
+                throw new IllegalArgumentException("Unknown hotel.http.executor: " + value +
+                        " (use virtual, fixed or workstealing)");
+        }
+    }
+
+    public static ExecutorService create(Mode mode, int threads) {
+        switch (mode) {
+            case VIRTUAL:
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) return virtual;
+                LOG.warn("Virtual threads need JDK 21+ (running {}), falling back to a fixed pool of {}",
+                        Runtime.version(), threads);
+                return Executors.newFixedThreadPool(threads);
+            case WORK_STEALING:
+                return Executors.newWorkStealingPool(threads);
+            case FIXED:
+            default:
+                return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    public static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    // Looked up reflectively so the project still compiles for Java 17
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!virtualThreadsSupported()) return null;
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
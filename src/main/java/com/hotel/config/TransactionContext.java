@@ -0,0 +1,192 @@
+package com.hotel.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import com.hotel.util.Log;
+
+// Unit of work spanning several DAO calls.
+// inTransaction binds one pooled connection to the current thread; while it
+// is bound, DatabaseConfig.getConnection() hands every DAO that same
+// connection (closing it is a no-op), so the whole flow commits or rolls
+// back together. A nested inTransaction runs inside a savepoint: its
+// failure rolls back only its own writes before the exception propagates.
+//
+//   TransactionContext.inTransaction(() -> {
+//       guestDAO.save(g);
+//       resDAO.save(r);
+//       TransactionContext.onRollback(() -> index.remove(r.getReservationNumber()));
+//   });
+public final class TransactionContext {
+
+    private static final Log LOG = Log.get(TransactionContext.class);
+
+    private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+
+    private final Connection     lease;    // pool handle, closed when the outer scope ends
+    private final Connection     shared;   // what DAOs receive while the scope is open
+    private final List<Runnable> onCommit   = new ArrayList<>();
+    private final List<Runnable> onRollback = new ArrayList<>();
+
+    private TransactionContext(Connection lease) {
+        this.lease  = lease;
+        this.shared = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new Enlisted(lease));
+    }
+
+    // ─── Scopes ───────────────────────────────────────────────────────────
+
+    public static <T> T inTransaction(Supplier<T> work) {
+        TransactionContext tx = CURRENT.get();
+        if (tx != null) return tx.nested(work);
+        return inTransaction(DatabaseConfig.getInstance().getPool(), work);
+    }
+
+    public static void inTransaction(Runnable work) {
+        inTransaction(() -> { work.run(); return null; });
+    }
+
+    static <T> T inTransaction(ConnectionPool pool, Supplier<T> work) {
+        TransactionContext tx = CURRENT.get();
+        if (tx != null) return tx.nested(work);
+
+        Connection c;
+        try {
+            c = pool.borrow();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not start transaction: " + e.getMessage(), e);
+        }
+        tx = new TransactionContext(c);
+        CURRENT.set(tx);
+        boolean committed = false;
+        try {
+            c.setAutoCommit(false);
+            T result = work.get();
+            c.commit();
+            committed = true;
+            return result;
+        } catch (SQLException e) {
+            rollbackQuietly(c);
+            throw new RuntimeException("Transaction failed: " + e.getMessage(), e);
+        } catch (RuntimeException | Error e) {
+            rollbackQuietly(c);
+            throw e;
+        } finally {
+            CURRENT.remove();
+            try { c.close(); } catch (SQLException ignored) {}
+            runAll(committed ? tx.onCommit : tx.onRollback);
+        }
+    }
+
+    private <T> T nested(Supplier<T> work) {
+        int commitMark   = onCommit.size();
+        int rollbackMark = onRollback.size();
+        Savepoint sp;
+        try {
+            sp = lease.setSavepoint();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not create savepoint: " + e.getMessage(), e);
+        }
+        try {
+            T result = work.get();
+            try { lease.releaseSavepoint(sp); } catch (SQLException ignored) {}
+            return result;
+        } catch (RuntimeException | Error e) {
+            try { lease.rollback(sp); } catch (SQLException ignored) {}
+            // The nested writes are gone: drop their commit hooks, fire their rollback hooks
+            List<Runnable> undone = new ArrayList<>(onRollback.subList(rollbackMark, onRollback.size()));
+            onCommit.subList(commitMark, onCommit.size()).clear();
+            onRollback.subList(rollbackMark, onRollback.size()).clear();
+            runAll(undone);
+            throw e;
+        }
+    }
+
+    // ─── Hooks ────────────────────────────────────────────────────────────
+    // For in-memory state (caches, indexes) that must follow the database.
+    // Hooks run after the connection is back in the pool.
+
+    // Runs after the transaction commits; runs immediately if none is active
+    public static void onCommit(Runnable action) {
+        TransactionContext tx = CURRENT.get();
+        if (tx == null) action.run();
+        else tx.onCommit.add(action);
+    }
+
+    // Runs if the transaction (or the savepoint it was registered in) rolls back
+    public static void onRollback(Runnable action) {
+        TransactionContext tx = CURRENT.get();
+        if (tx != null) tx.onRollback.add(action);
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    // The connection bound to this thread, or null outside a transaction
+    static Connection boundConnection() {
+        TransactionContext tx = CURRENT.get();
+        return tx != null ? tx.shared : null;
+    }
+
+    private static void runAll(List<Runnable> actions) {
+        for (Runnable r : actions) {
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                LOG.warn("Hook failed", e);
+            }
+        }
+    }
+
+    private static void rollbackQuietly(Connection c) {
+        try { c.rollback(); } catch (SQLException ignored) {}
+    }
+
+    // ─── Enlisted Connection ──────────────────────────────────────────────
+    // close() is a no-op and transaction control belongs to the scope, so a
+    // DAO written for autocommit behaves the same inside a transaction.
+
+    private static final class Enlisted implements InvocationHandler {
+        private final Connection target;
+
+        Enlisted(Connection target) { this.target = target; }
+
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+            switch (m.getName()) {
+                case "close":
+                    return null;
+                case "commit":
+                case "setAutoCommit":
+                    throw new SQLException("Transaction is managed by TransactionContext");
+                case "rollback":
+                    if (args == null)
+                        throw new SQLException("Transaction is managed by TransactionContext");
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "EnlistedConnection[" + target + "]";
+                default:
+                    break;
+            }
+            try {
+                return m.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -2,18 +2,28 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.Bill;
+import com.hotel.model.BillingContext;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class BillDAO {
 
+    private static final Log LOG = Log.get(BillDAO.class);
+
     public boolean save(Bill b) {
+        try (Connection c = DatabaseConfig.getInstance().getConnection()) {
+            return save(c, b);
+        } catch (SQLException e) { LOG.error("save failed", e); return false; }
+    }
+
+    // Runs on the caller's connection so it can join the caller's transaction
+    public boolean save(Connection c, Bill b) throws SQLException {
         String sql = "INSERT INTO bill(bill_number, reservation_id, subtotal, " +
                 "tax_rate, tax_amount, discount_amount, total_amount, payment_status) " +
                 "VALUES(?,?,?,?,?,?,?,?)";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql,
+        try (PreparedStatement ps = c.prepareStatement(sql,
                      Statement.RETURN_GENERATED_KEYS)) {
             ps.setString    (1, b.getBillNumber());
             ps.setInt       (2, b.getReservationId());
@@ -27,7 +37,34 @@ public class BillDAO {
             ResultSet keys = ps.getGeneratedKeys();
             if (keys.next()) b.setBillId(keys.getInt(1));
             return rows > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        }
+    }
+
+    /**
+     * Reads the reservation, its room type and any existing bill in one round
+     * trip on the caller's connection. FOR UPDATE locks the rows until the
+     * caller's transaction ends, so concurrent checkouts of the same
+     * reservation run one after the other. Returns null if not found.
+     */
+    public BillingContext lockForBilling(Connection c, String reservationNumber)
+            throws SQLException {
+        String sql = "SELECT res.*, g.guest_name, ro.room_number, ro.room_type_id, " +
+                "b.bill_id, b.bill_number, b.subtotal, b.tax_rate, b.tax_amount, " +
+                "b.discount_amount, b.total_amount, b.payment_status, b.generated_at " +
+                "FROM reservation res " +
+                "JOIN guest g  ON res.guest_id = g.guest_id " +
+                "JOIN room  ro ON res.room_id  = ro.room_id " +
+                "LEFT JOIN bill b ON b.reservation_id = res.reservation_id " +
+                "WHERE res.reservation_number=? FOR UPDATE";
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setString(1, reservationNumber);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+                Bill existing = rs.getObject("bill_id") != null ? mapRow(rs) : null;
+                return new BillingContext(ReservationDAO.mapRow(rs),
+                        rs.getInt("room_type_id"), existing);
+            }
+        }
     }
 
     public Bill findById(int billId) {
@@ -41,7 +78,7 @@ public class BillDAO {
             ps.setInt(1, billId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findById failed", e); }
         return null;
     }
 
@@ -56,7 +93,7 @@ public class BillDAO {
             ps.setInt(1, reservationId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByReservationId failed", e); }
         return null;
     }
 
@@ -71,7 +108,7 @@ public class BillDAO {
              PreparedStatement ps = c.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findAll failed", e); }
         return list;
     }
 
@@ -88,7 +125,7 @@ public class BillDAO {
             ps.setBigDecimal(4, totalAmount);
             ps.setInt       (5, billId);
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("updateAdjustments failed", e); return false; }
     }
 
     public boolean updatePaymentStatus(int billId, String status) {
@@ -98,7 +135,7 @@ public class BillDAO {
             ps.setString(1, status);
             ps.setInt   (2, billId);
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("updatePaymentStatus failed", e); return false; }
     }
 
     private Bill mapRow(ResultSet rs) throws SQLException {
@@ -2,12 +2,15 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.Guest;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class GuestDAO {
 
+    private static final Log LOG = Log.get(GuestDAO.class);
+
     public int save(Guest g) {
         String sql = "INSERT INTO guest(guest_name, address, contact_number, email) " +
                 "VALUES(?,?,?,?)";
@@ -20,7 +23,7 @@ public class GuestDAO {
             ps.executeUpdate();
             ResultSet keys = ps.getGeneratedKeys();
             if (keys.next()) return keys.getInt(1);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("save failed", e); }
         return -1;
     }
 
@@ -31,7 +34,7 @@ public class GuestDAO {
             ps.setInt(1, guestId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findById failed", e); }
         return null;
     }
 
@@ -42,7 +45,7 @@ public class GuestDAO {
             ps.setString(1, contactNumber);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByContact failed", e); }
         return null;
     }
 
@@ -53,7 +56,7 @@ public class GuestDAO {
              PreparedStatement ps = c.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findAll failed", e); }
         return list;
     }
 
@@ -65,7 +68,7 @@ public class GuestDAO {
             ps.setString(1, "%" + name + "%");
             ResultSet rs = ps.executeQuery();
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("searchByName failed", e); }
         return list;
     }
 
@@ -80,7 +83,7 @@ public class GuestDAO {
             ps.setString(4, g.getEmail());
             ps.setInt   (5, g.getGuestId());
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("update failed", e); return false; }
     }
 
     private Guest mapRow(ResultSet rs) throws SQLException {
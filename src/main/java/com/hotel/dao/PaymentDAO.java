@@ -2,12 +2,15 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.Payment;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class PaymentDAO {
 
+    private static final Log LOG = Log.get(PaymentDAO.class);
+
     public boolean save(Payment p) {
         String sql = "INSERT INTO payment(bill_id, amount_paid, discount_amount, " +
                 "payment_method, payment_status) VALUES(?,?,?,?,?)";
@@ -23,7 +26,7 @@ public class PaymentDAO {
             ResultSet keys = ps.getGeneratedKeys();
             if (keys.next()) p.setPaymentId(keys.getInt(1));
             return rows > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("save failed", e); return false; }
     }
 
     public List<Payment> findByBillId(int billId) {
@@ -34,7 +37,7 @@ public class PaymentDAO {
             ps.setInt(1, billId);
             ResultSet rs = ps.executeQuery();
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByBillId failed", e); }
         return list;
     }
 
@@ -2,13 +2,18 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.Reservation;
+import com.hotel.model.ReservationQuery;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ReservationDAO {
 
+    private static final Log LOG = Log.get(ReservationDAO.class);
+
     public boolean save(Reservation r) {
         String sql = "INSERT INTO reservation(reservation_number, guest_id, " +
                 "room_id, staff_id, checkin_date, checkout_date, status) " +
@@ -27,7 +32,7 @@ public class ReservationDAO {
             ResultSet keys = ps.getGeneratedKeys();
             if (keys.next()) r.setReservationId(keys.getInt(1));
             return rows > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("save failed", e); return false; }
     }
 
     public Reservation findByNumber(String number) {
@@ -42,7 +47,7 @@ public class ReservationDAO {
             ps.setString(1, number);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByNumber failed", e); }
         return null;
     }
 
@@ -58,24 +63,87 @@ public class ReservationDAO {
             ps.setInt(1, id);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findById failed", e); }
         return null;
     }
 
     public List<Reservation> findAll() {
         List<Reservation> list = new ArrayList<>();
-        String sql = "SELECT res.*, g.guest_name, ro.room_number, s.fullname AS staff_name " +
+        try { stream(null, 0, list::add); }
+        catch (RuntimeException e) { LOG.error("findAll failed", e); }
+        return list;
+    }
+
+    // Sort key for paging: a NULL created_at sorts after every real one
+    private static final String CREATED_AT_KEY =
+            "COALESCE(res.created_at, TIMESTAMP '1970-01-01 00:00:00')";
+
+    /**
+     * Streams reservations matching the query, newest first by
+     * (created_at, reservation_id), to the sink row by row; nothing is
+     * collected here. Rows are read forward-only and unbuffered by the
+     * driver, so memory stays flat however many rows match.
+     * A null query means no filters; limit <= 0 means no limit.
+     * Returns the number of rows streamed.
+     */
+    public int stream(ReservationQuery q, int limit, Consumer<Reservation> sink) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT res.*, g.guest_name, ro.room_number, s.fullname AS staff_name " +
                 "FROM reservation res " +
                 "JOIN guest g  ON res.guest_id = g.guest_id " +
                 "JOIN room  ro ON res.room_id  = ro.room_id " +
                 "JOIN staff s  ON res.staff_id = s.staff_id " +
-                "ORDER BY res.created_at DESC";
+                "WHERE 1=1");
+        List<Object> args = new ArrayList<>();
+        if (q != null) {
+            if (q.getStatus() != null) {
+                sql.append(" AND res.status=?");          args.add(q.getStatus());
+            }
+            if (q.getCheckinFrom() != null) {
+                sql.append(" AND res.checkin_date>=?");   args.add(Date.valueOf(q.getCheckinFrom()));
+            }
+            if (q.getCheckinTo() != null) {
+                sql.append(" AND res.checkin_date<=?");   args.add(Date.valueOf(q.getCheckinTo()));
+            }
+            if (q.getRoomId() != null) {
+                sql.append(" AND res.room_id=?");         args.add(q.getRoomId());
+            }
+            if (q.getGuestId() != null) {
+                sql.append(" AND res.guest_id=?");        args.add(q.getGuestId());
+            }
+            if (q.hasCursor() && q.getAfterCreatedAt().equals(ReservationQuery.NO_CREATED_AT)) {
+                // Already into the rows with no created_at, which sort last
+                sql.append(" AND res.created_at IS NULL AND res.reservation_id<?");
+                args.add(q.getAfterReservationId());
+            } else if (q.hasCursor()) {
+                // Keyset: strictly after the last row of the previous page
+                Timestamp after = Timestamp.valueOf(q.getAfterCreatedAt());
+                sql.append(" AND (" + CREATED_AT_KEY + "<? OR (" + CREATED_AT_KEY + "=? AND res.reservation_id<?))");
+                args.add(after);
+                args.add(after);
+                args.add(q.getAfterReservationId());
+            }
+        }
+        sql.append(" ORDER BY ").append(CREATED_AT_KEY).append(" DESC, res.reservation_id DESC");
+        if (limit > 0) sql.append(" LIMIT ").append(limit);
+
+        int rows = 0;
         try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
-        return list;
+             PreparedStatement ps = c.prepareStatement(sql.toString(),
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // Connector/J streams rows one at a time instead of buffering the result
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < args.size(); i++) ps.setObject(i + 1, args.get(i));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sink.accept(mapRow(rs));
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to list reservations: " + e.getMessage(), e);
+        }
+        return rows;
     }
 
     public List<Reservation> findByStatus(String status) {
@@ -91,18 +159,41 @@ public class ReservationDAO {
             ps.setString(1, status);
             ResultSet rs = ps.executeQuery();
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByStatus failed", e); }
+        return list;
+    }
+
+    /** Active stays (CONFIRMED / CHECKED_IN) without joined display fields — used to build the availability index. */
+    public List<Reservation> findActive() {
+        List<Reservation> list = new ArrayList<>();
+        String sql = "SELECT * FROM reservation " +
+                "WHERE status IN ('CONFIRMED','CHECKED_IN')";
+        try (Connection c = DatabaseConfig.getInstance().getConnection();
+             PreparedStatement ps = c.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) list.add(mapRow(rs));
+        } catch (SQLException e) {
+            // An empty list here would make every room look free
+            throw new RuntimeException("Failed to load active reservations", e);
+        }
         return list;
     }
 
     public boolean updateStatus(String reservationNumber, String newStatus) {
+        try (Connection c = DatabaseConfig.getInstance().getConnection()) {
+            return updateStatus(c, reservationNumber, newStatus);
+        } catch (SQLException e) { LOG.error("updateStatus failed", e); return false; }
+    }
+
+    // Runs on the caller's connection so it can join the caller's transaction
+    public boolean updateStatus(Connection c, String reservationNumber, String newStatus)
+            throws SQLException {
         String sql = "UPDATE reservation SET status=? WHERE reservation_number=?";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setString(1, newStatus);
             ps.setString(2, reservationNumber);
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        }
     }
 
     public int countActiveByRoomId(int roomId) {
@@ -113,7 +204,7 @@ public class ReservationDAO {
             ps.setInt(1, roomId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return rs.getInt(1);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("countActiveByRoomId failed", e); }
         return 0;
     }
 
@@ -124,7 +215,7 @@ public class ReservationDAO {
             ps.setInt(1, staffId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return rs.getInt(1);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("countByStaffId failed", e); }
         return 0;
     }
 
@@ -139,10 +230,11 @@ public class ReservationDAO {
             ps.setString(4, r.getStatus());
             ps.setString(5, r.getReservationNumber());
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("update failed", e); return false; }
     }
 
-    private Reservation mapRow(ResultSet rs) throws SQLException {
+    // Also used by BillDAO's checkout query
+    static Reservation mapRow(ResultSet rs) throws SQLException {
         Reservation r = new Reservation();
         r.setReservationId    (rs.getInt   ("reservation_id"));
         r.setReservationNumber(rs.getString("reservation_number"));
@@ -152,6 +244,10 @@ public class ReservationDAO {
         r.setCheckinDate      (rs.getDate  ("checkin_date").toLocalDate());
         r.setCheckoutDate     (rs.getDate  ("checkout_date").toLocalDate());
         r.setStatus           (rs.getString("status"));
+        try {
+            Timestamp ts = rs.getTimestamp("created_at");
+            if (ts != null) r.setCreatedAt(ts.toLocalDateTime());
+        } catch (SQLException ignored) {}
         // Joined fields
         try { r.setGuestName (rs.getString("guest_name"));  } catch(SQLException ignored){}
         try { r.setRoomNumber(rs.getString("room_number")); } catch(SQLException ignored){}
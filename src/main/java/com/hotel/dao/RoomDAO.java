@@ -1,15 +1,29 @@
 package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
+import com.hotel.config.TransactionContext;
 import com.hotel.model.Room;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+// Reads of room / room_type are served from RoomInventoryCache; writes go
+// to MySQL and then publish a new inventory snapshot (after commit, when
+// the write is part of a TransactionContext).
 public class RoomDAO {
 
+    private static final Log LOG = Log.get(RoomDAO.class);
+
+    private static RoomInventoryCache inventory() {
+        return RoomInventoryCache.getInstance();
+    }
+
     public boolean save(Room r) {
+        boolean ok;
         String sql = "INSERT INTO room(room_number, floor_number, room_type_id, room_status) " +
                 "VALUES(?,?,?,?)";
         try (Connection c = DatabaseConfig.getInstance().getConnection();
@@ -18,47 +32,27 @@ public class RoomDAO {
             ps.setInt   (2, r.getFloorNumber());
             ps.setInt   (3, r.getRoomTypeId());
             ps.setString(4, r.getRoomStatus() != null ? r.getRoomStatus() : "AVAILABLE");
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+            ok = ps.executeUpdate() > 0;
+        } catch (SQLException e) { LOG.error("save failed", e); return false; }
+        if (ok) TransactionContext.onCommit(inventory()::reload);
+        return ok;
     }
 
     public Room findById(int roomId) {
-        String sql = "SELECT r.*, rt.type_name FROM room r " +
-                "JOIN room_type rt ON r.room_type_id = rt.room_type_id " +
-                "WHERE r.room_id=?";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setInt(1, roomId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
-        return null;
+        return inventory().findById(roomId);
     }
 
     public Room findByNumber(String roomNumber) {
-        String sql = "SELECT r.*, rt.type_name FROM room r " +
-                "JOIN room_type rt ON r.room_type_id = rt.room_type_id " +
-                "WHERE r.room_number=?";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, roomNumber);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
-        return null;
+        return inventory().findByNumber(roomNumber);
     }
 
     public List<Room> findAll() {
-        List<Room> list = new ArrayList<>();
-        String sql = "SELECT r.*, rt.type_name FROM room r " +
-                "JOIN room_type rt ON r.room_type_id = rt.room_type_id " +
-                "ORDER BY r.floor_number, r.room_number";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
-        return list;
+        return inventory().findAll();
+    }
+
+    /** Rooms of the given type whose room_status is AVAILABLE, ignoring reservations. */
+    public List<Room> findAvailableByType(String typeName) {
+        return inventory().findAvailableByType(typeName);
     }
 
     public List<Room> findAvailableRooms(String typeName,
@@ -81,55 +75,47 @@ public class RoomDAO {
             ps.setDate  (3, Date.valueOf(checkout));
             ResultSet rs = ps.executeQuery();
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findAvailableRooms failed", e); }
         return list;
     }
 
     /** Returns the room_type_id for the given type name, or -1 if not found. */
     public int findTypeIdByName(String typeName) {
-        String sql = "SELECT room_type_id FROM room_type WHERE type_name = ?";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, typeName);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) return rs.getInt("room_type_id");
-        } catch (SQLException e) { e.printStackTrace(); }
-        return -1;
+        return inventory().findTypeIdByName(typeName);
     }
 
     /** Returns true if a room with the given number already exists (excluding roomId for edit). */
     public boolean roomNumberExists(String roomNumber, int excludeRoomId) {
-        String sql = "SELECT COUNT(*) FROM room WHERE room_number=? AND room_id != ?";
-        try (Connection c = DatabaseConfig.getInstance().getConnection();
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setString(1, roomNumber);
-            ps.setInt   (2, excludeRoomId);
-            ResultSet rs = ps.executeQuery();
-            if (rs.next()) return rs.getInt(1) > 0;
-        } catch (SQLException e) { e.printStackTrace(); }
-        return false;
+        return inventory().roomNumberExists(roomNumber, excludeRoomId);
     }
 
     public boolean delete(int roomId) {
+        boolean ok;
         String sql = "DELETE FROM room WHERE room_id=?";
         try (Connection c = DatabaseConfig.getInstance().getConnection();
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, roomId);
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+            ok = ps.executeUpdate() > 0;
+        } catch (SQLException e) { LOG.error("delete failed", e); return false; }
+        if (ok) TransactionContext.onCommit(inventory()::reload);
+        return ok;
     }
 
     public boolean updateStatus(int roomId, String status) {
+        boolean ok;
         String sql = "UPDATE room SET room_status=? WHERE room_id=?";
         try (Connection c = DatabaseConfig.getInstance().getConnection();
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setString(1, status);
             ps.setInt   (2, roomId);
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+            ok = ps.executeUpdate() > 0;
+        } catch (SQLException e) { LOG.error("updateStatus failed", e); return false; }
+        if (ok) TransactionContext.onCommit(() -> inventory().applyStatus(roomId, status));
+        return ok;
     }
 
     public boolean update(Room r) {
+        boolean ok;
         String sql = "UPDATE room SET room_number=?, floor_number=?, " +
                 "room_type_id=?, room_status=? WHERE room_id=?";
         try (Connection c = DatabaseConfig.getInstance().getConnection();
@@ -139,8 +125,33 @@ public class RoomDAO {
             ps.setInt   (3, r.getRoomTypeId());
             ps.setString(4, r.getRoomStatus());
             ps.setInt   (5, r.getRoomId());
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+            ok = ps.executeUpdate() > 0;
+        } catch (SQLException e) { LOG.error("update failed", e); return false; }
+        if (ok) TransactionContext.onCommit(inventory()::reload);
+        return ok;
+    }
+
+    // Full room + room_type read behind RoomInventoryCache
+    RoomInventoryCache.Snapshot loadInventory(long version) {
+        String roomSql = "SELECT r.*, rt.type_name FROM room r " +
+                "JOIN room_type rt ON r.room_type_id = rt.room_type_id " +
+                "ORDER BY r.floor_number, r.room_number";
+        String typeSql = "SELECT room_type_id, type_name FROM room_type";
+        List<Room> rooms = new ArrayList<>();
+        Map<String, Integer> typeIds = new HashMap<>();
+        try (Connection c = DatabaseConfig.getInstance().getConnection()) {
+            try (PreparedStatement ps = c.prepareStatement(roomSql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) rooms.add(mapRow(rs));
+            }
+            try (PreparedStatement ps = c.prepareStatement(typeSql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) typeIds.put(rs.getString("type_name"), rs.getInt("room_type_id"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not load room inventory: " + e.getMessage(), e);
+        }
+        return new RoomInventoryCache.Snapshot(version, rooms, typeIds);
     }
 
     private Room mapRow(ResultSet rs) throws SQLException {
@@ -0,0 +1,205 @@
+package com.hotel.dao;
+
+import com.hotel.model.Room;
+import com.hotel.util.Log;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+// Versioned, immutable snapshot of the room inventory (room + room_type).
+// Readers take the current snapshot with a single volatile read and never
+// lock; RoomDAO's writes publish a new snapshot by swapping the reference.
+// Room is mutable, so every lookup hands out a copy.
+// Snapshots are also reloaded on a schedule (-Dhotel.rooms.refreshMs) to
+// pick up edits made outside this JVM.
+public class RoomInventoryCache {
+
+    private static final Log LOG = Log.get(RoomInventoryCache.class);
+
+    private static final long REFRESH_MS = Long.getLong("hotel.rooms.refreshMs", 5 * 60_000L);
+
+    private static final RoomInventoryCache INSTANCE =
+            new RoomInventoryCache(new RoomDAO()::loadInventory, REFRESH_MS);
+
+    public static RoomInventoryCache getInstance() { return INSTANCE; }
+
+    private final LongFunction<Snapshot>    loader;
+    private final AtomicReference<Snapshot> current   = new AtomicReference<>();
+    private final Object                    writeLock = new Object();
+
+    private final LongAdder hits    = new LongAdder();
+    private final LongAdder misses  = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    // loader builds a snapshot stamped with the version it is given
+    RoomInventoryCache(LongFunction<Snapshot> loader, long refreshMillis) {
+        this.loader = loader;
+        if (refreshMillis > 0) {
+            ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "room-inventory-refresh");
+                t.setDaemon(true);
+                return t;
+            });
+            refresher.scheduleWithFixedDelay(() -> {
+                if (current.get() != null) reload();   // nothing to refresh until first use
+            }, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ─── Lookups ──────────────────────────────────────────────────────────
+
+    public Room findById(int roomId) {
+        return copy(snapshot().byId.get(roomId));
+    }
+
+    public Room findByNumber(String roomNumber) {
+        return copy(snapshot().byNumber.get(roomNumber));
+    }
+
+    // All rooms, ordered by floor then room number
+    public List<Room> findAll() {
+        List<Room> rooms = snapshot().rooms;
+        List<Room> list = new ArrayList<>(rooms.size());
+        for (Room r : rooms) list.add(copy(r));
+        return list;
+    }
+
+    public List<Room> findAvailableByType(String typeName) {
+        List<Room> list = new ArrayList<>();
+        for (Room r : snapshot().rooms) {
+            if (r.getTypeName().equals(typeName) && "AVAILABLE".equals(r.getRoomStatus()))
+                list.add(copy(r));
+        }
+        return list;
+    }
+
+    // room_type_id for the name, or -1 if not found
+    public int findTypeIdByName(String typeName) {
+        Integer id = snapshot().typeIds.get(typeName);
+        return id != null ? id : -1;
+    }
+
+    public boolean roomNumberExists(String roomNumber, int excludeRoomId) {
+        Room r = snapshot().byNumber.get(roomNumber);
+        return r != null && r.getRoomId() != excludeRoomId;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = current.get();
+        if (s != null) { hits.increment(); return s; }
+        misses.increment();
+        synchronized (writeLock) {
+            s = current.get();
+            if (s == null) s = publish();
+            return s;
+        }
+    }
+
+    // ─── Publishing ───────────────────────────────────────────────────────
+    // Writers are serialized on writeLock so a full reload and a status
+    // change can never publish over each other.
+
+    // Reloads room and room_type; call after a room is added, edited or deleted.
+    // If the reload fails the cache is emptied rather than left stale, and the
+    // next read loads it again.
+    public void reload() {
+        synchronized (writeLock) {
+            try {
+                publish();
+            } catch (RuntimeException e) {
+                current.set(null);
+                LOG.warn("Reload failed", e);
+            }
+        }
+    }
+
+    // Copy-on-write of a single room's status, no database round trip
+    public void applyStatus(int roomId, String status) {
+        synchronized (writeLock) {
+            Snapshot s = current.get();
+            if (s != null) current.set(s.withStatus(++lastVersion, roomId, status));
+        }
+    }
+
+    public void invalidate() {
+        synchronized (writeLock) {
+            current.set(null);
+        }
+    }
+
+    // Guarded by writeLock; versions keep increasing across invalidations
+    private long lastVersion;
+
+    private Snapshot publish() {
+        Snapshot s = loader.apply(++lastVersion);
+        current.set(s);
+        reloads.increment();
+        return s;
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public long getVersion() {
+        Snapshot s = current.get();
+        return s != null ? s.version : 0;
+    }
+
+    public long getHitCount()    { return hits.sum(); }
+    public long getMissCount()   { return misses.sum(); }
+    public long getReloadCount() { return reloads.sum(); }
+
+    private static Room copy(Room r) {
+        if (r == null) return null;
+        Room c = new Room(r.getRoomNumber(), r.getFloorNumber(), r.getRoomTypeId(), r.getRoomStatus());
+        c.setRoomId  (r.getRoomId());
+        c.setTypeName(r.getTypeName());
+        return c;
+    }
+
+    // ─── Snapshot ─────────────────────────────────────────────────────────
+
+    static final class Snapshot {
+        final long                 version;
+        final List<Room>           rooms;     // floor, room number order
+        final Map<Integer, Room>   byId;
+        final Map<String, Room>    byNumber;
+        final Map<String, Integer> typeIds;   // type_name → room_type_id
+
+        // Takes ownership of rooms; they must not be modified afterwards
+        Snapshot(long version, List<Room> rooms, Map<String, Integer> typeIds) {
+            Map<Integer, Room> byId     = new HashMap<>();
+            Map<String, Room>  byNumber = new HashMap<>();
+            for (Room r : rooms) {
+                byId.put(r.getRoomId(), r);
+                byNumber.put(r.getRoomNumber(), r);
+            }
+            this.version  = version;
+            this.rooms    = Collections.unmodifiableList(new ArrayList<>(rooms));
+            this.byId     = Collections.unmodifiableMap(byId);
+            this.byNumber = Collections.unmodifiableMap(byNumber);
+            this.typeIds  = Collections.unmodifiableMap(new LinkedHashMap<>(typeIds));
+        }
+
+        Snapshot withStatus(long nextVersion, int roomId, String status) {
+            Room old = byId.get(roomId);
+            if (old == null) return this;
+            List<Room> next = new ArrayList<>(rooms.size());
+            for (Room r : rooms) {
+                if (r != old) { next.add(r); continue; }
+                Room changed = copy(r);
+                changed.setRoomStatus(status);
+                next.add(changed);
+            }
+            return new Snapshot(nextVersion, next, typeIds);
+        }
+    }
+}
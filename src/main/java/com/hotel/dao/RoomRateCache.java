@@ -0,0 +1,143 @@
+package com.hotel.dao;
+
+import com.hotel.model.RoomRate;
+import com.hotel.util.Log;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+// Read-through cache of room_rate, keyed by room_type_id.
+// Each entry is the type's full effective-dated timeline, so the rate for
+// any date resolves in memory with the same rule as RoomRateDAO's SQL: among
+// rates covering the date, the one with the latest effective_from wins.
+// Timelines are refreshed on a schedule (-Dhotel.rates.refreshMs) and can
+// be invalidated explicitly after a rate is edited.
+public class RoomRateCache {
+
+    private static final Log LOG = Log.get(RoomRateCache.class);
+
+    private static final long REFRESH_MS = Long.getLong("hotel.rates.refreshMs", 15 * 60_000L);
+
+    private static final RoomRateCache INSTANCE =
+            new RoomRateCache(new RoomRateDAO()::findByRoomType, REFRESH_MS);
+
+    public static RoomRateCache getInstance() { return INSTANCE; }
+
+    private final IntFunction<List<RoomRate>> loader;
+    private final Map<Integer, NavigableMap<LocalDate, RoomRate>> timelines =
+            new ConcurrentHashMap<>();
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    RoomRateCache(IntFunction<List<RoomRate>> loader, long refreshMillis) {
+        this.loader = loader;
+        if (refreshMillis > 0) {
+            ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "room-rate-refresh");
+                t.setDaemon(true);
+                return t;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh,
+                    refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ─── Lookups ──────────────────────────────────────────────────────────
+
+    public RoomRate currentRate(int roomTypeId) {
+        return rateOn(roomTypeId, LocalDate.now());
+    }
+
+    // Rate in effect on the given date, or null if none covers it
+    public RoomRate rateOn(int roomTypeId, LocalDate date) {
+        return resolve(timeline(roomTypeId), date);
+    }
+
+    // Price of the nights [checkin, checkout), walking the timeline so a stay
+    // that spans a rate change is charged each rate for its own nights.
+    // Nights no rate covers (e.g. before the first effective_from) fall back
+    // to today's rate, which is what billing charged before.
+    public BigDecimal priceStay(int roomTypeId, LocalDate checkin, LocalDate checkout) {
+        NavigableMap<LocalDate, RoomRate> t = timeline(roomTypeId);
+        RoomRate fallback = resolve(t, LocalDate.now());
+        BigDecimal total = BigDecimal.ZERO;
+
+        LocalDate day = checkin;
+        while (day.isBefore(checkout)) {
+            RoomRate rate = resolve(t, day);
+            LocalDate segmentEnd = checkout;
+            if (rate != null && rate.getEffectiveTo() != null &&
+                    rate.getEffectiveTo().plusDays(1).isBefore(segmentEnd))
+                segmentEnd = rate.getEffectiveTo().plusDays(1);
+            LocalDate nextStart = t.higherKey(day);   // a newer rate takes over here
+            if (nextStart != null && nextStart.isBefore(segmentEnd))
+                segmentEnd = nextStart;
+
+            if (rate == null) rate = fallback;
+            if (rate == null)
+                throw new RuntimeException("No rate found for this room type");
+            long nights = ChronoUnit.DAYS.between(day, segmentEnd);
+            total = total.add(rate.getRatePerNight().multiply(BigDecimal.valueOf(nights)));
+            day = segmentEnd;
+        }
+        return total;
+    }
+
+    private static RoomRate resolve(NavigableMap<LocalDate, RoomRate> t, LocalDate date) {
+        for (Map.Entry<LocalDate, RoomRate> e = t.floorEntry(date);
+             e != null; e = t.lowerEntry(e.getKey())) {
+            LocalDate to = e.getValue().getEffectiveTo();
+            if (to == null || !to.isBefore(date)) return e.getValue();
+        }
+        return null;
+    }
+
+    private NavigableMap<LocalDate, RoomRate> timeline(int roomTypeId) {
+        NavigableMap<LocalDate, RoomRate> t = timelines.get(roomTypeId);
+        if (t != null) { hits.increment(); return t; }
+        misses.increment();
+        return timelines.computeIfAbsent(roomTypeId, this::load);
+    }
+
+    private NavigableMap<LocalDate, RoomRate> load(int roomTypeId) {
+        TreeMap<LocalDate, RoomRate> t = new TreeMap<>();
+        for (RoomRate r : loader.apply(roomTypeId)) t.put(r.getEffectiveFrom(), r);
+        return Collections.unmodifiableNavigableMap(t);
+    }
+
+    // ─── Invalidation / Refresh ───────────────────────────────────────────
+
+    // Call after a rate for this room type is inserted or edited
+    public void invalidate(int roomTypeId) {
+        timelines.remove(roomTypeId);
+    }
+
+    public void invalidateAll() {
+        timelines.clear();
+    }
+
+    // Reloads every cached timeline; a failed reload keeps the old one
+    public void refresh() {
+        for (Integer typeId : timelines.keySet()) {
+            try {
+                timelines.put(typeId, load(typeId));
+            } catch (RuntimeException e) {
+                LOG.warn("Refresh failed for type " + typeId, e);
+            }
+        }
+    }
+
+    public long getHitCount()  { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+}
@@ -2,6 +2,7 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.RoomRate;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -9,6 +10,8 @@ import java.util.List;
 
 public class RoomRateDAO {
 
+    private static final Log LOG = Log.get(RoomRateDAO.class);
+
     public List<RoomRate> findAll() {
         List<RoomRate> list = new ArrayList<>();
         String sql = "SELECT * FROM room_rate ORDER BY room_type_id";
@@ -16,7 +19,23 @@ public class RoomRateDAO {
              PreparedStatement ps = c.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findAll failed", e); }
+        return list;
+    }
+
+    // Full effective-dated rate history for a room type (feeds RoomRateCache)
+    public List<RoomRate> findByRoomType(int roomTypeId) {
+        List<RoomRate> list = new ArrayList<>();
+        String sql = "SELECT * FROM room_rate WHERE room_type_id=? ORDER BY effective_from";
+        try (Connection c = DatabaseConfig.getInstance().getConnection();
+             PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setInt(1, roomTypeId);
+            ResultSet rs = ps.executeQuery();
+            while (rs.next()) list.add(mapRow(rs));
+        } catch (SQLException e) {
+            // Caching an empty timeline would hide every rate until the next refresh
+            throw new RuntimeException("Failed to load rates for room type " + roomTypeId, e);
+        }
         return list;
     }
 
@@ -32,7 +51,7 @@ public class RoomRateDAO {
             ps.setInt(1, roomTypeId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findCurrentRate failed", e); }
         return null;
     }
 
@@ -49,7 +68,7 @@ public class RoomRateDAO {
             ps.setInt(1, roomId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findRateByRoomId failed", e); }
         return null;
     }
 
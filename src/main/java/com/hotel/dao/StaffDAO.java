@@ -2,12 +2,15 @@ package com.hotel.dao;
 
 import com.hotel.config.DatabaseConfig;
 import com.hotel.model.Staff;
+import com.hotel.util.Log;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class StaffDAO {
 
+    private static final Log LOG = Log.get(StaffDAO.class);
+
     public boolean save(Staff s) {
         String sql = "INSERT INTO staff(username, password_hash, fullname, email, role) " +
                 "VALUES(?,?,?,?,?)";
@@ -19,7 +22,7 @@ public class StaffDAO {
             ps.setString(4, s.getEmail());
             ps.setString(5, s.getRole());
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("save failed", e); return false; }
     }
 
     public Staff findByUsername(String username) {
@@ -29,7 +32,7 @@ public class StaffDAO {
             ps.setString(1, username);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findByUsername failed", e); }
         return null;
     }
 
@@ -40,7 +43,7 @@ public class StaffDAO {
             ps.setInt(1, staffId);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return mapRow(rs);
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findById failed", e); }
         return null;
     }
 
@@ -51,7 +54,7 @@ public class StaffDAO {
              PreparedStatement ps = c.prepareStatement(sql);
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) list.add(mapRow(rs));
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("findAll failed", e); }
         return list;
     }
 
@@ -64,7 +67,7 @@ public class StaffDAO {
             ps.setString(3, s.getRole());
             ps.setInt   (4, s.getStaffId());
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("update failed", e); return false; }
     }
 
     public boolean updatePassword(int staffId, String newHash) {
@@ -74,7 +77,7 @@ public class StaffDAO {
             ps.setString(1, newHash);
             ps.setInt   (2, staffId);
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("updatePassword failed", e); return false; }
     }
 
     public boolean delete(int staffId) {
@@ -83,7 +86,7 @@ public class StaffDAO {
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, staffId);
             return ps.executeUpdate() > 0;
-        } catch (SQLException e) { e.printStackTrace(); return false; }
+        } catch (SQLException e) { LOG.error("delete failed", e); return false; }
     }
 
     public boolean usernameExists(String username) {
@@ -93,7 +96,7 @@ public class StaffDAO {
             ps.setString(1, username);
             ResultSet rs = ps.executeQuery();
             if (rs.next()) return rs.getInt(1) > 0;
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("usernameExists failed", e); }
         return false;
     }
 
@@ -0,0 +1,76 @@
+package com.hotel.handler;
+
+import com.hotel.util.Log;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import java.io.IOException;
+import java.util.List;
+
+// Operational views for admins.
+//   GET /api/admin/ratelimits  → per group: rate, burst, counters and the
+//                                clients currently out of (or down to one)
+//                                token, emptiest first
+public class AdminHandler extends BaseHandler implements HttpHandler {
+
+    private static final Log LOG = Log.get(AdminHandler.class);
+
+    private static final int MAX_CLIENTS = 50;   // per group in the listing
+
+    private final List<RateLimitFilter> limiters;
+
+    public AdminHandler(List<RateLimitFilter> limiters) {
+        this.limiters = List.copyOf(limiters);
+    }
+
+    @Override
+    public void handle(HttpExchange ex) throws IOException {
+
+        if (ex.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
+            handleCors(ex); return;
+        }
+        if (!isAuthenticated(ex)) {
+            sendError(ex, 401, "Unauthorized"); return;
+        }
+        if (!isAdmin(ex)) {
+            sendError(ex, 403, "Admin access required"); return;
+        }
+
+        String path = ex.getRequestURI().getPath();
+
+        try {
+            if (ex.getRequestMethod().equals("GET") && path.endsWith("/ratelimits")) {
+                sendJson(ex, 200, rateLimits().toString());
+            } else {
+                sendError(ex, 404, "Not found. Available: GET /ratelimits");
+            }
+        } catch (Exception e) {
+            LOG.error("Request failed: " + ex.getRequestMethod() + " " + ex.getRequestURI(), e);
+            sendError(ex, 500, "Internal server error");
+        }
+    }
+
+    private JSONObject rateLimits() {
+        JSONArray groups = new JSONArray();
+        for (RateLimitFilter f : limiters) {
+            JSONArray clients = new JSONArray();
+            for (RateLimitFilter.ClientState c : f.lowestBuckets(1, MAX_CLIENTS)) {
+                clients.put(new JSONObject()
+                        .put("client",           c.key)
+                        .put("tokens",           c.tokens)
+                        .put("retryAfterMillis", c.retryAfterMillis));
+            }
+            groups.put(new JSONObject()
+                    .put("group",          f.getGroup())
+                    .put("ratePerSecond",  f.getRate())
+                    .put("burst",          f.getBurst())
+                    .put("trackedClients", f.getTrackedClients())
+                    .put("allowed",        f.getAllowedCount())
+                    .put("limited",        f.getLimitedCount())
+                    .put("evicted",        f.getEvictionCount())
+                    .put("lowClients",     clients));
+        }
+        return new JSONObject().put("groups", groups);
+    }
+}
@@ -0,0 +1,136 @@
+package com.hotel.handler;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Backpressure for the embedded HttpServer.
+// Counts every request from the moment it is handed to the executor
+// (queued or running). The decision is made at that moment: once
+// maxInFlight are pending, a new request does not join the executor's
+// queue at all but runs on a small separate pool, where this filter
+// answers it immediately with 503 + Retry-After instead of leaving it
+// to wait behind JDBC calls for its refusal. If even that pool is
+// backed up, the connection is dropped (the server closes it when
+// execute() throws).
+//
+// track() also stamps the hand-off time, so MetricsFilter can include the
+// time a request spent queued for a worker in its latency.
+public class AdmissionFilter extends Filter {
+
+    private static final byte[] BUSY_BODY =
+            "{\"error\":\"Server busy, please retry\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final int REJECT_THREADS = 2;
+    private static final int REJECT_QUEUE   = 256;
+
+    // Set while a request refused at submit time runs on the reject pool
+    private static final ThreadLocal<Boolean> REFUSED = new ThreadLocal<>();
+
+    // nanoTime at which the running request was handed to the executor
+    private static final ThreadLocal<Long> ARRIVED = new ThreadLocal<>();
+
+    private final int maxInFlight;
+    private final int retryAfterSeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder     rejected = new LongAdder();
+    private final LongAdder     dropped  = new LongAdder();
+
+    private final ThreadPoolExecutor rejectPool;
+
+    public AdmissionFilter(int maxInFlight, int retryAfterSeconds) {
+        this.maxInFlight       = maxInFlight;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejectPool = new ThreadPoolExecutor(REJECT_THREADS, REJECT_THREADS,
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(REJECT_QUEUE), r -> {
+                    Thread t = new Thread(r, "http-reject");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.rejectPool.allowCoreThreadTimeOut(true);
+    }
+
+    // Wrap the server executor; requests over the limit never reach it
+    public Executor track(Executor delegate) {
+        return command -> {
+            Runnable task = stamped(command, System.nanoTime());
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                refuse(task);
+                return;
+            }
+            try {
+                delegate.execute(() -> {
+                    try { task.run(); }
+                    finally { inFlight.decrementAndGet(); }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                throw e;
+            }
+        };
+    }
+
+    private static Runnable stamped(Runnable task, long arrived) {
+        return () -> {
+            ARRIVED.set(arrived);
+            try { task.run(); }
+            finally { ARRIVED.remove(); }
+        };
+    }
+
+    // When this thread's request reached the executor, or `fallback` if it
+    // did not come through track()
+    static long arrivalNanos(long fallback) {
+        Long arrived = ARRIVED.get();
+        return arrived != null ? arrived : fallback;
+    }
+
+    private void refuse(Runnable task) {
+        try {
+            rejectPool.execute(() -> {
+                REFUSED.set(Boolean.TRUE);
+                try { task.run(); }
+                finally { REFUSED.remove(); }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void doFilter(HttpExchange ex, Chain chain) throws IOException {
+        if (REFUSED.get() != null) {
+            rejected.increment();
+            ex.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+            ex.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            ex.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+            ex.sendResponseHeaders(503, BUSY_BODY.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(BUSY_BODY);
+            }
+            return;
+        }
+        chain.doFilter(ex);
+    }
+
+    @Override
+    public String description() {
+        return "Rejects requests with 503 when more than " + maxInFlight + " are in flight";
+    }
+
+    public int  getInFlight()      { return inFlight.get(); }
+    public int  getMaxInFlight()   { return maxInFlight; }
+    public long getRejectedCount() { return rejected.sum(); }
+    public long getDroppedCount()  { return dropped.sum(); }
+}
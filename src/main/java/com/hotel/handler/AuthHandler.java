@@ -1,13 +1,18 @@
 package com.hotel.handler;
 
 import com.hotel.service.AuthService;
+import com.hotel.util.Log;
+import com.hotel.util.TooManyRequestsException;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import org.json.JSONObject;
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AuthHandler extends BaseHandler implements HttpHandler {
 
+    private static final Log LOG = Log.get(AuthHandler.class);
+
     private final AuthService authService = new AuthService();
 
     @Override
@@ -26,7 +31,8 @@ public class AuthHandler extends BaseHandler implements HttpHandler {
             if (method.equals("POST") && path.endsWith("/login")) {
                 String body   = readBody(ex);
                 JSONObject json = new JSONObject(body);
-                String result   = authService.login(json);
+                String result   = authService.login(json,
+                        ex.getRemoteAddress().getAddress().getHostAddress());
                 sendJson(ex, 200, result);
 
                 // POST /api/auth/logout
@@ -43,8 +49,14 @@ public class AuthHandler extends BaseHandler implements HttpHandler {
 
         } catch (IllegalArgumentException e) {
             sendError(ex, 400, e.getMessage());
+        } catch (TooManyRequestsException e) {
+            ex.getResponseHeaders().set("Retry-After", String.valueOf(e.getRetryAfterSeconds()));
+            sendError(ex, 429, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            ex.getResponseHeaders().set("Retry-After", "1");
+            sendError(ex, 503, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Request failed: " + ex.getRequestMethod() + " " + ex.getRequestURI(), e);
             sendError(ex, 500, "Internal server error");
         }
     }
@@ -1,21 +1,65 @@
 package com.hotel.handler;
 
 import com.sun.net.httpserver.HttpExchange;
+import com.hotel.handler.ResponseCompression.Encoding;
+import com.hotel.util.JsonStreamWriter;
 import com.hotel.util.SessionManager;
+import com.hotel.util.Log;
 import org.json.JSONObject;
 import java.io.*;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 public abstract class BaseHandler {
 
+    private static final Log LOG = Log.get(BaseHandler.class);
+
     protected String readBody(HttpExchange ex) throws IOException {
         return new String(ex.getRequestBody().readAllBytes(),
                 StandardCharsets.UTF_8);
     }
 
+    // Bodies of at least ResponseCompression.MIN_BYTES are compressed when
+    // the client accepts gzip or deflate
     protected void sendJson(HttpExchange ex, int status, String json)
             throws IOException {
         byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        setJsonHeaders(ex);
+        Encoding enc = ResponseCompression.negotiate(ex);
+        if (enc != Encoding.NONE && bytes.length >= ResponseCompression.MIN_BYTES)
+            bytes = compress(ex, bytes, bytes.length, enc);
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    // Serializes the body straight into the response. Headers go out with
+    // the first STREAM_BUFFER bytes: a smaller body is sent with a fixed
+    // Content-Length, a larger one with chunked transfer encoding and, if
+    // the client accepts it, compressed on the fly. If the
+    // body fails before anything was sent, the exception propagates so the
+    // caller can still answer with an error; after that the client gets a
+    // truncated body and the exchange is closed.
+    protected void streamJson(HttpExchange ex, int status, JsonStreamWriter.Body body)
+            throws IOException {
+        setJsonHeaders(ex);
+        DeferredBody os = new DeferredBody(ex, status, ResponseCompression.negotiate(ex));
+        JsonStreamWriter w = new JsonStreamWriter(os);
+        try {
+            body.writeTo(w);
+            w.close();
+        } catch (IOException | RuntimeException e) {
+            if (!os.committed) throw e;
+            LOG.warn("Response aborted mid-stream: {}", e.getMessage());
+            os.abort();
+            ex.close();
+        }
+    }
+
+    private void setJsonHeaders(HttpExchange ex) {
         ex.getResponseHeaders().set("Content-Type",
                 "application/json; charset=UTF-8");
         ex.getResponseHeaders().set("Access-Control-Allow-Origin",  "*");
@@ -23,10 +67,19 @@ public abstract class BaseHandler {
                 "GET,POST,PUT,DELETE,OPTIONS");
         ex.getResponseHeaders().set("Access-Control-Allow-Headers",
                 "Content-Type,Authorization");
-        ex.sendResponseHeaders(status, bytes.length);
-        try (OutputStream os = ex.getResponseBody()) {
-            os.write(bytes);
+        if (ResponseCompression.ENABLED)
+            ex.getResponseHeaders().set("Vary", "Accept-Encoding");
+    }
+
+    // Compresses a complete body in memory and sets Content-Encoding
+    private static byte[] compress(HttpExchange ex, byte[] bytes, int len, Encoding enc)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(len / 4 + 64);
+        try (OutputStream z = ResponseCompression.wrap(out, enc)) {
+            z.write(bytes, 0, len);
         }
+        ex.getResponseHeaders().set("Content-Encoding", enc.token);
+        return out.toByteArray();
     }
 
     protected void sendError(HttpExchange ex, int code, String message)
@@ -35,6 +88,22 @@ public abstract class BaseHandler {
         sendJson(ex, code, json);
     }
 
+    // Decoded query-string parameters; the first value wins for repeated names
+    protected Map<String, String> queryParams(HttpExchange ex) {
+        Map<String, String> params = new HashMap<>();
+        String query = ex.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) return params;
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String name  = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? ""   : pair.substring(eq + 1);
+            params.putIfAbsent(URLDecoder.decode(name,  StandardCharsets.UTF_8),
+                               URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
     protected String getToken(HttpExchange ex) {
         String auth = ex.getRequestHeaders().getFirst("Authorization");
         if (auth != null && auth.startsWith("Bearer "))
@@ -50,6 +119,85 @@ public abstract class BaseHandler {
         return SessionManager.getInstance().isAdmin(getToken(ex));
     }
 
+    private static final int STREAM_BUFFER =
+            Math.max(8192, ResponseCompression.MIN_BYTES);
+
+    // Holds the first STREAM_BUFFER bytes back so the response headers are
+    // only sent once we know whether the body fits in one fixed-length write
+    private static final class DeferredBody extends OutputStream {
+        private final HttpExchange ex;
+        private final int          status;
+        private final Encoding     encoding;
+        private final byte[]       buf = new byte[STREAM_BUFFER];
+        private int                count;
+        private OutputStream       raw;
+        boolean                    committed;
+
+        DeferredBody(HttpExchange ex, int status, Encoding encoding) {
+            this.ex       = ex;
+            this.status   = status;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!committed) {
+                if (count + len <= buf.length) {
+                    System.arraycopy(b, off, buf, count, len);
+                    count += len;
+                    return;
+                }
+                commit(0);   // 0 = chunked
+            }
+            raw.write(b, off, len);
+        }
+
+        private void commit(long length) throws IOException {
+            committed = true;
+            if (length == 0 && encoding != Encoding.NONE) {
+                ex.getResponseHeaders().set("Content-Encoding", encoding.token);
+                ex.sendResponseHeaders(status, 0);
+                raw = ResponseCompression.wrap(ex.getResponseBody(), encoding);
+            } else {
+                ex.sendResponseHeaders(status, length);
+                raw = ex.getResponseBody();
+            }
+            raw.write(buf, 0, count);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (committed) raw.flush();
+        }
+
+        // The body failed after the headers went out; release the Deflater
+        // here, because the exchange is closed without closing this stream
+        void abort() {
+            if (raw != null) ResponseCompression.abort(raw);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                if (encoding != Encoding.NONE && count >= ResponseCompression.MIN_BYTES) {
+                    byte[] z = compress(ex, buf, count, encoding);
+                    committed = true;
+                    ex.sendResponseHeaders(status, z.length);
+                    raw = ex.getResponseBody();
+                    raw.write(z);
+                } else {
+                    commit(count == 0 ? -1 : count);
+                }
+            }
+            raw.close();
+        }
+    }
+
     protected void handleCors(HttpExchange ex) throws IOException {
         ex.getResponseHeaders().set("Access-Control-Allow-Origin",  "*");
         ex.getResponseHeaders().set("Access-Control-Allow-Methods",
@@ -0,0 +1,72 @@
+package com.hotel.handler;
+
+import com.hotel.metrics.Histogram;
+import com.hotel.metrics.Metrics;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Request latency and status counts for one context, labelled with the
+// handler's name. Sits first in the chain, so requests turned away by
+// admission or rate limiting are counted too (with their 503 / 429).
+//
+//   hotel_http_request_duration_seconds{handler,method}   histogram
+//   hotel_http_responses_total{handler,code}               code = 2xx..5xx
+//
+// Latency starts when AdmissionFilter.track() handed the request to the
+// executor, so time spent queued for a worker is included; without track()
+// it starts when this filter runs.
+//
+// Every series this filter can touch is looked up in the constructor;
+// per request it is two nanoTime reads and three LongAdder adds.
+public class MetricsFilter extends Filter {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "HEAD"};
+
+    private final String      handler;
+    private final Histogram[] byMethod = new Histogram[METHODS.length + 1];   // last: OTHER
+    private final LongAdder[] byStatus = new LongAdder[5];                    // 1xx..5xx
+
+    public MetricsFilter(String handler) {
+        this(handler, Metrics.getInstance());
+    }
+
+    MetricsFilter(String handler, Metrics metrics) {
+        this.handler = handler;
+        Metrics.Family<Histogram> latency = metrics.histogram(
+                "hotel_http_request_duration_seconds",
+                "Time from hand-off to the executor to the end of the response, by handler and method",
+                "handler", "method");
+        Metrics.Family<LongAdder> responses = metrics.counter(
+                "hotel_http_responses_total",
+                "Responses sent, by handler and status class",
+                "handler", "code");
+        for (int i = 0; i < METHODS.length; i++) byMethod[i] = latency.labels(handler, METHODS[i]);
+        byMethod[METHODS.length] = latency.labels(handler, "OTHER");
+        for (int i = 0; i < byStatus.length; i++) byStatus[i] = responses.labels(handler, (i + 1) + "xx");
+    }
+
+    @Override
+    public void doFilter(HttpExchange ex, Chain chain) throws IOException {
+        long start = AdmissionFilter.arrivalNanos(System.nanoTime());
+        try {
+            chain.doFilter(ex);
+        } finally {
+            byMethod[methodIndex(ex.getRequestMethod())].recordNanos(System.nanoTime() - start);
+            int code = ex.getResponseCode();      // -1 if nothing was sent
+            if (code >= 100 && code < 600) byStatus[code / 100 - 1].increment();
+        }
+    }
+
+    @Override
+    public String description() {
+        return "Records request latency and status for " + handler;
+    }
+
+    private static int methodIndex(String method) {
+        for (int i = 0; i < METHODS.length; i++)
+            if (METHODS[i].equals(method)) return i;
+        return METHODS.length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hotel.handler;
+
+import com.hotel.metrics.Metrics;
+import com.hotel.util.Log;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Prometheus scrape endpoint.
+//   GET /api/metrics  → text exposition format 0.0.4
+// Open by default, like most scrape targets behind a private network;
+// with -Dhotel.metrics.token=<secret> the scraper must send
+// "Authorization: Bearer <secret>" (bearer_token in the scrape config).
+public class MetricsHandler extends BaseHandler implements HttpHandler {
+
+    private static final Log LOG = Log.get(MetricsHandler.class);
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Metrics metrics;
+    private final byte[]  token;
+
+    public MetricsHandler() {
+        this(Metrics.getInstance(), System.getProperty("hotel.metrics.token"));
+    }
+
+    MetricsHandler(Metrics metrics, String token) {
+        this.metrics = metrics;
+        this.token   = token == null || token.isEmpty() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void handle(HttpExchange ex) throws IOException {
+
+        if (!ex.getRequestMethod().equals("GET")) {
+            sendError(ex, 405, "Method not allowed"); return;
+        }
+        if (token != null && !tokenMatches(getToken(ex))) {
+            sendError(ex, 401, "Unauthorized"); return;
+        }
+
+        try {
+            byte[] body = metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            ex.sendResponseHeaders(200, body.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (Exception e) {
+            LOG.error("Metrics scrape failed", e);
+            sendError(ex, 500, "Internal server error");
+        }
+    }
+
+    private boolean tokenMatches(String presented) {
+        return presented != null
+                && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
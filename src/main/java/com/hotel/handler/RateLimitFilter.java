@@ -0,0 +1,206 @@
+package com.hotel.handler;
+
+import com.hotel.model.Staff;
+import com.hotel.util.SessionManager;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Per-client token buckets for one endpoint group (auth, reservations,
+// reports, ...). A client is the signed-in staff member when the request
+// carries a valid session token, otherwise the remote address.
+//
+// Each bucket is one AtomicLong holding the GCRA "theoretical arrival
+// time": a request is allowed if that time is at most burst intervals in
+// the future, and moves it one interval on by CAS. That is a token bucket
+// of `burst` tokens refilled at `rate` per second, with no lock and no
+// refill thread. Rejected requests get 429 and a Retry-After of the time
+// until the next token.
+//
+// A bucket whose arrival time has passed is full, the same as no bucket,
+// so those are swept every SWEEP_EVERY requests and whenever the group
+// reaches maxKeys clients. In the second case arbitrary clients are then
+// dropped (they start again with a full bucket) down to 90% of maxKeys, so
+// a flood of new addresses costs one full scan per tenth of the map.
+//
+// Configure with -Dhotel.ratelimit.<group>.rate (requests/s),
+// -Dhotel.ratelimit.<group>.burst and -Dhotel.ratelimit.maxKeys (50000).
+public class RateLimitFilter extends Filter {
+
+    static final int SWEEP_EVERY = 4096;
+
+    private static final int MAX_KEYS = Integer.getInteger("hotel.ratelimit.maxKeys", 50_000);
+
+    private static final byte[] LIMITED_BODY =
+            "{\"error\":\"Too many requests, please slow down\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final String       group;
+    private final double       rate;
+    private final int          burst;
+    private final long         intervalNanos;
+    private final long         toleranceNanos;
+    private final int          maxKeys;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger sinceSweep = new AtomicInteger();
+    private final AtomicBoolean sweeping   = new AtomicBoolean();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder limited = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public RateLimitFilter(String group, double ratePerSecond, int burst,
+                           int maxKeys, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1)
+            throw new IllegalArgumentException("rate and burst must be positive");
+        this.group          = group;
+        this.rate           = ratePerSecond;
+        this.burst          = burst;
+        this.intervalNanos  = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+        this.maxKeys        = maxKeys;
+        this.nanoClock      = nanoClock;
+    }
+
+    // Rate and burst from system properties, with the given defaults
+    public static RateLimitFilter configured(String group, double defaultRate, int defaultBurst) {
+        String prefix = "hotel.ratelimit." + group + ".";
+        double rate   = Double.parseDouble(System.getProperty(prefix + "rate", String.valueOf(defaultRate)));
+        int    burst  = Integer.getInteger(prefix + "burst", defaultBurst);
+        return new RateLimitFilter(group, rate, burst, MAX_KEYS, System::nanoTime);
+    }
+
+    @Override
+    public void doFilter(HttpExchange ex, Chain chain) throws IOException {
+        if (ex.getRequestMethod().equalsIgnoreCase("OPTIONS")) {   // CORS preflight is free
+            chain.doFilter(ex);
+            return;
+        }
+        long wait = acquire(clientKey(ex));
+        if (wait > 0) {
+            long seconds = Math.max(1, (wait + 999_999_999L) / 1_000_000_000L);
+            ex.getResponseHeaders().set("Retry-After", String.valueOf(seconds));
+            ex.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            ex.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+            ex.sendResponseHeaders(429, LIMITED_BODY.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(LIMITED_BODY);
+            }
+            return;
+        }
+        chain.doFilter(ex);
+    }
+
+    @Override
+    public String description() {
+        return "Limits each client to " + rate + " requests/s (burst " + burst + ") on " + group;
+    }
+
+    // 0 if the request may proceed, else nanoseconds until it would
+    long acquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys) sweep(now, true);
+            else if (sinceSweep.incrementAndGet() % SWEEP_EVERY == 0) sweep(now, false);
+            AtomicLong fresh = new AtomicLong(now);
+            tat = buckets.putIfAbsent(key, fresh);
+            if (tat == null) tat = fresh;
+        }
+        while (true) {
+            long old  = tat.get();
+            long next = Math.max(old, now) + intervalNanos;
+            long over = next - now - toleranceNanos;
+            if (over > 0) {
+                limited.increment();
+                return over;
+            }
+            if (tat.compareAndSet(old, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // Drops full buckets; when at maxKeys, also arbitrary ones down to the
+    // low-water mark. One thread sweeps at a time; the others carry on.
+    private void sweep(long now, boolean full) {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            buckets.values().removeIf(t -> t.get() - now <= 0);
+            if (!full) return;
+            int target = maxKeys - Math.max(1, maxKeys / 10);
+            Iterator<String> it = buckets.keySet().iterator();
+            while (buckets.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                evicted.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    static String clientKey(HttpExchange ex) {
+        String auth = ex.getRequestHeaders().getFirst("Authorization");
+        if (auth != null && auth.startsWith("Bearer ")) {
+            Staff s = SessionManager.getInstance().getSession(auth.substring(7).trim());
+            if (s != null) return "staff:" + s.getStaffId();
+        }
+        InetSocketAddress remote = ex.getRemoteAddress();
+        return "ip:" + (remote == null ? "unknown" : remote.getAddress().getHostAddress());
+    }
+
+    // ─── State ────────────────────────────────────────────────────────────
+
+    // One client's bucket as seen now
+    public static final class ClientState {
+        public final String key;
+        public final int    tokens;          // requests it may make right away
+        public final long   retryAfterMillis;
+
+        ClientState(String key, int tokens, long retryAfterMillis) {
+            this.key              = key;
+            this.tokens           = tokens;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+    }
+
+    // Clients with at most `maxTokens` tokens left, emptiest first, up to limit
+    public List<ClientState> lowestBuckets(int maxTokens, int limit) {
+        long now = nanoClock.getAsLong();
+        List<ClientState> out = new ArrayList<>();
+        for (Map.Entry<String, AtomicLong> e : buckets.entrySet()) {
+            long used = Math.max(0, e.getValue().get() - now);
+            int tokens = (int) Math.max(0, (toleranceNanos - used) / intervalNanos);
+            if (tokens > maxTokens) continue;
+            long wait = Math.max(0, used + intervalNanos - toleranceNanos);
+            out.add(new ClientState(e.getKey(), tokens, (wait + 999_999) / 1_000_000));
+        }
+        out.sort((a, b) -> a.tokens != b.tokens ? Integer.compare(a.tokens, b.tokens)
+                                                : Long.compare(b.retryAfterMillis, a.retryAfterMillis));
+        return out.size() > limit ? out.subList(0, limit) : out;
+    }
+
+    public String getGroup()          { return group; }
+    public double getRate()           { return rate; }
+    public int    getBurst()          { return burst; }
+    public int    getTrackedClients() { return buckets.size(); }
+    public long   getAllowedCount()   { return allowed.sum(); }
+    public long   getLimitedCount()   { return limited.sum(); }
+    public long   getEvictionCount()  { return evicted.sum(); }
+}
@@ -1,6 +1,7 @@
 package com.hotel.handler;
 
 import com.hotel.service.ReportService;
+import com.hotel.util.Log;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import java.io.IOException;
@@ -10,6 +11,8 @@ import java.util.Map;
 
 public class ReportHandler extends BaseHandler implements HttpHandler {
 
+    private static final Log LOG = Log.get(ReportHandler.class);
+
     private final ReportService service = new ReportService();
 
     @Override
@@ -55,7 +58,7 @@ public class ReportHandler extends BaseHandler implements HttpHandler {
         } catch (IllegalArgumentException e) {
             sendError(ex, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Request failed: " + ex.getRequestMethod() + " " + ex.getRequestURI(), e);
             sendError(ex, 500, "Internal server error");
         }
     }
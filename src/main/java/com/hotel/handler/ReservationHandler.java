@@ -1,13 +1,18 @@
 package com.hotel.handler;
 
+import com.hotel.model.ReservationQuery;
 import com.hotel.service.ReservationService;
+import com.hotel.util.Log;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import org.json.JSONObject;
 import java.io.IOException;
+import java.util.Map;
 
 public class ReservationHandler extends BaseHandler implements HttpHandler {
 
+    private static final Log LOG = Log.get(ReservationHandler.class);
+
     private final ReservationService service = new ReservationService();
 
     @Override
@@ -27,10 +32,17 @@ public class ReservationHandler extends BaseHandler implements HttpHandler {
         try {
             switch (method) {
                 case "GET" -> {
-                    // GET /api/reservations  → all reservations
+                    // GET /api/reservations              → all reservations (array)
+                    // GET /api/reservations?status=&limit=&cursor=...  → one keyset page
                     if (path.equals("/api/reservations") ||
                             path.equals("/api/reservations/")) {
-                        sendJson(ex, 200, service.getAllReservations());
+                        Map<String, String> params = queryParams(ex);
+                        if (params.keySet().stream().anyMatch(ReservationQuery.PARAMS::contains)) {
+                            ReservationQuery q = ReservationQuery.fromParams(params::get);
+                            streamJson(ex, 200, w -> service.writeReservations(q, w));
+                        } else {
+                            streamJson(ex, 200, service::writeAllReservations);
+                        }
                     } else {
                         // GET /api/reservations/{number}
                         String number = extractLastSegment(path);
@@ -62,7 +74,7 @@ public class ReservationHandler extends BaseHandler implements HttpHandler {
         } catch (IllegalArgumentException e) {
             sendError(ex, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Request failed: " + ex.getRequestMethod() + " " + ex.getRequestURI(), e);
             sendError(ex, 500, "Internal server error");
         }
     }
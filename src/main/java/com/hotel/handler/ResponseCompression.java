@@ -0,0 +1,221 @@
+package com.hotel.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+// Content-Encoding negotiation and compression for BaseHandler responses.
+// Bodies of at least MIN_BYTES are compressed with gzip or deflate,
+// whichever the client prefers in Accept-Encoding. Deflater instances
+// (native zlib state) come from a small pool instead of being allocated
+// per response. Configure with -Dhotel.http.compression.<name>=<value>.
+public final class ResponseCompression {
+
+    public enum Encoding {
+        NONE(null), GZIP("gzip"), DEFLATE("deflate");
+
+        final String token;
+        Encoding(String token) { this.token = token; }
+    }
+
+    static final boolean ENABLED   =
+            Boolean.parseBoolean(System.getProperty("hotel.http.compression.enabled", "true"));
+    static final int     MIN_BYTES = Integer.getInteger("hotel.http.compression.minBytes", 1024);
+    static final int     LEVEL     = Integer.getInteger("hotel.http.compression.level", 6);
+    static final int     POOL_SIZE = Integer.getInteger("hotel.http.compression.poolSize", 32);
+
+    private ResponseCompression() {}
+
+    // ─── Negotiation ──────────────────────────────────────────────────────
+
+    // Picks the encoding from Accept-Encoding, honouring q-values; gzip wins ties
+    public static Encoding negotiate(HttpExchange ex) {
+        if (!ENABLED) return Encoding.NONE;
+        return negotiate(ex.getRequestHeaders().getFirst("Accept-Encoding"));
+    }
+
+    static Encoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) return Encoding.NONE;
+        double gzip = -1, deflate = -1, any = 0;   // -1 = not listed
+        for (String part : acceptEncoding.split(",")) {
+            String[] pieces = part.trim().split(";");
+            String coding = pieces[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < pieces.length; i++) {
+                String p = pieces[i].trim();
+                if (p.startsWith("q=")) {
+                    try { q = Double.parseDouble(p.substring(2)); }
+                    catch (NumberFormatException e) { q = 0; }
+                }
+            }
+            switch (coding) {
+                case "gzip":    gzip    = q; break;
+                case "deflate": deflate = q; break;
+                case "*":       any     = q; break;
+                default:        break;
+            }
+        }
+        if (gzip    < 0) gzip    = any;
+        if (deflate < 0) deflate = any;
+        if (gzip > 0 && gzip >= deflate) return Encoding.GZIP;
+        if (deflate > 0)                 return Encoding.DEFLATE;
+        return Encoding.NONE;
+    }
+
+    // ─── Compressing Stream ───────────────────────────────────────────────
+
+    // Wraps the raw response body; close() finishes the stream, writes the
+    // gzip trailer and returns the Deflater to its pool.
+    public static OutputStream wrap(OutputStream raw, Encoding encoding) throws IOException {
+        return encoding == Encoding.GZIP ? new Compressing(raw, GZIP_POOL.borrow(), true)
+                                         : new Compressing(raw, ZLIB_POOL.borrow(), false);
+    }
+
+    // For a response that failed mid-body and is about to be dropped: gives
+    // the Deflater back without finishing the stream. No-op for other streams.
+    public static void abort(OutputStream os) {
+        if (os instanceof Compressing c) c.abort();
+    }
+
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private static final class Compressing extends DeflaterOutputStream {
+        private final boolean gzip;
+        private final CRC32   crc = new CRC32();
+        private long          bytesIn;
+        private long          bytesOut;
+        private long          deflateNanos;
+        private boolean       closed;
+
+        Compressing(OutputStream raw, Deflater def, boolean gzip) throws IOException {
+            super(raw, def, 8192);
+            this.gzip = gzip;
+            if (gzip) {
+                raw.write(GZIP_HEADER);
+                bytesOut += GZIP_HEADER.length;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) throw new IOException("Compressed stream already closed");   // def may be reused
+            if (gzip) crc.update(b, off, len);
+            bytesIn += len;
+            super.write(b, off, len);
+        }
+
+        @Override
+        protected void deflate() throws IOException {
+            long start = System.nanoTime();
+            int len = def.deflate(buf, 0, buf.length);
+            deflateNanos += System.nanoTime() - start;
+            if (len > 0) {
+                out.write(buf, 0, len);
+                bytesOut += len;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                finish();
+                if (gzip) {
+                    byte[] trailer = new byte[8];
+                    writeIntLE(trailer, 0, (int) crc.getValue());
+                    writeIntLE(trailer, 4, (int) bytesIn);
+                    out.write(trailer);
+                    bytesOut += trailer.length;
+                }
+                record(bytesIn, bytesOut, deflateNanos);
+            } finally {
+                (gzip ? GZIP_POOL : ZLIB_POOL).giveBack(def);
+                out.close();
+            }
+        }
+
+        void abort() {
+            if (closed) return;
+            closed = true;
+            (gzip ? GZIP_POOL : ZLIB_POOL).giveBack(def);
+        }
+
+        private static void writeIntLE(byte[] b, int off, int v) {
+            b[off]     = (byte) v;
+            b[off + 1] = (byte) (v >>> 8);
+            b[off + 2] = (byte) (v >>> 16);
+            b[off + 3] = (byte) (v >>> 24);
+        }
+    }
+
+    // ─── Deflater Pool ────────────────────────────────────────────────────
+
+    private static final DeflaterPool GZIP_POOL = new DeflaterPool(true);    // raw deflate + our gzip framing
+    private static final DeflaterPool ZLIB_POOL = new DeflaterPool(false);   // HTTP "deflate" is zlib format
+
+    private static final class DeflaterPool {
+        private final boolean nowrap;
+        private final ConcurrentLinkedQueue<Deflater> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        DeflaterPool(boolean nowrap) { this.nowrap = nowrap; }
+
+        Deflater borrow() {
+            Deflater d = idle.poll();
+            if (d != null) {
+                idleCount.decrementAndGet();
+                return d;
+            }
+            created.increment();
+            return new Deflater(LEVEL, nowrap);
+        }
+
+        void giveBack(Deflater d) {
+            d.reset();
+            if (idleCount.incrementAndGet() <= POOL_SIZE) {
+                idle.offer(d);
+            } else {
+                idleCount.decrementAndGet();
+                d.end();   // pool is full; free the native memory now
+            }
+        }
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    private static final LongAdder responses    = new LongAdder();
+    private static final LongAdder uncompressed = new LongAdder();
+    private static final LongAdder compressed   = new LongAdder();
+    private static final LongAdder nanos        = new LongAdder();
+    private static final LongAdder created      = new LongAdder();
+
+    private static void record(long in, long out, long deflateNanos) {
+        responses.increment();
+        uncompressed.add(in);
+        compressed.add(out);
+        nanos.add(deflateNanos);
+    }
+
+    public static long getCompressedResponseCount() { return responses.sum(); }
+    public static long getBytesIn()                 { return uncompressed.sum(); }
+    public static long getBytesOut()                { return compressed.sum(); }
+    public static long getDeflatersCreated()        { return created.sum(); }
+
+    // Time spent inside Deflater.deflate (CPU-bound; excludes socket writes)
+    public static double getCompressionMillis()     { return nanos.sum() / 1e6; }
+
+    // Compressed / uncompressed bytes; 1.0 until something was compressed
+    public static double getCompressionRatio() {
+        long in = uncompressed.sum();
+        return in == 0 ? 1.0 : (double) compressed.sum() / in;
+    }
+}
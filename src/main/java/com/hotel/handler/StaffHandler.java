@@ -1,6 +1,7 @@
 package com.hotel.handler;
 
 import com.hotel.service.StaffService;
+import com.hotel.util.Log;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import org.json.JSONObject;
@@ -8,6 +9,8 @@ import java.io.IOException;
 
 public class StaffHandler extends BaseHandler implements HttpHandler {
 
+    private static final Log LOG = Log.get(StaffHandler.class);
+
     private final StaffService service = new StaffService();
 
     @Override
@@ -59,7 +62,7 @@ public class StaffHandler extends BaseHandler implements HttpHandler {
         } catch (IllegalArgumentException e) {
             sendError(ex, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Request failed: " + ex.getRequestMethod() + " " + ex.getRequestURI(), e);
             sendError(ex, 500, "Internal server error");
         }
     }
@@ -0,0 +1,236 @@
+package com.hotel.handler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import com.hotel.util.Log;
+
+// Immutable in-memory copy of the web root (src/main/webapp by default).
+// Every file is read once, given a strong ETag from its SHA-256 and, for
+// text types, a gzip variant compressed up front. Readers take the current
+// map with one volatile read; reload() builds a new map and swaps it in.
+// With -Dhotel.static.watch=true a daemon thread reloads on file changes
+// (development mode); replaced mappings are unmapped once the old map is
+// garbage collected. WEB-INF is never served.
+public class StaticAssetCache {
+
+    private static final Log LOG = Log.get(StaticAssetCache.class);
+
+    static final String  ROOT  = System.getProperty("hotel.static.root", "src/main/webapp");
+    static final boolean WATCH = Boolean.getBoolean("hotel.static.watch");
+
+    // Files at least this large are memory-mapped rather than held on the heap
+    static final long MAP_THRESHOLD = Long.getLong("hotel.static.mapThreshold", 48 * 1024);
+
+    // Gzip variants are only kept when they save at least this fraction
+    private static final double MIN_SAVING = 0.10;
+
+    private final Path                                root;
+    private final long                                mapThreshold;
+    private final AtomicReference<Map<String, Asset>> assets  = new AtomicReference<>();
+    private final LongAdder                           reloads = new LongAdder();
+
+    public StaticAssetCache(Path root, boolean watch) {
+        this(root, watch, MAP_THRESHOLD);
+    }
+
+    StaticAssetCache(Path root, boolean watch, long mapThreshold) {
+        this.root         = root;
+        this.mapThreshold = mapThreshold;
+        reload();
+        if (watch) startWatcher();
+    }
+
+    // ─── Lookups ──────────────────────────────────────────────────────────
+
+    // Asset for a request path like "/css/style.css", or null
+    public Asset get(String path) {
+        return assets.get().get(path);
+    }
+
+    public int size() { return assets.get().size(); }
+
+    public long getReloadCount() { return reloads.sum(); }
+
+    // ─── Loading ──────────────────────────────────────────────────────────
+
+    // Reads the whole web root into a new map. A missing root leaves an
+    // empty map (every request a 404) rather than failing start-up; a reload
+    // that fails part-way keeps serving the previous map.
+    public void reload() {
+        Map<String, Asset> map = new HashMap<>();
+        if (Files.isDirectory(root)) {
+            try {
+                Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        return dir.getFileName() != null && dir.getFileName().toString().equals("WEB-INF")
+                                ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        String key = "/" + root.relativize(file).toString().replace('\\', '/');
+                        map.put(key, Asset.load(file, attrs.size(), attrs.size() >= mapThreshold));
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException | UncheckedIOException e) {
+                LOG.error("Failed to load " + root, e);
+                if (assets.get() != null) return;   // keep serving the previous copy
+                map.clear();
+            }
+        } else {
+            LOG.warn("Web root not found: {}", root.toAbsolutePath());
+        }
+        assets.set(Collections.unmodifiableMap(map));
+        reloads.increment();
+    }
+
+    private void startWatcher() {
+        Thread t = new Thread(this::watch, "static-asset-watch");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void watch() {
+        try (WatchService ws = root.getFileSystem().newWatchService()) {
+            registerAll(ws);
+            while (true) {
+                WatchKey key = ws.take();
+                // Editors write in bursts; let them settle, then reload once
+                Thread.sleep(100);
+                key.pollEvents();
+                key.reset();
+                for (WatchKey k; (k = ws.poll()) != null; ) { k.pollEvents(); k.reset(); }
+                registerAll(ws);   // pick up directories created since
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOG.warn("File watch stopped: {}", e.getMessage());
+        }
+    }
+
+    private void registerAll(WatchService ws) throws IOException {
+        if (!Files.isDirectory(root)) return;
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                dir.register(ws, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    // ─── Asset ────────────────────────────────────────────────────────────
+
+    // One file: identity bytes, optional gzip bytes, and the ETag of each.
+    // The gzip variant gets its own ETag because it is a different
+    // representation; both strong. Files of mapThreshold bytes or more are
+    // memory-mapped instead of copied onto the heap, so the identity body
+    // stays in the page cache; a text file's gzip variant is still kept on
+    // the heap.
+    public static final class Asset {
+        final String     contentType;
+        final ByteBuffer body;       // read-only; heap-backed or mapped
+        final String     etag;
+        final byte[]     gzipBody;   // null when not worth compressing
+        final String     gzipEtag;
+
+        private Asset(String contentType, ByteBuffer body, String etag, byte[] gzipBody) {
+            this.contentType = contentType;
+            this.body        = body;
+            this.etag        = etag;
+            this.gzipBody    = gzipBody;
+            this.gzipEtag    = gzipBody != null ? etag.substring(0, etag.length() - 1) + "-gz\"" : null;
+        }
+
+        static Asset load(Path file, long size, boolean map) throws IOException {
+            String type = mimeType(file.getFileName().toString());
+            ByteBuffer body;
+            if (map) {
+                try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                    body = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+            } else {
+                body = ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+            }
+            byte[] gz = null;
+            if (isText(type)) {
+                byte[] z = gzip(body);
+                if (z.length <= body.remaining() * (1 - MIN_SAVING)) gz = z;
+            }
+            return new Asset(type, body, etagOf(body), gz);
+        }
+
+        public String  getContentType() { return contentType; }
+        public String  getEtag()        { return etag; }
+        public boolean hasGzip()        { return gzipBody != null; }
+        public boolean isMapped()       { return body.isDirect(); }
+        public int     length()         { return body.remaining(); }
+    }
+
+    private static String etagOf(ByteBuffer body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(body.duplicate());
+            byte[] digest = md.digest();
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // every JRE ships SHA-256
+        }
+    }
+
+    // Compressed once per load, so use the best level
+    private static byte[] gzip(ByteBuffer body) {
+        ByteBuffer src = body.duplicate();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(src.remaining() / 3 + 64);
+        try (OutputStream z = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            byte[] chunk = new byte[8192];
+            while (src.hasRemaining()) {
+                int n = Math.min(chunk.length, src.remaining());
+                src.get(chunk, 0, n);
+                z.write(chunk, 0, n);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);   // in-memory streams do not fail
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isText(String type) {
+        return type.startsWith("text/") || type.startsWith("application/javascript")
+                || type.startsWith("application/json") || type.startsWith("image/svg+xml");
+    }
+
+    static String mimeType(String fileName) {
+        if (fileName.endsWith(".html")) return "text/html; charset=UTF-8";
+        if (fileName.endsWith(".css"))  return "text/css";
+        if (fileName.endsWith(".js"))   return "application/javascript";
+        if (fileName.endsWith(".json")) return "application/json";
+        if (fileName.endsWith(".svg"))  return "image/svg+xml";
+        if (fileName.endsWith(".png"))  return "image/png";
+        if (fileName.endsWith(".jpg") ||
+                fileName.endsWith(".jpeg")) return "image/jpeg";
+        if (fileName.endsWith(".ico"))  return "image/x-icon";
+        return "application/octet-stream";
+    }
+}
@@ -1,14 +1,38 @@
 package com.hotel.handler;
 
+import com.hotel.handler.StaticAssetCache.Asset;
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import java.io.*;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 
+// Serves the web root from StaticAssetCache. Responses carry a strong
+// ETag; a matching If-None-Match gets 304. HTML is revalidated on every
+// load (no-cache) since pages are not fingerprinted, other assets may be
+// reused for -Dhotel.static.maxAgeSec (1 hour). In watch mode everything
+// is no-cache so edits show up on refresh. Single byte ranges are
+// answered with 206 Partial Content, e.g. for the room images.
 public class StaticFileHandler extends BaseHandler implements HttpHandler {
 
-    // Folder where your HTML/CSS/JS files are
-    private static final String WEB_ROOT = "src/main/resources/web";
+    private static final int MAX_AGE_SEC = Integer.getInteger("hotel.static.maxAgeSec", 3600);
+
+    private static final byte[] NOT_FOUND = "404 - Page Not Found".getBytes(StandardCharsets.UTF_8);
+
+    private final StaticAssetCache assets;
+    private final boolean          revalidateAll;
+
+    public StaticFileHandler() {
+        this(new StaticAssetCache(Paths.get(StaticAssetCache.ROOT), StaticAssetCache.WATCH),
+             StaticAssetCache.WATCH);
+    }
+
+    StaticFileHandler(StaticAssetCache assets, boolean revalidateAll) {
+        this.assets        = assets;
+        this.revalidateAll = revalidateAll;
+    }
 
     @Override
     public void handle(HttpExchange ex) throws IOException {
@@ -17,39 +41,144 @@ public class StaticFileHandler extends BaseHandler implements HttpHandler {
         // Default to index.html
         if (path.equals("/")) path = "/index.html";
 
-        File file = new File(WEB_ROOT + path);
-
         // If file not found, serve index.html (for SPA routing)
-        if (!file.exists() || file.isDirectory()) {
-            file = new File(WEB_ROOT + "/index.html");
+        Asset asset = assets.get(path);
+        if (asset == null) {
+            path  = "/index.html";
+            asset = assets.get(path);
         }
 
-        if (!file.exists()) {
-            String notFound = "404 - Page Not Found";
-            ex.sendResponseHeaders(404, notFound.length());
-            ex.getResponseBody().write(notFound.getBytes());
+        if (asset == null) {
+            ex.sendResponseHeaders(404, NOT_FOUND.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(NOT_FOUND);
+            }
             return;
         }
 
-        String mimeType = getMimeType(file.getName());
-        byte[] bytes    = Files.readAllBytes(file.toPath());
+        // Ranges are served from the identity body only
+        long   length = asset.body.remaining();
+        long[] range  = ifRange(ex.getRequestHeaders().getFirst("If-Range"), asset)
+                ? parseRange(ex.getRequestHeaders().getFirst("Range"), length) : null;
+
+        boolean gzip = range == null && asset.gzipBody != null
+                && ResponseCompression.negotiate(ex) == ResponseCompression.Encoding.GZIP;
+        String etag  = gzip ? asset.gzipEtag : asset.etag;
+
+        Headers h = ex.getResponseHeaders();
+        h.set("ETag", etag);
+        h.set("Accept-Ranges", "bytes");
+        h.set("Cache-Control", revalidateAll || path.endsWith(".html")
+                ? "no-cache" : "public, max-age=" + MAX_AGE_SEC);
+        if (asset.gzipBody != null) h.set("Vary", "Accept-Encoding");
+
+        if (matches(ex.getRequestHeaders().getFirst("If-None-Match"), asset)) {
+            ex.sendResponseHeaders(304, -1);
+            ex.close();
+            return;
+        }
+
+        if (range == UNSATISFIABLE) {
+            h.set("Content-Range", "bytes */" + length);
+            ex.sendResponseHeaders(416, -1);
+            ex.close();
+            return;
+        }
+
+        h.set("Content-Type", asset.contentType);
+        if (gzip) {
+            h.set("Content-Encoding", "gzip");
+            ex.sendResponseHeaders(200, asset.gzipBody.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(asset.gzipBody);
+            }
+            return;
+        }
 
-        ex.getResponseHeaders().set("Content-Type", mimeType);
-        ex.sendResponseHeaders(200, bytes.length);
+        long from = 0, count = length;
+        if (range != null) {
+            from  = range[0];
+            count = range[1] - range[0] + 1;
+            h.set("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+        }
+        ex.sendResponseHeaders(range != null ? 206 : 200, count);
         try (OutputStream os = ex.getResponseBody()) {
-            os.write(bytes);
+            write(os, asset.body, (int) from, (int) count);
+        }
+    }
+
+    private static final int TRANSFER_CHUNK = 64 * 1024;
+
+    // Per-thread staging buffer for mapped bodies
+    private static final ThreadLocal<byte[]> TRANSFER =
+            ThreadLocal.withInitial(() -> new byte[TRANSFER_CHUNK]);
+
+    // Heap bodies are written straight from their backing array. Mapped
+    // bodies go from the page cache through one reused per-thread chunk:
+    // HttpExchange only exposes an OutputStream, so that copy is the
+    // least the JDK server allows, and no per-request byte[] is allocated.
+    private static void write(OutputStream os, ByteBuffer body, int from, int count)
+            throws IOException {
+        if (body.hasArray()) {
+            os.write(body.array(), body.arrayOffset() + from, count);
+            return;
+        }
+        ByteBuffer src = body.duplicate();
+        src.position(from).limit(from + count);
+        byte[] chunk = TRANSFER.get();
+        while (src.hasRemaining()) {
+            int n = Math.min(chunk.length, src.remaining());
+            src.get(chunk, 0, n);
+            os.write(chunk, 0, n);
         }
     }
 
-    private String getMimeType(String fileName) {
-        if (fileName.endsWith(".html")) return "text/html; charset=UTF-8";
-        if (fileName.endsWith(".css"))  return "text/css";
-        if (fileName.endsWith(".js"))   return "application/javascript";
-        if (fileName.endsWith(".json")) return "application/json";
-        if (fileName.endsWith(".png"))  return "image/png";
-        if (fileName.endsWith(".jpg") ||
-                fileName.endsWith(".jpeg")) return "image/jpeg";
-        if (fileName.endsWith(".ico"))  return "image/x-icon";
-        return "application/octet-stream";
+    // ─── Conditional and Range Requests ───────────────────────────────────
+
+    static final long[] UNSATISFIABLE = new long[0];
+
+    // A single "bytes=" range as inclusive {first, last}, UNSATISFIABLE for
+    // a range starting past the end, or null when the whole body should be
+    // sent (no header, a malformed one, or several ranges)
+    static long[] parseRange(String header, long length) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) return null;
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        try {
+            long first, last;
+            if (dash == 0) {                                  // bytes=-N : the last N bytes
+                long n = Long.parseLong(spec.substring(1));
+                if (n <= 0) return UNSATISFIABLE;
+                first = Math.max(0, length - n);
+                last  = length - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                last  = dash == spec.length() - 1 ? length - 1
+                                                  : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+                if (last < first) return first >= length ? UNSATISFIABLE : null;
+            }
+            return first >= length ? UNSATISFIABLE : new long[]{first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // If-Range must strongly match the identity ETag for a Range to apply
+    static boolean ifRange(String ifRange, Asset asset) {
+        return ifRange == null || ifRange.trim().equals(asset.etag);
+    }
+
+    // If-None-Match uses weak comparison (RFC 9110 13.1.2), and either
+    // variant's tag identifies the same file contents
+    static boolean matches(String ifNoneMatch, Asset asset) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(asset.etag) || tag.equals(asset.gzipEtag)) return true;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
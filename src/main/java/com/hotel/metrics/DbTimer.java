@@ -0,0 +1,97 @@
+package com.hotel.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every DAO call without touching the DAOs: DatabaseConfig wraps
+// each connection it hands out, and closing the wrapper records the time
+// since getConnection() was called — pool wait plus all statements — as
+//
+//   hotel_db_call_duration_seconds{class="RoomDAO",method="findAvailable"}
+//
+// The labels are the first caller outside com.hotel.config and DbTimer,
+// which is the DAO method for the usual try-with-resources pattern and
+// the service method for flows that pass one connection to several DAO
+// calls (BillingService.generateBill). Methods that stream rows straight
+// into the response also count the time spent writing it.
+//
+// -Dhotel.metrics.db=false hands out the plain connection instead.
+public final class DbTimer {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("hotel.metrics.db", "true"));
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final Metrics.Family<Histogram> CALLS = Metrics.getInstance().histogram(
+            "hotel_db_call_duration_seconds",
+            "Time from getConnection() to close(), by calling class and method",
+            "class", "method");
+
+    // "com.hotel.dao.RoomDAO#findAvailable" → series; one entry per call site
+    private static final ConcurrentHashMap<String, Histogram> BY_CALLER = new ConcurrentHashMap<>();
+
+    private DbTimer() {}
+
+    public static Connection wrap(Connection c, long startNanos) {
+        if (!ENABLED) return c;
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new Timed(c, caller(), startNanos));
+    }
+
+    static Histogram caller() {
+        Optional<StackWalker.StackFrame> frame = WALKER.walk(s -> s
+                .filter(f -> !f.getClassName().startsWith("com.hotel.config.")
+                          && !f.getClassName().equals(DbTimer.class.getName()))
+                .findFirst());
+        if (frame.isEmpty()) return CALLS.labels("unknown", "unknown");
+        StackWalker.StackFrame f = frame.get();
+        return BY_CALLER.computeIfAbsent(f.getClassName() + '#' + f.getMethodName(), k -> {
+            String cls = f.getClassName();
+            return CALLS.labels(cls.substring(cls.lastIndexOf('.') + 1), f.getMethodName());
+        });
+    }
+
+    private static final class Timed implements InvocationHandler {
+        private final Connection raw;
+        private final Histogram  histogram;
+        private final long       startNanos;
+        private boolean          recorded;    // a connection stays on one thread
+
+        Timed(Connection raw, Histogram histogram, long startNanos) {
+            this.raw        = raw;
+            this.histogram  = histogram;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+            switch (m.getName()) {
+                case "close":
+                    if (!recorded) {
+                        recorded = true;
+                        histogram.recordNanos(System.nanoTime() - startNanos);
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return m.invoke(raw, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
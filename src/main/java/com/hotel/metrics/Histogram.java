@@ -0,0 +1,101 @@
+package com.hotel.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histogram with HDR-style log-linear buckets over whole
+// microseconds: every power of two is split into SUB_BUCKETS equal
+// slices, so any recorded value is known to within 25% however large it
+// is, from 1µs up to MAX_MICROS (about 19 hours; larger values land in
+// the last bucket).
+//
+//   [0] [1] [2] [3] | [4,5) [5,6) [6,7) [7,8) | [8,10) [10,12) ... | [16,20) ...
+//
+// Each bucket is a LongAdder, so record() is two striped adds and never
+// takes a lock; readers sum the cells and may see a recording that is
+// halfway done (bucket counted, sum not yet), which scrapes tolerate.
+public final class Histogram {
+
+    static final int  SUB_BUCKET_BITS = 2;
+    static final int  SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+    static final long MAX_MICROS      = 1L << 36;
+    static final int  BUCKETS         = index(MAX_MICROS - 1) + 1;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder   sumMicros = new LongAdder();
+
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) counts[i] = new LongAdder();
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMicros(long micros) {
+        long v = Math.max(0, micros);
+        counts[index(Math.min(v, MAX_MICROS - 1))].increment();
+        sumMicros.add(v);
+    }
+
+    // Bucket of a value in [0, MAX_MICROS)
+    static int index(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS * (exp - SUB_BUCKET_BITS + 1) + sub;
+    }
+
+    // Smallest value that falls in a later bucket
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) return index + 1;
+        int exp = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return (1L << exp) + ((long) (sub + 1) << (exp - SUB_BUCKET_BITS));
+    }
+
+    // ─── Reading ──────────────────────────────────────────────────────────
+
+    // Point-in-time copy of the bucket counts
+    public Snapshot snapshot() {
+        long[] c = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) c[i] = counts[i].sum();
+        return new Snapshot(c, sumMicros.sum());
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long   sumMicros;
+        private final long   count;
+
+        Snapshot(long[] counts, long sumMicros) {
+            long n = 0;
+            for (long c : counts) n += c;
+            this.counts    = counts;
+            this.sumMicros = sumMicros;
+            this.count     = n;
+        }
+
+        public long getCount()     { return count; }
+        public long getSumMicros() { return sumMicros; }
+
+        // Recorded values below `micros`; exact when micros is a power of two
+        public long countBelow(long micros) {
+            long n = 0;
+            for (int i = 0; i < BUCKETS && upperBound(i) <= micros; i++) n += counts[i];
+            return n;
+        }
+
+        // Upper bound of the bucket holding the q-th quantile, 0 if empty
+        public long quantileMicros(double q) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(q * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) return upperBound(i);
+            }
+            return MAX_MICROS;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.hotel.metrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Registry of everything /api/metrics publishes, rendered in the
+// Prometheus text exposition format (version 0.0.4).
+//
+// A family is one metric name with fixed label names; each distinct set
+// of label values is a series, created on first use and kept for the
+// life of the process. Look a series up once and keep it where the
+// label values are fixed; labels(...) is a map lookup, the recording
+// itself (LongAdder / Histogram) never locks.
+//
+//   Metrics.Family<Histogram> h = Metrics.getInstance().histogram(
+//           "hotel_http_request_duration_seconds", "...", "handler", "method");
+//   h.labels("RoomHandler", "GET").recordNanos(elapsed);
+//
+// Label values must come from a small fixed set (class and method names,
+// status classes) — never from request data.
+public final class Metrics {
+
+    public enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        final String text;
+        Type(String text) { this.text = text; }
+    }
+
+    // Histogram buckets published to Prometheus, as powers of two of
+    // microseconds: 2^6 = 64µs up to 2^25 ≈ 33.5s. Finer buckets stay
+    // in-process (Histogram.Snapshot.quantileMicros).
+    static final int MIN_EXPORTED_EXP = 6;
+    static final int MAX_EXPORTED_EXP = 25;
+
+    private static final String[] LE = new String[MAX_EXPORTED_EXP - MIN_EXPORTED_EXP + 1];
+    static {
+        for (int e = MIN_EXPORTED_EXP; e <= MAX_EXPORTED_EXP; e++)
+            LE[e - MIN_EXPORTED_EXP] = seconds(1L << e);
+    }
+
+    // ─── Singleton ────────────────────────────────────────────────────────
+    private static final class Holder {
+        static final Metrics INSTANCE = new Metrics();
+    }
+
+    public static Metrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // Sorted by name so scrapes are stable
+    private final Map<String, Family<?>> families = new ConcurrentSkipListMap<>();
+
+    // Tests build their own; the server uses getInstance()
+    Metrics() {}
+
+    // ─── Registration ─────────────────────────────────────────────────────
+    // Registering a name again returns the existing family, so independent
+    // callers (one MetricsFilter per context) can share it.
+
+    public Family<LongAdder> counter(String name, String help, String... labelNames) {
+        return family(name, help, Type.COUNTER, LongAdder::new, labelNames);
+    }
+
+    // Counters already kept elsewhere (the LongAdder getters on filters,
+    // pools and caches), read at scrape time; bind each series with set(...)
+    public Family<LongSupplier> counterOf(String name, String help, String... labelNames) {
+        return family(name, help, Type.COUNTER, null, labelNames);
+    }
+
+    // Unlabelled counterOf in one call
+    public void counter(String name, String help, LongSupplier value) {
+        counterOf(name, help, new String[0]).set(value);
+    }
+
+    // Unlabelled counter in seconds (CPU time and the like), read at scrape time
+    public void counterSeconds(String name, String help, DoubleSupplier seconds) {
+        this.<DoubleSupplier>family(name, help, Type.COUNTER, null).set(seconds);
+    }
+
+    public Family<Histogram> histogram(String name, String help, String... labelNames) {
+        return family(name, help, Type.HISTOGRAM, Histogram::new, labelNames);
+    }
+
+    // Gauges are read at scrape time; bind each series with set(...)
+    public Family<DoubleSupplier> gauge(String name, String help, String... labelNames) {
+        return family(name, help, Type.GAUGE, null, labelNames);
+    }
+
+    // Unlabelled gauge in one call
+    public void gauge(String name, String help, DoubleSupplier value) {
+        gauge(name, help, new String[0]).set(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Family<T> family(String name, String help, Type type,
+                                 Supplier<T> factory, String... labelNames) {
+        Family<?> f = families.computeIfAbsent(name,
+                n -> new Family<>(n, help, type, factory, labelNames));
+        if (f.type != type || (f.factory == null) != (factory == null)
+                || !Arrays.equals(f.labelNames, labelNames))
+            throw new IllegalArgumentException("Metric " + name + " already registered as "
+                    + f.type.text + Arrays.toString(f.labelNames));
+        return (Family<T>) f;
+    }
+
+    public static final class Family<T> {
+        final String      name;
+        final String      help;
+        final Type        type;
+        final String[]    labelNames;
+        private final Supplier<T> factory;
+        private final ConcurrentHashMap<List<String>, T> series = new ConcurrentHashMap<>();
+
+        Family(String name, String help, Type type, Supplier<T> factory, String[] labelNames) {
+            this.name       = name;
+            this.help       = help;
+            this.type       = type;
+            this.factory    = factory;
+            this.labelNames = labelNames.clone();
+        }
+
+        // The series for these label values, created if new
+        public T labels(String... values) {
+            if (factory == null)
+                throw new IllegalStateException(name + " is read at scrape time; bind series with set()");
+            List<String> key = key(values);
+            T s = series.get(key);
+            return s != null ? s : series.computeIfAbsent(key, k -> factory.get());
+        }
+
+        // Binds (or rebinds) a series to a value read at scrape time
+        public void set(T value, String... values) {
+            series.put(key(values), value);
+        }
+
+        private List<String> key(String[] values) {
+            if (values.length != labelNames.length)
+                throw new IllegalArgumentException(name + " expects labels " + Arrays.toString(labelNames));
+            return List.of(values);
+        }
+    }
+
+    // ─── Exposition ───────────────────────────────────────────────────────
+
+    public String scrape() {
+        StringBuilder sb = new StringBuilder(8192);
+        for (Family<?> f : families.values()) {
+            if (f.series.isEmpty()) continue;
+            sb.append("# HELP ").append(f.name).append(' ').append(escapeHelp(f.help)).append('\n');
+            sb.append("# TYPE ").append(f.name).append(' ').append(f.type.text).append('\n');
+
+            List<Map.Entry<List<String>, ?>> rows = new ArrayList<>(f.series.entrySet());
+            rows.sort((a, b) -> String.join("\u0000", a.getKey())
+                    .compareTo(String.join("\u0000", b.getKey())));
+            for (Map.Entry<List<String>, ?> row : rows) {
+                String labels = labels(f.labelNames, row.getKey());
+                switch (f.type) {
+                    case COUNTER ->
+                        line(sb, f.name, labels, null, counterValue(row.getValue()));
+                    case GAUGE ->
+                        line(sb, f.name, labels, null, number(((DoubleSupplier) row.getValue()).getAsDouble()));
+                    case HISTOGRAM -> {
+                        Histogram.Snapshot s = ((Histogram) row.getValue()).snapshot();
+                        for (int e = MIN_EXPORTED_EXP; e <= MAX_EXPORTED_EXP; e++)
+                            line(sb, f.name + "_bucket", labels, LE[e - MIN_EXPORTED_EXP],
+                                    Long.toString(s.countBelow(1L << e)));
+                        line(sb, f.name + "_bucket", labels, "+Inf", Long.toString(s.getCount()));
+                        line(sb, f.name + "_sum",    labels, null,   seconds(s.getSumMicros()));
+                        line(sb, f.name + "_count",  labels, null,   Long.toString(s.getCount()));
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String counterValue(Object v) {
+        if (v instanceof LongAdder a)      return Long.toString(a.sum());
+        if (v instanceof DoubleSupplier d) return number(d.getAsDouble());
+        return Long.toString(((LongSupplier) v).getAsLong());
+    }
+
+    private static void line(StringBuilder sb, String name, String labels, String le, String value) {
+        sb.append(name);
+        if (!labels.isEmpty() || le != null) {
+            sb.append('{').append(labels);
+            if (le != null) {
+                if (!labels.isEmpty()) sb.append(',');
+                sb.append("le=\"").append(le).append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String labels(String[] names, List<String> values) {
+        if (names.length == 0) return "";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(names[i]).append("=\"").append(escapeLabel(values.get(i))).append('"');
+        }
+        return sb.toString();
+    }
+
+    static String escapeLabel(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String v) {
+        return v.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    // Exact decimal seconds, e.g. 64µs → 0.000064
+    static String seconds(long micros) {
+        return BigDecimal.valueOf(micros, 6).stripTrailingZeros().toPlainString();
+    }
+
+    private static String number(double v) {
+        if (Double.isNaN(v))      return "NaN";
+        if (Double.isInfinite(v)) return v > 0 ? "+Inf" : "-Inf";
+        if (v == Math.rint(v) && Math.abs(v) < 1e15) return Long.toString((long) v);
+        return Double.toString(v);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hotel.model;
+
+// Everything generateBill needs, read in one locked query
+public class BillingContext {
+    private Reservation reservation;
+    private int         roomTypeId;
+    private Bill        existingBill;   // null if the reservation is not billed yet
+
+    public BillingContext() {}
+
+    public BillingContext(Reservation reservation, int roomTypeId, Bill existingBill) {
+        this.reservation  = reservation;
+        this.roomTypeId   = roomTypeId;
+        this.existingBill = existingBill;
+    }
+
+    public Reservation getReservation()                { return reservation; }
+    public void        setReservation(Reservation r)   { this.reservation = r; }
+
+    public int         getRoomTypeId()          { return roomTypeId; }
+    public void        setRoomTypeId(int id)    { this.roomTypeId = id; }
+
+    public Bill        getExistingBill()          { return existingBill; }
+    public void        setExistingBill(Bill b)    { this.existingBill = b; }
+}
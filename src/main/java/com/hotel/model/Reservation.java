@@ -1,6 +1,7 @@
 package com.hotel.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public class Reservation {
     private int       reservationId;
@@ -11,6 +12,7 @@ public class Reservation {
     private LocalDate checkinDate;
     private LocalDate checkoutDate;
     private String    status; // CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED
+    private LocalDateTime createdAt;
 
     // Joined display fields
     private String guestName;
@@ -55,6 +57,9 @@ public class Reservation {
     public String    getStatus()           { return status; }
     public void      setStatus(String s)   { this.status = s; }
 
+    public LocalDateTime getCreatedAt()                  { return createdAt; }
+    public void          setCreatedAt(LocalDateTime t)   { this.createdAt = t; }
+
     public String    getGuestName()          { return guestName; }
     public void      setGuestName(String n)  { this.guestName = n; }
 
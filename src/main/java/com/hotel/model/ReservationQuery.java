@@ -0,0 +1,140 @@
+package com.hotel.model;
+
+import com.hotel.util.Validators;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Filters and keyset cursor for GET /api/reservations.
+// Results are ordered newest first by (created_at, reservation_id); the
+// cursor is the position of the last row of the previous page, encoded
+// as an opaque URL-safe token. A row with no created_at sorts as
+// NO_CREATED_AT, so such rows come last and can still be paged through.
+public class ReservationQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT     = 500;
+
+    // Stand-in for a NULL created_at; ReservationDAO coalesces to the same value
+    public static final LocalDateTime NO_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // Query-string names understood by fromParams
+    public static final List<String> PARAMS =
+            List.of("status", "from", "to", "roomId", "guestId", "limit", "cursor");
+
+    private String        status;
+    private LocalDate     checkinFrom;   // inclusive
+    private LocalDate     checkinTo;     // inclusive
+    private Integer       roomId;
+    private Integer       guestId;
+    private int           limit = DEFAULT_LIMIT;
+    private LocalDateTime afterCreatedAt;
+    private int           afterReservationId;
+
+    public ReservationQuery() {}
+
+    /** Builds a query from request parameters; throws IllegalArgumentException on bad input. */
+    public static ReservationQuery fromParams(Function<String, String> param) {
+        ReservationQuery q = new ReservationQuery();
+
+        String status = trimToNull(param.apply("status"));
+        if (status != null) {
+            status = status.toUpperCase();
+            if (!Validators.RESERVATION_STATUSES.contains(status))
+                throw new IllegalArgumentException("Invalid status value");
+            q.status = status;
+        }
+        q.checkinFrom = parseDate(param.apply("from"), "from");
+        q.checkinTo   = parseDate(param.apply("to"),   "to");
+        if (q.checkinFrom != null && q.checkinTo != null && q.checkinTo.isBefore(q.checkinFrom))
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        q.roomId  = parseInt(param.apply("roomId"),  "roomId");
+        q.guestId = parseInt(param.apply("guestId"), "guestId");
+
+        Integer limit = parseInt(param.apply("limit"), "limit");
+        if (limit != null) {
+            if (limit < 1 || limit > MAX_LIMIT)
+                throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+            q.limit = limit;
+        }
+
+        String cursor = trimToNull(param.apply("cursor"));
+        if (cursor != null) q.decodeCursor(cursor);
+        return q;
+    }
+
+    // ─── Cursor ───────────────────────────────────────────────────────────
+
+    public static String encodeCursor(Reservation last) {
+        LocalDateTime createdAt = last.getCreatedAt() != null ? last.getCreatedAt() : NO_CREATED_AT;
+        String raw = createdAt + "|" + last.getReservationId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            afterCreatedAt     = LocalDateTime.parse(raw.substring(0, sep));
+            afterReservationId = Integer.parseInt(raw.substring(sep + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public boolean hasCursor() { return afterCreatedAt != null; }
+
+    // ─── Accessors ────────────────────────────────────────────────────────
+
+    public String        getStatus()               { return status; }
+    public void          setStatus(String s)       { this.status = s; }
+
+    public LocalDate     getCheckinFrom()              { return checkinFrom; }
+    public void          setCheckinFrom(LocalDate d)   { this.checkinFrom = d; }
+
+    public LocalDate     getCheckinTo()                { return checkinTo; }
+    public void          setCheckinTo(LocalDate d)     { this.checkinTo = d; }
+
+    public Integer       getRoomId()               { return roomId; }
+    public void          setRoomId(Integer id)     { this.roomId = id; }
+
+    public Integer       getGuestId()              { return guestId; }
+    public void          setGuestId(Integer id)    { this.guestId = id; }
+
+    public int           getLimit()                { return limit; }
+    public void          setLimit(int l)           { this.limit = l; }
+
+    public LocalDateTime getAfterCreatedAt()       { return afterCreatedAt; }
+    public int           getAfterReservationId()   { return afterReservationId; }
+
+    public void setAfter(LocalDateTime createdAt, int reservationId) {
+        this.afterCreatedAt     = createdAt;
+        this.afterReservationId = reservationId;
+    }
+
+    // ─── Parsing ──────────────────────────────────────────────────────────
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        s = s.trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    private static LocalDate parseDate(String s, String name) {
+        s = trimToNull(s);
+        if (s == null) return null;
+        try { return LocalDate.parse(s); }
+        catch (Exception e) { throw new IllegalArgumentException("Invalid '" + name + "' date format"); }
+    }
+
+    private static Integer parseInt(String s, String name) {
+        s = trimToNull(s);
+        if (s == null) return null;
+        try { return Integer.parseInt(s); }
+        catch (NumberFormatException e) { throw new IllegalArgumentException("Invalid " + name); }
+    }
+}
@@ -1,18 +1,25 @@
 package com.hotel.observer;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 // Observer 1: Writes every reservation event to an audit log file
+// (reservation_audit.log, via the asynchronous AuditLogWriter)
 public class AuditLogObserver implements ReservationObserver {
 
-    private static final String LOG_FILE = "reservation_audit.log";
     private static final DateTimeFormatter FMT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    private final AuditLogWriter writer;
+
+    public AuditLogObserver() {
+        this(AuditLogWriter.getDefault());
+    }
+
+    public AuditLogObserver(AuditLogWriter writer) {
+        this.writer = writer;
+    }
+
     @Override
     public void onReservationCreated(ReservationEvent event) {
         writeLog("CREATED",
@@ -41,16 +48,7 @@ public class AuditLogObserver implements ReservationObserver {
         String timestamp = LocalDateTime.now().format(FMT);
         String line = String.format("[%s] ACTION=%-10s | RESERVATION=%-15s | %s",
                 timestamp, action, reservationNo, details);
-        // Print to console
-        System.out.println("[AuditLog] " + line);
-
-        // Also write to file
-        try (PrintWriter pw = new PrintWriter(
-                new FileWriter(LOG_FILE, true))) { // true = append mode
-            pw.println(line);
-        } catch (IOException e) {
-            System.err.println("[AuditLog] Could not write to log file: "
-                    + e.getMessage());
-        }
+        // Hand off to the background writer — no disk I/O on the request thread
+        writer.append(line);
     }
 }
\ No newline at end of file
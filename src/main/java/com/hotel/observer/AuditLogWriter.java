@@ -0,0 +1,261 @@
+package com.hotel.observer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import com.hotel.util.Log;
+
+// Asynchronous, batched writer behind AuditLogObserver.
+// Request threads only enqueue a line; one background thread drains the
+// queue in batches into a FileChannel, applies the fsync policy and rotates
+// the file by size (reservation_audit.log → .1 → .2 ...).
+public class AuditLogWriter {
+
+    private static final Log LOG = Log.get(AuditLogWriter.class);
+
+    public enum FsyncPolicy    { NONE, PER_BATCH, INTERVAL }
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    private static final int MAX_BATCH_LINES = 512;
+
+    // ─── Default Instance ─────────────────────────────────────────────────
+    // Configure with -Dhotel.audit.<name>=<value>
+    private static final class DefaultHolder {
+        static final AuditLogWriter INSTANCE = new AuditLogWriter(
+                Paths.get(System.getProperty("hotel.audit.file", "reservation_audit.log")),
+                Long.getLong   ("hotel.audit.maxBytes", 10L * 1024 * 1024),
+                Integer.getInteger("hotel.audit.maxBackups", 5),
+                Integer.getInteger("hotel.audit.capacity", 10_000),
+                FsyncPolicy.valueOf(System.getProperty("hotel.audit.fsync", "per_batch")
+                        .toUpperCase(Locale.ROOT)),
+                Long.getLong   ("hotel.audit.fsyncIntervalMs", 1_000),
+                OverflowPolicy.valueOf(System.getProperty("hotel.audit.overflow", "drop")
+                        .toUpperCase(Locale.ROOT)));
+        static {
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(INSTANCE::close, "audit-log-shutdown"));
+        }
+    }
+
+    public static AuditLogWriter getDefault() { return DefaultHolder.INSTANCE; }
+
+    // ─── State ────────────────────────────────────────────────────────────
+    private final Path           file;
+    private final long           maxBytes;
+    private final int            maxBackups;
+    private final int            capacity;
+    private final FsyncPolicy    fsyncPolicy;
+    private final long           fsyncIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued   = new AtomicInteger();
+    private final AtomicLong    enqueued = new AtomicLong();
+    private volatile long       written;
+    private volatile boolean    running  = true;
+    private volatile boolean    idle;
+    private final Thread        writer;
+
+    private final LongAdder dropped   = new LongAdder();
+    private final LongAdder batches   = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+    private final LongAdder ioErrors  = new LongAdder();
+
+    // Owned by the writer thread only
+    private FileChannel channel;
+    private long        fileSize;
+    private long        lastFsyncNanos = System.nanoTime();
+    private boolean     dirty;
+
+    public AuditLogWriter(Path file, long maxBytes, int maxBackups, int capacity,
+                          FsyncPolicy fsyncPolicy, long fsyncIntervalMillis,
+                          OverflowPolicy overflowPolicy) {
+        this(file, maxBytes, maxBackups, capacity, fsyncPolicy, fsyncIntervalMillis,
+                overflowPolicy, true);
+    }
+
+    // Tests pass start=false to fill the queue before the writer runs
+    AuditLogWriter(Path file, long maxBytes, int maxBackups, int capacity,
+                   FsyncPolicy fsyncPolicy, long fsyncIntervalMillis,
+                   OverflowPolicy overflowPolicy, boolean start) {
+        this.file               = file;
+        this.maxBytes           = maxBytes;
+        this.maxBackups         = maxBackups;
+        this.capacity           = capacity;
+        this.fsyncPolicy        = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.overflowPolicy     = overflowPolicy;
+        this.writer = new Thread(this::drainLoop, "audit-log-writer");
+        this.writer.setDaemon(true);
+        if (start) this.writer.start();
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    // ─── Producer Side ────────────────────────────────────────────────────
+
+    // Enqueues one line; returns false if it was dropped (queue full or closed)
+    public boolean append(String line) {
+        while (true) {
+            if (!running) { dropped.increment(); return false; }
+            int n = queued.get();
+            if (n < capacity) {
+                if (queued.compareAndSet(n, n + 1)) break;
+                continue;
+            }
+            // BLOCK waits for the writer to catch up — unless it is not
+            // running, in which case nothing would ever free a slot
+            if (overflowPolicy == OverflowPolicy.DROP || !writer.isAlive()) {
+                dropped.increment();
+                return false;
+            }
+            LockSupport.parkNanos(50_000);
+        }
+        queue.offer(line);
+        enqueued.incrementAndGet();
+        if (idle) LockSupport.unpark(writer);
+        return true;
+    }
+
+    // Waits until everything enqueued before this call is written
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target   = enqueued.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (written < target) {
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    public void close() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(writer);
+        try { writer.join(5_000); }
+        catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+
+    // ─── Writer Thread ────────────────────────────────────────────────────
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(8192);
+        while (running || !queue.isEmpty()) {
+            int lines = 0;
+            String line;
+            while (lines < MAX_BATCH_LINES && (line = queue.poll()) != null) {
+                batch.append(line).append(System.lineSeparator());
+                lines++;
+            }
+            if (lines == 0) {
+                fsyncIfDue();
+                idle = true;
+                if (queue.isEmpty() && running)
+                    LockSupport.parkNanos(fsyncPolicy == FsyncPolicy.INTERVAL
+                            ? fsyncIntervalNanos : TimeUnit.MILLISECONDS.toNanos(200));
+                idle = false;
+                continue;
+            }
+            queued.addAndGet(-lines);
+            writeBatch(batch);
+            written += lines;
+            batch.setLength(0);
+        }
+        closeChannel();
+    }
+
+    private void writeBatch(StringBuilder batch) {
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            if (channel == null) openChannel();
+            if (fileSize > 0 && fileSize + bytes.length > maxBytes) rotate();
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) channel.write(buf);
+            fileSize += bytes.length;
+            dirty = true;
+            batches.increment();
+            if (fsyncPolicy == FsyncPolicy.PER_BATCH) fsync();
+            else fsyncIfDue();
+        } catch (IOException e) {
+            ioErrors.increment();
+            LOG.error("Could not write to log file: {}", e.getMessage());
+            closeChannel();   // reopen on the next batch
+        }
+    }
+
+    private void fsyncIfDue() {
+        if (fsyncPolicy == FsyncPolicy.INTERVAL && dirty &&
+                System.nanoTime() - lastFsyncNanos >= fsyncIntervalNanos) {
+            try { fsync(); }
+            catch (IOException e) { ioErrors.increment(); }
+        }
+    }
+
+    private void fsync() throws IOException {
+        if (channel != null && dirty) channel.force(false);
+        dirty = false;
+        lastFsyncNanos = System.nanoTime();
+    }
+
+    private void openChannel() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        channel  = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private void rotate() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NONE) fsync();
+        closeChannel();
+        if (maxBackups > 0) {
+            Files.deleteIfExists(backup(maxBackups));
+            for (int i = maxBackups - 1; i >= 1; i--) {
+                if (Files.exists(backup(i)))
+                    Files.move(backup(i), backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(file);
+        }
+        rotations.increment();
+        openChannel();
+    }
+
+    private Path backup(int n) {
+        return file.resolveSibling(file.getFileName() + "." + n);
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            if (fsyncPolicy != FsyncPolicy.NONE) fsync();
+            channel.close();
+        } catch (IOException ignored) {
+        } finally {
+            channel = null;
+            dirty   = false;
+        }
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public int  getQueueDepth()    { return queued.get(); }
+    public long getWrittenCount()  { return written; }
+    public long getDroppedCount()  { return dropped.sum(); }
+    public long getBatchCount()    { return batches.sum(); }
+    public long getRotationCount() { return rotations.sum(); }
+    public long getIoErrorCount()  { return ioErrors.sum(); }
+}
@@ -0,0 +1,41 @@
+package com.hotel.observer;
+
+import com.hotel.metrics.Metrics;
+import java.util.concurrent.atomic.LongAdder;
+
+// Observer 3: Counts reservation events for /api/metrics
+//   hotel_reservations_total{event="created|cancelled|updated"}
+// Only increments a LongAdder, so it runs SYNC on the caller's thread.
+public class MetricsObserver implements ReservationObserver {
+
+    private final LongAdder created;
+    private final LongAdder cancelled;
+    private final LongAdder updated;
+
+    public MetricsObserver() {
+        this(Metrics.getInstance());
+    }
+
+    MetricsObserver(Metrics metrics) {
+        Metrics.Family<LongAdder> events = metrics.counter(
+                "hotel_reservations_total", "Reservation events since startup", "event");
+        created   = events.labels("created");
+        cancelled = events.labels("cancelled");
+        updated   = events.labels("updated");
+    }
+
+    @Override
+    public void onReservationCreated(ReservationEvent event) {
+        created.increment();
+    }
+
+    @Override
+    public void onReservationCancelled(ReservationEvent event) {
+        cancelled.increment();
+    }
+
+    @Override
+    public void onReservationUpdated(ReservationEvent event) {
+        updated.increment();
+    }
+}
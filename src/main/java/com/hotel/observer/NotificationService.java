@@ -2,76 +2,244 @@ package com.hotel.observer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import com.hotel.util.Log;
 
 // Acts as the SUBJECT in the Observer pattern
 // Holds all observers and notifies them on events
 public class NotificationService {
 
+    private static final Log LOG = Log.get(NotificationService.class);
+
+    // How each observer receives events
+    public enum DispatchMode {
+        SYNC,              // on the caller's thread, before notify returns
+        ASYNC_ORDERED,     // background lanes; events with one orderingKey stay in order
+        ASYNC_UNORDERED    // background pool; no ordering guarantee
+    }
+
+    private static final int ASYNC_LANES = Integer.getInteger("hotel.notify.lanes", 4);
+
     // ─── Singleton ────────────────────────────────────────────────────────
-    private static NotificationService instance;
+    // Initialization-on-demand holder: created on first getInstance(),
+    // with no lock on later calls
+    private static final class Holder {
+        static final NotificationService INSTANCE = new NotificationService();
+    }
+
+    private final int lanes;
 
     private NotificationService() {
+        this(ASYNC_LANES);
         // Register built-in observers on startup
-        addObserver(new AuditLogObserver());
-        addObserver(new RoomStatusObserver());
+        addObserver(new AuditLogObserver(),   DispatchMode.SYNC);          // only enqueues
+        addObserver(new RoomStatusObserver(), DispatchMode.ASYNC_ORDERED); // does JDBC
+        addObserver(new MetricsObserver(),    DispatchMode.SYNC);          // only counts
+    }
+
+    // Empty service for tests
+    NotificationService(int lanes) {
+        this.lanes = lanes;
     }
 
-    public static synchronized NotificationService getInstance() {
-        if (instance == null)
-            instance = new NotificationService();
-        return instance;
+    public static NotificationService getInstance() {
+        return Holder.INSTANCE;
     }
 
     // ─── Observer Registry ────────────────────────────────────────────────
-    private final List<ReservationObserver> observers = new ArrayList<>();
+    // Copy-on-write: notify iterates a snapshot without locking
+    private final List<Registration> observers = new CopyOnWriteArrayList<>();
 
     public void addObserver(ReservationObserver observer) {
-        if (!observers.contains(observer))
-            observers.add(observer);
+        addObserver(observer, DispatchMode.SYNC);
     }
 
-    public void removeObserver(ReservationObserver observer) {
-        observers.remove(observer);
+    public synchronized void addObserver(ReservationObserver observer, DispatchMode mode) {
+        for (Registration r : observers)
+            if (r.observer.equals(observer)) return;
+        observers.add(new Registration(observer, mode, lanes));
+    }
+
+    public synchronized void removeObserver(ReservationObserver observer) {
+        for (Registration r : observers) {
+            if (r.observer.equals(observer)) {
+                observers.remove(r);
+                r.shutdown();   // already-queued events still run
+                return;
+            }
+        }
     }
 
     // ─── Notification Methods ─────────────────────────────────────────────
 
     public void notifyCreated(ReservationEvent event) {
-        System.out.println("[NotificationService] Broadcasting CREATED event: "
-                + event.getReservation().getReservationNumber());
-        for (ReservationObserver o : observers) {
-            try {
-                o.onReservationCreated(event);
-            } catch (Exception e) {
-                System.err.println("[NotificationService] Observer error: "
-                        + e.getMessage());
-            }
-        }
+        LOG.debug("Broadcasting CREATED event: {}", event.getReservation().getReservationNumber());
+        broadcast(event, ReservationObserver::onReservationCreated);
     }
 
     public void notifyCancelled(ReservationEvent event) {
-        System.out.println("[NotificationService] Broadcasting CANCELLED event: "
-                + event.getReservation().getReservationNumber());
-        for (ReservationObserver o : observers) {
+        LOG.debug("Broadcasting CANCELLED event: {}", event.getReservation().getReservationNumber());
+        broadcast(event, ReservationObserver::onReservationCancelled);
+    }
+
+    public void notifyUpdated(ReservationEvent event) {
+        LOG.debug("Broadcasting UPDATED event: {}", event.getReservation().getReservationNumber());
+        broadcast(event, ReservationObserver::onReservationUpdated);
+    }
+
+    private void broadcast(ReservationEvent event,
+                           BiConsumer<ReservationObserver, ReservationEvent> callback) {
+        for (Registration r : observers) r.dispatch(event, callback);
+    }
+
+    // ─── Quiescence (tests, shutdown) ─────────────────────────────────────
+
+    // Waits until every async observer has processed all queued events
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            boolean idle = true;
+            for (Registration r : observers)
+                if (r.pending.get() > 0) { idle = false; break; }
+            if (idle) return true;
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    public void flush() {
+        awaitQuiescence(30, TimeUnit.SECONDS);
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public List<ObserverStats> getObserverStats() {
+        List<ObserverStats> list = new ArrayList<>();
+        for (Registration r : observers) list.add(r.stats());
+        return list;
+    }
+
+    public static final class ObserverStats {
+        public final String       observer;
+        public final DispatchMode mode;
+        public final int          queueDepth;
+        public final long         delivered;
+        public final long         failed;
+        public final double       avgLatencyMillis;
+        public final double       maxLatencyMillis;
+
+        ObserverStats(String observer, DispatchMode mode, int queueDepth, long delivered,
+                      long failed, double avgLatencyMillis, double maxLatencyMillis) {
+            this.observer         = observer;
+            this.mode             = mode;
+            this.queueDepth       = queueDepth;
+            this.delivered        = delivered;
+            this.failed           = failed;
+            this.avgLatencyMillis = avgLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+        }
+    }
+
+    // ─── Per-Observer Dispatcher ──────────────────────────────────────────
+
+    private static final class Registration {
+        final ReservationObserver observer;
+        final DispatchMode        mode;
+        final String              name;
+        final ExecutorService[]   lanes;   // ASYNC_ORDERED: one single-thread lane per hash bucket
+
+        final AtomicInteger pending      = new AtomicInteger();
+        final LongAdder     delivered    = new LongAdder();
+        final LongAdder     failed       = new LongAdder();
+        final LongAdder     latencyNanos = new LongAdder();
+        final AtomicLong    maxLatency   = new AtomicLong();
+
+        Registration(ReservationObserver observer, DispatchMode mode, int laneCount) {
+            this.observer = observer;
+            this.mode     = mode;
+            this.name     = nameOf(observer);
+            switch (mode) {
+                case ASYNC_ORDERED:
+                    lanes = new ExecutorService[laneCount];
+                    for (int i = 0; i < laneCount; i++)
+                        lanes[i] = Executors.newSingleThreadExecutor(daemon(name + "-" + i));
+                    break;
+                case ASYNC_UNORDERED:
+                    lanes = new ExecutorService[]{
+                            Executors.newFixedThreadPool(laneCount, daemon(name))};
+                    break;
+                default:
+                    lanes = new ExecutorService[0];
+            }
+        }
+
+        void dispatch(ReservationEvent event,
+                      BiConsumer<ReservationObserver, ReservationEvent> callback) {
+            long queuedAt = System.nanoTime();
+            if (mode == DispatchMode.SYNC) {
+                deliver(event, callback, queuedAt);
+                return;
+            }
+            ExecutorService lane = lanes.length == 1 ? lanes[0]
+                    : lanes[Math.floorMod(Objects.hashCode(observer.orderingKey(event)), lanes.length)];
+            pending.incrementAndGet();
             try {
-                o.onReservationCancelled(event);
-            } catch (Exception e) {
-                System.err.println("[NotificationService] Observer error: "
-                        + e.getMessage());
+                lane.execute(() -> {
+                    try { deliver(event, callback, queuedAt); }
+                    finally { pending.decrementAndGet(); }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                failed.increment();
             }
         }
-    }
 
-    public void notifyUpdated(ReservationEvent event) {
-        System.out.println("[NotificationService] Broadcasting UPDATED event: "
-                + event.getReservation().getReservationNumber());
-        for (ReservationObserver o : observers) {
+        // Latency is measured from notify to observer completion (includes queueing)
+        private void deliver(ReservationEvent event,
+                             BiConsumer<ReservationObserver, ReservationEvent> callback,
+                             long queuedAt) {
             try {
-                o.onReservationUpdated(event);
+                callback.accept(observer, event);
+                delivered.increment();
             } catch (Exception e) {
-                System.err.println("[NotificationService] Observer error: "
-                        + e.getMessage());
+                failed.increment();
+                LOG.error("Observer " + name + " failed", e);
             }
+            long nanos = System.nanoTime() - queuedAt;
+            latencyNanos.add(nanos);
+            maxLatency.accumulateAndGet(nanos, Math::max);
+        }
+
+        void shutdown() {
+            for (ExecutorService lane : lanes) lane.shutdown();
+        }
+
+        ObserverStats stats() {
+            long done = delivered.sum() + failed.sum();
+            return new ObserverStats(name, mode, pending.get(), delivered.sum(), failed.sum(),
+                    done == 0 ? 0 : latencyNanos.sum() / 1e6 / done,
+                    maxLatency.get() / 1e6);
+        }
+
+        // Anonymous and lambda classes have no simple name
+        private static String nameOf(ReservationObserver observer) {
+            String simple = observer.getClass().getSimpleName();
+            return simple.isEmpty() ? observer.getClass().getName() : simple;
+        }
+
+        private static ThreadFactory daemon(String prefix) {
+            AtomicInteger seq = new AtomicInteger();
+            return r -> {
+                Thread t = new Thread(r, "notify-" + prefix + "-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
         }
     }
-}
\ No newline at end of file
+}
@@ -8,4 +8,10 @@ public interface ReservationObserver {
     void onReservationCancelled(ReservationEvent event);
 
     void onReservationUpdated(ReservationEvent event);
+
+    // ASYNC_ORDERED delivers events with equal keys in order (on one lane).
+    // Observers that write per-room state should key by room instead.
+    default Object orderingKey(ReservationEvent event) {
+        return event.getReservation().getReservationNumber();
+    }
 }
\ No newline at end of file
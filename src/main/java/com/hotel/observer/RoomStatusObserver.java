@@ -1,55 +1,51 @@
 package com.hotel.observer;
 
-import com.hotel.dao.RoomDAO;
+import com.hotel.util.Log;
 
-// Observer 2: Automatically manages room status when reservations change
+// Observer 2: Traces room status as reservations change. The writes
+// themselves happen in the reservation flows' own transactions.
 public class RoomStatusObserver implements ReservationObserver {
 
-    private final RoomDAO roomDAO = new RoomDAO();
+    private static final Log LOG = Log.get(RoomStatusObserver.class);
 
     @Override
     public void onReservationCreated(ReservationEvent event) {
         // Room is already set to OCCUPIED in ReservationService
         // This observer just logs confirmation
-        int roomId = event.getReservation().getRoomId();
-        System.out.println("[RoomStatusObserver] Room " + roomId +
-                " marked OCCUPIED for reservation " +
-                event.getReservation().getReservationNumber());
+        if (LOG.isDebugEnabled())
+            LOG.debug("Room {} marked OCCUPIED for reservation {}",
+                    event.getReservation().getRoomId(),
+                    event.getReservation().getReservationNumber());
     }
 
     @Override
     public void onReservationCancelled(ReservationEvent event) {
-        // When cancelled → free up the room
-        int roomId = event.getReservation().getRoomId();
-        boolean ok = roomDAO.updateStatus(roomId, "AVAILABLE");
-        System.out.println("[RoomStatusObserver] Room " + roomId +
-                (ok ? " marked AVAILABLE" : " status update FAILED") +
-                " after cancellation of " +
-                event.getReservation().getReservationNumber());
+        // ReservationService.cancelReservation already set the room AVAILABLE
+        // in its transaction. Writing it again from here, later, could undo a
+        // booking that took the room in between.
+        if (LOG.isDebugEnabled())
+            LOG.debug("Room {} released by cancellation of {}",
+                    event.getReservation().getRoomId(),
+                    event.getReservation().getReservationNumber());
     }
 
+    // Events for one room run on one lane, in event order
     @Override
-    public void onReservationUpdated(ReservationEvent event) {
-        String status = event.getReservation().getStatus();
-        int roomId    = event.getReservation().getRoomId();
-
-        switch (status) {
-            case "CHECKED_IN":
-                roomDAO.updateStatus(roomId, "OCCUPIED");
-                break;
-            case "CHECKED_OUT":
-                roomDAO.updateStatus(roomId, "AVAILABLE");
-                break;
-            case "CANCELLED":
-                roomDAO.updateStatus(roomId, "AVAILABLE");
-                break;
-            default:
-                // CONFIRMED → no room status change needed
-                break;
-        }
+    public Object orderingKey(ReservationEvent event) {
+        return event.getReservation().getRoomId();
+    }
 
-        System.out.println("[RoomStatusObserver] Room " + roomId +
-                " status synced for event: " + status);
+    @Override
+    public void onReservationUpdated(ReservationEvent event) {
+        // Room status is written by the flows that change it in their own
+        // transaction (booking, cancellation, checkout). A late write from
+        // here, e.g. AVAILABLE for a cancelling update, could undo a booking
+        // that took the room in between, as with onReservationCancelled.
+        if (LOG.isDebugEnabled())
+            LOG.debug("Reservation {} updated to {} in room {}",
+                    event.getReservation().getReservationNumber(),
+                    event.getReservation().getStatus(),
+                    event.getReservation().getRoomId());
     }
 }
 //```
@@ -2,18 +2,62 @@ package com.hotel.service;
 
 import com.hotel.dao.StaffDAO;
 import com.hotel.model.Staff;
+import com.hotel.util.Log;
+import com.hotel.util.LoginThrottle;
 import com.hotel.util.PasswordUtil;
 import com.hotel.util.SessionManager;
+import com.hotel.util.TooManyRequestsException;
 import org.json.JSONObject;
+import java.util.UUID;
 
 public class AuthService {
 
-    private final StaffDAO staffDAO = new StaffDAO();
+    private static final Log LOG = Log.get(AuthService.class);
+
+    // Password checks run here, not on the HTTP worker; see PasswordVerifier.
+    // -Dhotel.auth.verifyThreads, -Dhotel.auth.verifyQueue, -Dhotel.auth.verifyTimeoutMs
+    private static final int  VERIFY_THREADS    = Integer.getInteger("hotel.auth.verifyThreads",
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+    private static final int  VERIFY_QUEUE      = Integer.getInteger("hotel.auth.verifyQueue", VERIFY_THREADS);
+    private static final long VERIFY_TIMEOUT_MS = Long.getLong("hotel.auth.verifyTimeoutMs", 5_000);
+
+    private static final class Holder {
+        static final PasswordVerifier VERIFIER =
+                new PasswordVerifier(VERIFY_THREADS, VERIFY_QUEUE, VERIFY_TIMEOUT_MS);
+        // Checked for unknown usernames, so they take as long as a wrong password
+        // (PasswordUtil pads failed legacy checks to the same PBKDF2 cost)
+        static final String DUMMY_HASH = PasswordUtil.hash(UUID.randomUUID().toString());
+    }
+
+    private final StaffDAO      staffDAO = new StaffDAO();
+    private final LoginThrottle throttle;
+
+    public AuthService() {
+        this(LoginThrottle.getInstance());
+    }
+
+    AuthService(LoginThrottle throttle) {
+        this.throttle = throttle;
+    }
+
+    public static PasswordVerifier verifier() {
+        return Holder.VERIFIER;
+    }
 
     public String login(JSONObject json) {
+        return login(json, null);
+    }
+
+    // clientIp may be null when the caller has no address to offer
+    public String login(JSONObject json, String clientIp) {
         String username = json.optString("username", "").trim();
         String password = json.optString("password", "").trim();
 
+        // Locked-out names and addresses are turned away before any lookup
+        long retryAfter = throttle.retryAfterMillis(username, clientIp);
+        if (retryAfter > 0)
+            throw new TooManyRequestsException("Too many failed login attempts, try again later", retryAfter);
+
         // Validate input
         if (username.isEmpty())
             throw new IllegalArgumentException("Username is required");
@@ -26,12 +70,23 @@ public class AuthService {
 
         // Fetch staff
         Staff staff = staffDAO.findByUsername(username);
-        if (staff == null)
+        if (staff == null) {
+            Holder.VERIFIER.verify(password, Holder.DUMMY_HASH);
+            throttle.recordFailure(username, clientIp);
             throw new IllegalArgumentException("Invalid username or password");
+        }
 
-        // Verify password
-        if (!PasswordUtil.verify(password, staff.getPasswordHash()))
+        // Verify password; throws RejectedExecutionException when the verifier is saturated
+        PasswordVerifier.Result check = Holder.VERIFIER.verify(password, staff.getPasswordHash());
+        if (!check.matches) {
+            throttle.recordFailure(username, clientIp);
             throw new IllegalArgumentException("Invalid username or password");
+        }
+        throttle.recordSuccess(username);
+
+        // Replace a legacy or lower-cost hash now that we know the password
+        if (check.rehash != null && !staffDAO.updatePassword(staff.getStaffId(), check.rehash))
+            LOG.warn("Password hash upgrade failed for {}", staff.getUsername());
 
         // Create session
         String token = SessionManager.getInstance().createSession(staff);
@@ -0,0 +1,151 @@
+package com.hotel.service;
+
+import com.hotel.dao.ReservationDAO;
+import com.hotel.model.Reservation;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// In-memory interval index of active stays (CONFIRMED / CHECKED_IN) per room.
+// Replaces the NOT IN (SELECT room_id FROM reservation ...) subquery: an
+// overlap check is a bounded range scan of one room's sorted timeline.
+// Loaded once from the database and kept in sync by the reservation flows.
+public class AvailabilityIndex {
+
+    private static final AvailabilityIndex INSTANCE =
+            new AvailabilityIndex(() -> new ReservationDAO().findActive());
+
+    public static AvailabilityIndex getInstance() { return INSTANCE; }
+
+    private final Supplier<List<Reservation>> loader;
+    private final Map<Integer, RoomTimeline> rooms   = new ConcurrentHashMap<>();
+    private final Map<String, Stay>          byNumber = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    AvailabilityIndex(Supplier<List<Reservation>> loader) {
+        this.loader = loader;
+    }
+
+    // ─── Loading ──────────────────────────────────────────────────────────
+
+    // Rebuilds the index from the database (called at startup)
+    public synchronized void load() {
+        rooms.clear();
+        byNumber.clear();
+        for (Reservation r : loader.get()) put(r);
+        loaded = true;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) load();
+            }
+        }
+    }
+
+    public boolean isLoaded() { return loaded; }
+
+    // ─── Queries ──────────────────────────────────────────────────────────
+
+    // True if no active stay in the room overlaps [checkin, checkout)
+    public boolean isAvailable(int roomId, LocalDate checkin, LocalDate checkout) {
+        return isAvailable(roomId, checkin, checkout, null);
+    }
+
+    // Same, ignoring the stay of reservation `exclude` (when moving its dates)
+    public boolean isAvailable(int roomId, LocalDate checkin, LocalDate checkout, String exclude) {
+        ensureLoaded();
+        RoomTimeline t = rooms.get(roomId);
+        return t == null || !t.overlaps(checkin, checkout, exclude);
+    }
+
+    public int size() {
+        ensureLoaded();
+        return byNumber.size();
+    }
+
+    // ─── Sync from Reservation Flows ──────────────────────────────────────
+
+    // Adds or replaces the reservation's stay; inactive statuses are removed
+    public void put(Reservation r) {
+        if (!isActive(r.getStatus())) {
+            remove(r.getReservationNumber());
+            return;
+        }
+        Stay stay = new Stay(r.getRoomId(), r.getCheckinDate(),
+                r.getCheckoutDate(), r.getReservationNumber());
+        Stay old = byNumber.put(stay.number, stay);
+        if (old != null) timeline(old.roomId).remove(old);
+        timeline(stay.roomId).add(stay);
+    }
+
+    public void remove(String reservationNumber) {
+        if (reservationNumber == null) return;
+        Stay old = byNumber.remove(reservationNumber);
+        if (old != null) timeline(old.roomId).remove(old);
+    }
+
+    private RoomTimeline timeline(int roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomTimeline());
+    }
+
+    // CONFIRMED and CHECKED_IN stays hold their room
+    static boolean isActive(String status) {
+        return "CONFIRMED".equals(status) || "CHECKED_IN".equals(status);
+    }
+
+    // ─── Per-Room Timeline ────────────────────────────────────────────────
+
+    private static final class Stay implements Comparable<Stay> {
+        final int       roomId;
+        final LocalDate checkin;
+        final LocalDate checkout;
+        final String    number;
+
+        Stay(int roomId, LocalDate checkin, LocalDate checkout, String number) {
+            this.roomId   = roomId;
+            this.checkin  = checkin;
+            this.checkout = checkout;
+            this.number   = number;
+        }
+
+        // Ordered by check-in, ties broken by reservation number
+        @Override
+        public int compareTo(Stay o) {
+            int c = checkin.compareTo(o.checkin);
+            return c != 0 ? c : number.compareTo(o.number);
+        }
+    }
+
+    // Stays sorted by check-in. Any stay overlapping [in, out) must start in
+    // [in - longestStay, out), so a query scans only that window: O(log n + k).
+    private static final class RoomTimeline {
+        private final ConcurrentSkipListMap<Stay, Boolean> stays = new ConcurrentSkipListMap<>();
+        private final AtomicLong longestNights = new AtomicLong();
+
+        void add(Stay s) {
+            long nights = ChronoUnit.DAYS.between(s.checkin, s.checkout);
+            longestNights.accumulateAndGet(nights, Math::max);
+            stays.put(s, Boolean.TRUE);
+        }
+
+        void remove(Stay s) {
+            stays.remove(s);
+        }
+
+        boolean overlaps(LocalDate checkin, LocalDate checkout, String exclude) {
+            Stay from = new Stay(0, checkin.minusDays(longestNights.get()), null, "");
+            Stay to   = new Stay(0, checkout, null, "");
+            for (Stay s : stays.subMap(from, true, to, false).keySet()) {
+                if (s.checkout.isAfter(checkin) && !s.number.equals(exclude)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.hotel.service;
 
+import com.hotel.config.DatabaseConfig;
+import com.hotel.config.TransactionContext;
 import com.hotel.dao.BillDAO;
 import com.hotel.dao.PaymentDAO;
+import com.hotel.dao.RoomRateCache;
 import com.hotel.dao.ReservationDAO;
+import com.hotel.metrics.Metrics;
 import com.hotel.model.*;
-import org.json.JSONArray;
+import com.hotel.util.ModelJson;
+import com.hotel.util.Validators;
 import org.json.JSONObject;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 public class BillingService {
 
@@ -20,29 +28,45 @@ public class BillingService {
 
     private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
 
+    // Counted once the transaction commits, so rolled-back work never shows
+    private static final LongAdder BILLS_GENERATED = Metrics.getInstance().counter(
+            "hotel_bills_generated_total", "Bills generated at checkout").labels();
+    private static final Metrics.Family<LongAdder> PAYMENTS = Metrics.getInstance().counter(
+            "hotel_payments_total", "Payments recorded, by resulting bill status", "status");
+
+    // Checkout runs in one transaction: a single locked, joined read, then
+    // the bill insert and the CHECKED_OUT flip commit together — or neither does.
     public String generateBill(String reservationNumber) {
-        Reservation res = resDAO.findByNumber(reservationNumber);
-        if (res == null)
+        Bill bill = TransactionContext.inTransaction(() -> {
+            try (Connection c = DatabaseConfig.getInstance().getConnection()) {
+                return generateBill(c, reservationNumber);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to generate bill: " + e.getMessage(), e);
+            }
+        });
+        return ModelJson.object(bill, ModelJson::write);
+    }
+
+    private Bill generateBill(Connection c, String reservationNumber) throws SQLException {
+        BillingContext ctx = billDAO.lockForBilling(c, reservationNumber);
+        if (ctx == null)
             throw new IllegalArgumentException("Reservation not found: " + reservationNumber);
+        Reservation res = ctx.getReservation();
 
         if (res.getStatus().equals("CANCELLED"))
             throw new IllegalArgumentException("Cannot bill a cancelled reservation");
 
         // Check if bill already exists
-        Bill existing = billDAO.findByReservationId(res.getReservationId());
-        if (existing != null) return toBillJson(existing).toString();
+        if (ctx.getExistingBill() != null) return ctx.getExistingBill();
 
         // Calculate nights
         long nights = ChronoUnit.DAYS.between(res.getCheckinDate(), res.getCheckoutDate());
         if (nights <= 0)
             throw new IllegalArgumentException("Invalid stay duration");
 
-        // Get current room rate
-        RoomRate rate = roomSvc.getCurrentRate(res.getRoomId());
-        BigDecimal ratePerNight = rate.getRatePerNight();
-
-        // Calculations
-        BigDecimal subtotal  = ratePerNight.multiply(BigDecimal.valueOf(nights))
+        // Calculations — each night at the rate in effect that night (cached)
+        BigDecimal subtotal  = RoomRateCache.getInstance()
+                .priceStay(ctx.getRoomTypeId(), res.getCheckinDate(), res.getCheckoutDate())
                 .setScale(2, RoundingMode.HALF_UP);
         BigDecimal taxAmount = subtotal.multiply(TAX_RATE)
                 .setScale(2, RoundingMode.HALF_UP);
@@ -58,27 +82,29 @@ public class BillingService {
         bill.setDiscountAmount(BigDecimal.ZERO);
         bill.setTotalAmount  (total);
         bill.setPaymentStatus("PENDING");
+        bill.setReservationNumber(res.getReservationNumber());
+        bill.setGuestName    (res.getGuestName());
 
-        boolean saved = billDAO.save(bill);
-        if (!saved) throw new RuntimeException("Failed to generate bill");
+        if (!billDAO.save(c, bill))
+            throw new RuntimeException("Failed to generate bill");
 
         // Mark reservation as checked out
-        resDAO.updateStatus(reservationNumber, "CHECKED_OUT");
-
-        return toBillJson(bill).toString();
+        if (!resDAO.updateStatus(c, reservationNumber, "CHECKED_OUT"))
+            throw new RuntimeException("Failed to check out reservation");
+        TransactionContext.onCommit(() -> AvailabilityIndex.getInstance().remove(reservationNumber));
+        TransactionContext.onCommit(BILLS_GENERATED::increment);
+        return bill;
     }
 
     public String getBill(int billId) {
         Bill b = billDAO.findById(billId);
         if (b == null) throw new IllegalArgumentException("Bill not found");
-        return toBillJson(b).toString();
+        return ModelJson.object(b, ModelJson::write);
     }
 
     public String getAllBills() {
         List<Bill> list = billDAO.findAll();
-        JSONArray arr = new JSONArray();
-        for (Bill b : list) arr.put(toBillJson(b));
-        return arr.toString();
+        return ModelJson.array(list, ModelJson::write);
     }
 
     public String adjustBill(int billId, JSONObject json) {
@@ -109,7 +135,7 @@ public class BillingService {
         b.setTaxRate(taxRate);
         b.setTaxAmount(taxAmount);
         b.setTotalAmount(totalAmount);
-        return toBillJson(b).toString();
+        return ModelJson.object(b, ModelJson::write);
     }
 
     public String processPayment(JSONObject json) {
@@ -119,7 +145,7 @@ public class BillingService {
 
         if (billId == -1)
             throw new IllegalArgumentException("Bill ID is required");
-        if (!List.of("CASH","CARD","ONLINE").contains(method))
+        if (!Validators.PAYMENT_METHODS.contains(method))
             throw new IllegalArgumentException("Invalid payment method (CASH, CARD, ONLINE)");
 
         BigDecimal amount;
@@ -137,20 +163,27 @@ public class BillingService {
         if (amount.compareTo(b.getTotalAmount()) > 0)
             throw new IllegalArgumentException("Payment exceeds bill total");
 
-        Payment p = new Payment(billId, amount, method, b.getDiscountAmount());
-        paymentDAO.save(p);
-
-        // Update bill status
         String newStatus = amount.compareTo(b.getTotalAmount()) >= 0 ? "PAID" : "PARTIAL";
-        billDAO.updatePaymentStatus(billId, newStatus);
 
-        // When fully paid, automatically release the room back to AVAILABLE
-        if ("PAID".equals(newStatus)) {
-            Reservation reservation = resDAO.findById(b.getReservationId());
-            if (reservation != null) {
-                roomSvc.updateRoomStatus(reservation.getRoomId(), "AVAILABLE");
+        // Payment, bill status and room release commit together
+        TransactionContext.inTransaction(() -> {
+            Payment p = new Payment(billId, amount, method, b.getDiscountAmount());
+            if (!paymentDAO.save(p))
+                throw new RuntimeException("Failed to record payment");
+            TransactionContext.onCommit(PAYMENTS.labels(newStatus)::increment);
+
+            // Update bill status
+            if (!billDAO.updatePaymentStatus(billId, newStatus))
+                throw new RuntimeException("Failed to update bill status");
+
+            // When fully paid, automatically release the room back to AVAILABLE
+            if ("PAID".equals(newStatus)) {
+                Reservation reservation = resDAO.findById(b.getReservationId());
+                if (reservation != null) {
+                    roomSvc.updateRoomStatus(reservation.getRoomId(), "AVAILABLE");
+                }
             }
-        }
+        });
 
         return new JSONObject()
                 .put("message",       "Payment processed")
@@ -158,19 +191,4 @@ public class BillingService {
                 .put("amountPaid",    amount)
                 .toString();
     }
-
-    private JSONObject toBillJson(Bill b) {
-        return new JSONObject()
-                .put("billId",            b.getBillId())
-                .put("billNumber",        b.getBillNumber())
-                .put("reservationId",     b.getReservationId())
-                .put("subtotal",          b.getSubtotal())
-                .put("taxRate",           b.getTaxRate())
-                .put("taxAmount",         b.getTaxAmount())
-                .put("discountAmount",    b.getDiscountAmount())
-                .put("totalAmount",       b.getTotalAmount())
-                .put("paymentStatus",     b.getPaymentStatus())
-                .put("reservationNumber", b.getReservationNumber() != null ? b.getReservationNumber() : "")
-                .put("guestName",         b.getGuestName()         != null ? b.getGuestName()         : "");
-    }
 }
\ No newline at end of file
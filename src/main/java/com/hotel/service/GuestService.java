@@ -2,7 +2,9 @@ package com.hotel.service;
 
 import com.hotel.dao.GuestDAO;
 import com.hotel.model.Guest;
-import org.json.JSONArray;
+import com.hotel.util.ModelJson;
+import com.hotel.util.Schema;
+import com.hotel.util.Validators;
 import org.json.JSONObject;
 import java.util.List;
 
@@ -10,17 +12,27 @@ public class GuestService {
 
     private final GuestDAO guestDAO = new GuestDAO();
 
+    private static final Schema GUEST = Schema.builder()
+            .field   ("guestName",     s -> s.length() >= 2,   "Guest name must be at least 2 characters")
+            .field   ("contactNumber", Validators::isContact, "Invalid contact number format")
+            .optional("email",         Validators::isEmail,   "Invalid email format")
+            .build();
+
+    // Checked against the merged values, so omitted fields keep the stored ones
+    private static final Schema GUEST_UPDATE = Schema.builder()
+            .field("guestName",     s -> s.length() >= 2,   "Guest name too short")
+            .field("contactNumber", Validators::isContact, "Invalid contact number")
+            .build();
+
     public String getAllGuests() {
         List<Guest> list = guestDAO.findAll();
-        JSONArray arr = new JSONArray();
-        for (Guest g : list) arr.put(toJson(g));
-        return arr.toString();
+        return ModelJson.array(list, ModelJson::write);
     }
 
     public String getGuest(int guestId) {
         Guest g = guestDAO.findById(guestId);
         if (g == null) throw new IllegalArgumentException("Guest not found");
-        return toJson(g).toString();
+        return ModelJson.object(g, ModelJson::write);
     }
 
     // Find existing guest or create new one
@@ -42,16 +54,10 @@ public class GuestService {
         String address = json.optString("address",       "").trim();
         String email   = json.optString("email",         "").trim();
 
-        // Validate
-        if (name.isEmpty() || name.length() < 2)
-            throw new IllegalArgumentException("Guest name must be at least 2 characters");
-        if (!contact.matches("^[0-9+\\-]{7,15}$"))
-            throw new IllegalArgumentException("Invalid contact number format");
-        if (!email.isEmpty() && !email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
-            throw new IllegalArgumentException("Invalid email format");
+        GUEST.validate(json);
 
         Guest g = findOrCreate(name, contact, address, email);
-        return toJson(g).toString();
+        return ModelJson.object(g, ModelJson::write);
     }
 
     public String updateGuest(int guestId, JSONObject json) {
@@ -63,10 +69,7 @@ public class GuestService {
         String address = json.optString("address",       g.getAddress());
         String email   = json.optString("email",         g.getEmail());
 
-        if (name.length() < 2)
-            throw new IllegalArgumentException("Guest name too short");
-        if (!contact.matches("^[0-9+\\-]{7,15}$"))
-            throw new IllegalArgumentException("Invalid contact number");
+        GUEST_UPDATE.validate(field -> field.equals("guestName") ? name : contact);
 
         g.setGuestName    (name);
         g.setContactNumber(contact);
@@ -75,15 +78,6 @@ public class GuestService {
 
         boolean ok = guestDAO.update(g);
         if (!ok) throw new RuntimeException("Update failed");
-        return toJson(g).toString();
-    }
-
-    private JSONObject toJson(Guest g) {
-        return new JSONObject()
-                .put("guestId",       g.getGuestId())
-                .put("guestName",     g.getGuestName())
-                .put("address",       g.getAddress() != null ? g.getAddress() : "")
-                .put("contactNumber", g.getContactNumber())
-                .put("email",         g.getEmail() != null ? g.getEmail() : "");
+        return ModelJson.object(g, ModelJson::write);
     }
 }
\ No newline at end of file
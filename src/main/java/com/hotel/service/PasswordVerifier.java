@@ -0,0 +1,89 @@
+package com.hotel.service;
+
+import com.hotel.util.PasswordUtil;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs password checks on a small pool of their own. A PBKDF2 check costs
+// around 150ms of CPU, so a burst of logins on the HTTP workers would hold
+// every one of them; here at most `threads` run and `queue` wait, and any
+// further login fails fast with RejectedExecutionException (answered 503)
+// while reservation traffic keeps the remaining HTTP workers.
+// A check that has not finished within timeoutMillis is also rejected.
+public class PasswordVerifier {
+
+    // Whether the password matched, and if so, a fresh hash to store when
+    // the old one was legacy or below the current cost (else null)
+    public static final class Result {
+        public final boolean matches;
+        public final String  rehash;
+
+        Result(boolean matches, String rehash) {
+            this.matches = matches;
+            this.rehash  = rehash;
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final long               timeoutMillis;
+
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordVerifier(int threads, int queue, long timeoutMillis) {
+        AtomicInteger n = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queue)), r -> {
+                    Thread t = new Thread(r, "password-verify-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public Result verify(String password, String storedHash) {
+        Future<Result> f;
+        try {
+            f = executor.submit(() -> check(password, storedHash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RejectedExecutionException("Too many logins in progress");
+        }
+        try {
+            Result r = f.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            verified.increment();
+            return r;
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            rejected.increment();
+            throw new RejectedExecutionException("Password check timed out");
+        } catch (InterruptedException e) {
+            f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for password check");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Result check(String password, String storedHash) {
+        if (!PasswordUtil.verify(password, storedHash)) return new Result(false, null);
+        return new Result(true, PasswordUtil.needsRehash(storedHash) ? PasswordUtil.hash(password) : null);
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public long getVerifiedCount() { return verified.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public int  getActiveCount()   { return executor.getActiveCount(); }
+    public int  getQueuedCount()   { return executor.getQueue().size(); }
+}
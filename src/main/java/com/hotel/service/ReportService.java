@@ -1,6 +1,7 @@
 package com.hotel.service;
 
 import com.hotel.config.DatabaseConfig;
+import com.hotel.util.Log;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import java.sql.*;
@@ -8,6 +9,8 @@ import java.time.LocalDate;
 
 public class ReportService {
 
+    private static final Log LOG = Log.get(ReportService.class);
+
     // Report 1: Room Occupancy by Type
     public String getOccupancyReport(String fromDate, String toDate) {
         validateDates(fromDate, toDate);
@@ -34,7 +37,7 @@ public class ReportService {
                         .put("totalNights",   rs.getInt   ("total_nights"))
                         .put("roomsUsed",     rs.getInt   ("rooms_used")));
             }
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("getOccupancyReport failed", e); }
         return result.toString();
     }
 
@@ -64,7 +67,7 @@ public class ReportService {
                         .put("taxTotal",   rs.getBigDecimal("tax_total"))
                         .put("grandTotal", rs.getBigDecimal("grand_total")));
             }
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("getRevenueReport failed", e); }
         return result.toString();
     }
 
@@ -97,7 +100,7 @@ public class ReportService {
                         .put("totalNights",   rs.getInt       ("total_nights"))
                         .put("totalSpent",    rs.getBigDecimal("total_spent")));
             }
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("getGuestHistoryReport failed", e); }
         return result.toString();
     }
 
@@ -124,7 +127,7 @@ public class ReportService {
                         .put("role",                 rs.getString("role"))
                         .put("reservationsCreated",  rs.getInt   ("reservations_created")));
             }
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("getStaffActivityReport failed", e); }
         return result.toString();
     }
 
@@ -141,7 +144,7 @@ public class ReportService {
                         .put("status", rs.getString("status"))
                         .put("total",  rs.getInt   ("total")));
             }
-        } catch (SQLException e) { e.printStackTrace(); }
+        } catch (SQLException e) { LOG.error("getReservationStatusReport failed", e); }
         return result.toString();
     }
 
@@ -1,13 +1,19 @@
 package com.hotel.service;
 
+import com.hotel.config.TransactionContext;
 import com.hotel.dao.ReservationDAO;
 import com.hotel.dao.RoomDAO;
 import com.hotel.model.*;
 import com.hotel.observer.NotificationService;
 import com.hotel.observer.ReservationEvent;
+import com.hotel.util.JsonStreamWriter;
+import com.hotel.util.ModelJson;
+import com.hotel.util.Schema;
 import com.hotel.util.SessionManager;
-import org.json.JSONArray;
+import com.hotel.util.Validators;
 import org.json.JSONObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -15,22 +21,92 @@ import java.util.UUID;
 
 public class ReservationService {
 
-    private final ReservationDAO resDAO   = new ReservationDAO();
-    private final RoomDAO        roomDAO  = new RoomDAO();
-    private final GuestService   guestSvc = new GuestService();
-    private final RoomService    roomSvc  = new RoomService();
+    private final ReservationDAO      resDAO;
+    private final RoomDAO             roomDAO;
+    private final RoomAllocator       allocator;
+    private final AvailabilityIndex   index;
+    private final NotificationService notifications;
+    private final GuestService        guestSvc = new GuestService();
+    private final RoomService         roomSvc  = new RoomService();
+
+    public ReservationService() {
+        this(new ReservationDAO(), new RoomDAO(), RoomAllocator.getInstance(),
+             AvailabilityIndex.getInstance(), NotificationService.getInstance());
+    }
+
+    ReservationService(ReservationDAO resDAO, RoomDAO roomDAO, RoomAllocator allocator,
+                       AvailabilityIndex index, NotificationService notifications) {
+        this.resDAO        = resDAO;
+        this.roomDAO       = roomDAO;
+        this.allocator     = allocator;
+        this.index         = index;
+        this.notifications = notifications;
+    }
+
+    private static final Schema BOOKING = Schema.builder()
+            .field   ("guestName",     s -> s.length() >= 2,   "Guest name must be at least 2 characters")
+            .field   ("contactNumber", Validators::isContact, "Invalid contact number (7-15 digits)")
+            .optional("email",         Validators::isEmail,   "Invalid email address")
+            .required("checkinDate",                          "Check-in date required")
+            .field   ("checkinDate",   Validators::isDate,    "Invalid check-in date format")
+            .required("checkoutDate",                         "Check-out date required")
+            .field   ("checkoutDate",  Validators::isDate,    "Invalid check-out date format")
+            .field   ("roomType",      Validators.ROOM_TYPES::contains, "Invalid room type")
+            .build();
 
     public String getAllReservations() {
-        List<Reservation> list = resDAO.findAll();
-        JSONArray arr = new JSONArray();
-        for (Reservation r : list) arr.put(toJson(r));
-        return arr.toString();
+        return ModelJson.render(this::writeAllReservations);
+    }
+
+    // All reservations as a JSON array, serialized row by row as the DAO reads them
+    public void writeAllReservations(JsonStreamWriter w) throws IOException {
+        w.beginArray();
+        stream(null, 0, r -> ModelJson.write(w, r));
+        w.endArray();
+    }
+
+    public String getReservations(ReservationQuery q) {
+        return ModelJson.render(w -> writeReservations(q, w));
+    }
+
+    // One keyset page: {"items":[...], "limit": n, "nextCursor": "..." | null}
+    public void writeReservations(ReservationQuery q, JsonStreamWriter w) throws IOException {
+        Reservation[] last = new Reservation[1];
+        int[] written = new int[1];
+        w.beginObject().name("items").beginArray();
+        // One row past the page tells us whether there is a next page
+        int rows = stream(q, q.getLimit() + 1, r -> {
+            if (written[0] == q.getLimit()) return;
+            ModelJson.write(w, r);
+            last[0] = r;
+            written[0]++;
+        });
+        w.endArray()
+         .name("limit").value(q.getLimit())
+         .name("nextCursor").value(rows > q.getLimit() ? ReservationQuery.encodeCursor(last[0]) : null)
+         .endObject();
     }
 
+    private interface RowWriter { void write(Reservation r) throws IOException; }
+
+    // Lets the DAO's row callback write to the response; IOException is
+    // tunnelled out of the Consumer and rethrown here
+    private int stream(ReservationQuery q, int limit, RowWriter rowWriter) throws IOException {
+        try {
+            return resDAO.stream(q, limit, r -> {
+                try { rowWriter.write(r); }
+                catch (IOException e) { throw new UncheckedIOException(e); }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+
     public String getReservation(String number) {
         Reservation r = resDAO.findByNumber(number);
         if (r == null) throw new IllegalArgumentException("Reservation not found: " + number);
-        return toJson(r).toString();
+        return ModelJson.object(r, ModelJson::write);
     }
 
     public String createReservation(JSONObject json, String token) {
@@ -38,31 +114,15 @@ public class ReservationService {
         Staff staff = SessionManager.getInstance().getSession(token);
         if (staff == null) throw new IllegalArgumentException("Invalid session");
 
-        // 2. Validate guest fields
+        // 2-4. Validate guest fields, dates and room type; every failure is reported
+        BOOKING.validate(json);
         String guestName = json.optString("guestName", "").trim();
         String contact   = json.optString("contactNumber", "").trim();
         String address   = json.optString("address", "").trim();
         String email     = json.optString("email", "").trim();
-
-        if (guestName.length() < 2)
-            throw new IllegalArgumentException("Guest name must be at least 2 characters");
-        if (!contact.matches("^[0-9+\\-]{7,15}$"))
-            throw new IllegalArgumentException("Invalid contact number (7-15 digits)");
-        if (!email.isEmpty() && !email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
-            throw new IllegalArgumentException("Invalid email address");
-
-        // 3. Validate dates
-        String checkinStr  = json.optString("checkinDate", "");
-        String checkoutStr = json.optString("checkoutDate", "");
-
-        if (checkinStr.isEmpty())  throw new IllegalArgumentException("Check-in date required");
-        if (checkoutStr.isEmpty()) throw new IllegalArgumentException("Check-out date required");
-
-        LocalDate checkin, checkout;
-        try { checkin  = LocalDate.parse(checkinStr);  }
-        catch(Exception e) { throw new IllegalArgumentException("Invalid check-in date format"); }
-        try { checkout = LocalDate.parse(checkoutStr); }
-        catch(Exception e) { throw new IllegalArgumentException("Invalid check-out date format"); }
+        String roomType  = json.optString("roomType", "").trim();
+        LocalDate checkin  = LocalDate.parse(json.optString("checkinDate", "").trim());
+        LocalDate checkout = LocalDate.parse(json.optString("checkoutDate", "").trim());
 
         if (checkin.isBefore(LocalDate.now()))
             throw new IllegalArgumentException("Check-in date cannot be in the past");
@@ -71,42 +131,46 @@ public class ReservationService {
         if (ChronoUnit.DAYS.between(checkin, checkout) > 365)
             throw new IllegalArgumentException("Stay cannot exceed 365 nights");
 
-        // 4. Validate room type
-        String roomType = json.optString("roomType", "").trim();
-        if (!List.of("Single","Double","Deluxe","Suite").contains(roomType))
-            throw new IllegalArgumentException("Invalid room type");
-
         // 5. Check availability
-        List<Room> available = roomDAO.findAvailableRooms(roomType, checkin, checkout);
+        List<Room> available = roomSvc.findAvailableRooms(roomType, checkin, checkout);
         if (available.isEmpty())
             throw new IllegalArgumentException("No " + roomType + " rooms available for selected dates");
 
-        // 6. Find/create guest
-        Guest guest = guestSvc.findOrCreate(guestName, contact, address, email);
-
-        // 7. Assign first available room
-        Room room = available.get(0);
-
-        // 8. Create reservation
+        // 6-9. Find/create guest, allocate a room, create the reservation and
+        //      update room status — one transaction, so a failure leaves no
+        //      orphan guest or half-booked room.
+        //      The allocator re-checks availability under a per-room lock,
+        //      so concurrent bookings can't take the same room.
         String resNumber = "RES-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        Reservation res = new Reservation(resNumber, guest.getGuestId(),
-                room.getRoomId(), staff.getStaffId(),
-                checkin, checkout);
-        boolean saved = resDAO.save(res);
-        if (!saved) throw new RuntimeException("Failed to save reservation");
-
-        // 9. Update room status
-        roomDAO.updateStatus(room.getRoomId(), "OCCUPIED");
+        Reservation res = TransactionContext.inTransaction(() -> {
+            Guest guest = guestSvc.findOrCreate(guestName, contact, address, email);
+            Reservation booked = allocator.allocate(available, checkin, checkout, room -> {
+                Reservation r = new Reservation(resNumber, guest.getGuestId(),
+                        room.getRoomId(), staff.getStaffId(),
+                        checkin, checkout);
+                r.setRoomNumber(room.getRoomNumber());
+                boolean saved = resDAO.save(r);
+                if (!saved) throw new RuntimeException("Failed to save reservation");
+                if (!roomDAO.updateStatus(room.getRoomId(), "OCCUPIED"))
+                    throw new RuntimeException("Failed to update room status");
+                // The allocator indexes the stay before commit; undo that if we roll back
+                TransactionContext.onRollback(() -> index.remove(resNumber));
+                return r;
+            });
+            if (booked == null)
+                throw new IllegalArgumentException("No " + roomType + " rooms available for selected dates");
+            return booked;
+        });
 
         // 10. Notify observers
-        NotificationService.getInstance().notifyCreated(
+        notifications.notifyCreated(
                 new ReservationEvent(res, "CREATED"));
 
         return new JSONObject()
                 .put("message",           "Reservation confirmed")
                 .put("reservationNumber", resNumber)
                 .put("guestName",         guestName)
-                .put("roomNumber",        room.getRoomNumber())
+                .put("roomNumber",        res.getRoomNumber())
                 .put("checkinDate",       checkin.toString())
                 .put("checkoutDate",      checkout.toString())
                 .toString();
@@ -120,6 +184,8 @@ public class ReservationService {
             throw new IllegalArgumentException("Cannot update a " + res.getStatus() + " reservation");
 
         // Update dates if provided
+        LocalDate oldCheckin  = res.getCheckinDate();
+        LocalDate oldCheckout = res.getCheckoutDate();
         if (json.has("checkinDate")) {
             LocalDate newCheckin = LocalDate.parse(json.getString("checkinDate"));
             if (newCheckin.isBefore(LocalDate.now()))
@@ -134,13 +200,32 @@ public class ReservationService {
         }
         if (json.has("status")) {
             String newStatus = json.getString("status");
-            if (!List.of("CONFIRMED","CHECKED_IN","CHECKED_OUT","CANCELLED").contains(newStatus))
+            if (!Validators.RESERVATION_STATUSES.contains(newStatus))
                 throw new IllegalArgumentException("Invalid status value");
             res.setStatus(newStatus);
         }
 
-        boolean ok = resDAO.update(res);
-        if (!ok) throw new RuntimeException("Update failed");
+        // Only a stay that still holds the room is checked for overlaps; one
+        // being cancelled or checked out at the same time gives it up
+        boolean moved = !res.getCheckinDate().equals(oldCheckin)
+                     || !res.getCheckoutDate().equals(oldCheckout);
+        if (moved && AvailabilityIndex.isActive(res.getStatus())) {
+            // New dates are checked against the room's other stays under the
+            // allocator's room lock, the same as a new booking
+            boolean ok = allocator.reschedule(res, () -> {
+                if (!resDAO.update(res)) throw new RuntimeException("Update failed");
+            });
+            if (!ok)
+                throw new IllegalArgumentException("Room " + res.getRoomNumber()
+                        + " is already booked for the new dates");
+        } else {
+            boolean ok = resDAO.update(res);
+            if (!ok) throw new RuntimeException("Update failed");
+            index.put(res);
+        }
+
+        notifications.notifyUpdated(new ReservationEvent(res, ReservationEvent.UPDATED));
+
         return new JSONObject().put("message", "Reservation updated").toString();
     }
 
@@ -153,27 +238,18 @@ public class ReservationService {
         if (res.getStatus().equals("CANCELLED"))
             throw new IllegalArgumentException("Reservation is already cancelled");
 
-        resDAO.updateStatus(number, "CANCELLED");
-        roomDAO.updateStatus(res.getRoomId(), "AVAILABLE");
+        TransactionContext.inTransaction(() -> {
+            if (!resDAO.updateStatus(number, "CANCELLED"))
+                throw new RuntimeException("Cancel failed");
+            if (!roomDAO.updateStatus(res.getRoomId(), "AVAILABLE"))
+                throw new RuntimeException("Failed to update room status");
+        });
+        index.remove(number);
 
-        NotificationService.getInstance().notifyCancelled(
+        notifications.notifyCancelled(
                 new ReservationEvent(res, "CANCELLED"));
 
         return new JSONObject().put("message", "Reservation cancelled").toString();
     }
 
-    private JSONObject toJson(Reservation r) {
-        return new JSONObject()
-                .put("reservationId",     r.getReservationId())
-                .put("reservationNumber", r.getReservationNumber())
-                .put("guestId",           r.getGuestId())
-                .put("roomId",            r.getRoomId())
-                .put("staffId",           r.getStaffId())
-                .put("checkinDate",       r.getCheckinDate().toString())
-                .put("checkoutDate",      r.getCheckoutDate().toString())
-                .put("status",            r.getStatus())
-                .put("guestName",         r.getGuestName()  != null ? r.getGuestName()  : "")
-                .put("roomNumber",        r.getRoomNumber() != null ? r.getRoomNumber() : "")
-                .put("staffName",         r.getStaffName()  != null ? r.getStaffName()  : "");
-    }
 }
\ No newline at end of file
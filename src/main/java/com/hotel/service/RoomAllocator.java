@@ -0,0 +1,105 @@
+package com.hotel.service;
+
+import com.hotel.model.Reservation;
+import com.hotel.model.Room;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Double-booking-safe room allocation.
+// The availability re-check and the insert for a room run under a lock
+// striped by room_id, so two desks can never both book the same room for
+// overlapping dates. Each request starts at a different candidate, which
+// spreads concurrent bookings across rooms instead of queueing them all
+// on the first one.
+public class RoomAllocator {
+
+    private static final int STRIPES = 64;
+
+    private static final RoomAllocator INSTANCE =
+            new RoomAllocator(AvailabilityIndex.getInstance(), STRIPES);
+
+    public static RoomAllocator getInstance() { return INSTANCE; }
+
+    private final AvailabilityIndex index;
+    private final ReentrantLock[]   locks;
+    private final AtomicInteger     cursor = new AtomicInteger();
+
+    RoomAllocator(AvailabilityIndex index, int stripes) {
+        this.index = index;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) locks[i] = new ReentrantLock();
+    }
+
+    // Books the first candidate that is still free for [checkin, checkout).
+    // persist saves the reservation for the given room and returns it (it
+    // should throw if the insert fails). Returns null when every candidate
+    // has been taken in the meantime.
+    public Reservation allocate(List<Room> candidates,
+                                LocalDate checkin, LocalDate checkout,
+                                Function<Room, Reservation> persist) {
+        int n = candidates.size();
+        if (n == 0) return null;
+        int start = Math.floorMod(cursor.getAndIncrement(), n);
+
+        // Pass 1: skip rooms another request is booking right now
+        for (int i = 0; i < n; i++) {
+            Room room = candidates.get((start + i) % n);
+            ReentrantLock lock = lockFor(room.getRoomId());
+            if (!lock.tryLock()) continue;
+            try {
+                Reservation r = tryBook(room, checkin, checkout, persist);
+                if (r != null) return r;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Pass 2: wait for the busy rooms — their holders may have failed
+        for (int i = 0; i < n; i++) {
+            Room room = candidates.get((start + i) % n);
+            ReentrantLock lock = lockFor(room.getRoomId());
+            lock.lock();
+            try {
+                Reservation r = tryBook(room, checkin, checkout, persist);
+                if (r != null) return r;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    // Moves an existing stay to the dates now set on `updated` (same room)
+    // under that room's lock. persist writes the change and should throw if
+    // it fails. Returns false, writing nothing, if another stay overlaps.
+    public boolean reschedule(Reservation updated, Runnable persist) {
+        ReentrantLock lock = lockFor(updated.getRoomId());
+        lock.lock();
+        try {
+            if (!index.isAvailable(updated.getRoomId(), updated.getCheckinDate(),
+                    updated.getCheckoutDate(), updated.getReservationNumber()))
+                return false;
+            persist.run();
+            index.put(updated);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Reservation tryBook(Room room, LocalDate checkin, LocalDate checkout,
+                                Function<Room, Reservation> persist) {
+        if (!index.isAvailable(room.getRoomId(), checkin, checkout)) return null;
+        Reservation r = persist.apply(room);
+        if (r != null) index.put(r);
+        return r;
+    }
+
+    private ReentrantLock lockFor(int roomId) {
+        int h = roomId * 0x9E3779B9;   // spread sequential ids over the stripes
+        return locks[Math.floorMod(h ^ (h >>> 16), locks.length)];
+    }
+}
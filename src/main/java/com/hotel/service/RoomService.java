@@ -2,25 +2,24 @@ package com.hotel.service;
 
 import com.hotel.dao.ReservationDAO;
 import com.hotel.dao.RoomDAO;
-import com.hotel.dao.RoomRateDAO;
+import com.hotel.dao.RoomRateCache;
 import com.hotel.model.Room;
 import com.hotel.model.RoomRate;
-import org.json.JSONArray;
+import com.hotel.util.ModelJson;
+import com.hotel.util.Validators;
 import org.json.JSONObject;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 public class RoomService {
 
     private final RoomDAO        roomDAO  = new RoomDAO();
-    private final RoomRateDAO    rateDAO  = new RoomRateDAO();
     private final ReservationDAO resDAO   = new ReservationDAO();
 
     public String getAllRooms() {
         List<Room> list = roomDAO.findAll();
-        JSONArray arr = new JSONArray();
-        for (Room r : list) arr.put(toJson(r));
-        return arr.toString();
+        return ModelJson.array(list, ModelJson::write);
     }
 
     public String getAvailableRooms(String typeName,
@@ -29,7 +28,7 @@ public class RoomService {
         // Validate inputs
         if (typeName == null || typeName.isEmpty())
             throw new IllegalArgumentException("Room type is required");
-        if (!List.of("Single","Double","Deluxe","Suite").contains(typeName))
+        if (!Validators.ROOM_TYPES.contains(typeName))
             throw new IllegalArgumentException("Invalid room type");
 
         LocalDate checkin  = parseDate(checkinStr,  "Check-in date");
@@ -38,10 +37,21 @@ public class RoomService {
         if (!checkin.isBefore(checkout))
             throw new IllegalArgumentException("Check-out must be after check-in");
 
-        List<Room> list = roomDAO.findAvailableRooms(typeName, checkin, checkout);
-        JSONArray arr = new JSONArray();
-        for (Room r : list) arr.put(toJson(r));
-        return arr.toString();
+        List<Room> list = findAvailableRooms(typeName, checkin, checkout);
+        return ModelJson.array(list, ModelJson::write);
+    }
+
+    // Rooms of the type with no active stay overlapping the dates;
+    // overlap checks are answered by the in-memory AvailabilityIndex
+    public List<Room> findAvailableRooms(String typeName,
+                                         LocalDate checkin,
+                                         LocalDate checkout) {
+        AvailabilityIndex index = AvailabilityIndex.getInstance();
+        List<Room> list = new ArrayList<>();
+        for (Room r : roomDAO.findAvailableByType(typeName)) {
+            if (index.isAvailable(r.getRoomId(), checkin, checkout)) list.add(r);
+        }
+        return list;
     }
 
     public String createRoom(JSONObject json) {
@@ -54,9 +64,9 @@ public class RoomService {
             throw new IllegalArgumentException("Room number is required");
         if (floor < 1 || floor > 50)
             throw new IllegalArgumentException("Floor number must be between 1 and 50");
-        if (!List.of("Single","Double","Deluxe","Suite").contains(typeName))
+        if (!Validators.ROOM_TYPES.contains(typeName))
             throw new IllegalArgumentException("Room type must be Single, Double, Deluxe or Suite");
-        if (!List.of("AVAILABLE","OCCUPIED","MAINTENANCE").contains(status))
+        if (!Validators.ROOM_STATUSES.contains(status))
             throw new IllegalArgumentException("Invalid room status");
         if (roomDAO.roomNumberExists(roomNumber, 0))
             throw new IllegalArgumentException("Room number '" + roomNumber + "' already exists");
@@ -84,9 +94,9 @@ public class RoomService {
             throw new IllegalArgumentException("Room number is required");
         if (floor < 1 || floor > 50)
             throw new IllegalArgumentException("Floor number must be between 1 and 50");
-        if (!List.of("Single","Double","Deluxe","Suite").contains(typeName))
+        if (!Validators.ROOM_TYPES.contains(typeName))
             throw new IllegalArgumentException("Invalid room type");
-        if (!List.of("AVAILABLE","OCCUPIED","MAINTENANCE").contains(status))
+        if (!Validators.ROOM_STATUSES.contains(status))
             throw new IllegalArgumentException("Invalid room status");
         if (roomDAO.roomNumberExists(roomNumber, roomId))
             throw new IllegalArgumentException("Room number '" + roomNumber + "' already in use");
@@ -117,8 +127,7 @@ public class RoomService {
     }
 
     public String updateRoomStatus(int roomId, String status) {
-        List<String> valid = List.of("AVAILABLE","OCCUPIED","MAINTENANCE");
-        if (!valid.contains(status))
+        if (!Validators.ROOM_STATUSES.contains(status))
             throw new IllegalArgumentException("Invalid room status");
         boolean ok = roomDAO.updateStatus(roomId, status);
         if (!ok) throw new RuntimeException("Update failed");
@@ -134,7 +143,7 @@ public class RoomService {
     public RoomRate getCurrentRate(int roomId) {
         Room r = roomDAO.findById(roomId);
         if (r == null) throw new IllegalArgumentException("Room not found");
-        RoomRate rate = rateDAO.findCurrentRate(r.getRoomTypeId());
+        RoomRate rate = RoomRateCache.getInstance().currentRate(r.getRoomTypeId());
         if (rate == null) throw new RuntimeException("No rate found for this room type");
         return rate;
     }
@@ -145,14 +154,4 @@ public class RoomService {
             throw new IllegalArgumentException(fieldName + " is invalid (use YYYY-MM-DD)");
         }
     }
-
-    private JSONObject toJson(Room r) {
-        return new JSONObject()
-                .put("roomId",      r.getRoomId())
-                .put("roomNumber",  r.getRoomNumber())
-                .put("floorNumber", r.getFloorNumber())
-                .put("roomTypeId",  r.getRoomTypeId())
-                .put("typeName",    r.getTypeName() != null ? r.getTypeName() : "")
-                .put("roomStatus",  r.getRoomStatus());
-    }
 }
\ No newline at end of file
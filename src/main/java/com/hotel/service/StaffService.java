@@ -4,7 +4,9 @@ import com.hotel.dao.ReservationDAO;
 import com.hotel.dao.StaffDAO;
 import com.hotel.model.Staff;
 import com.hotel.util.PasswordUtil;
-import org.json.JSONArray;
+import com.hotel.util.ModelJson;
+import com.hotel.util.Schema;
+import com.hotel.util.Validators;
 import org.json.JSONObject;
 import java.util.List;
 
@@ -13,11 +15,27 @@ public class StaffService {
     private final StaffDAO       staffDAO = new StaffDAO();
     private final ReservationDAO resDAO   = new ReservationDAO();
 
+    private static final Schema NEW_STAFF = Schema.builder()
+            .field   ("username", s -> s.length() >= 3 && s.length() <= 50, "Username must be 3-50 characters")
+            .field   ("username", Validators::isUsername,
+                      "Username can only contain letters, numbers and underscore")
+            .field   ("password", s -> s.length() >= 6, "Password must be at least 6 characters")
+            .field   ("password", Validators::hasDigit, "Password must contain at least one digit")
+            .field   ("fullName", s -> s.length() >= 2, "Full name is required")
+            .optional("email",    Validators::isEmail,  "Invalid email address")
+            .field   ("role",     Validators.ROLES::contains, "Role must be admin or receptionist")
+            .build();
+
+    // Checked against the merged values, so omitted fields keep the stored ones
+    private static final Schema STAFF_UPDATE = Schema.builder()
+            .field   ("fullName", s -> s.length() >= 2, "Full name is required")
+            .optional("email",    Validators::isEmail,  "Invalid email")
+            .field   ("role",     Validators.ROLES::contains, "Invalid role")
+            .build();
+
     public String getAllStaff() {
         List<Staff> list = staffDAO.findAll();
-        JSONArray arr = new JSONArray();
-        for (Staff s : list) arr.put(toJson(s));
-        return arr.toString();
+        return ModelJson.array(list, ModelJson::write);
     }
 
     public String createStaff(JSONObject json) {
@@ -27,21 +45,7 @@ public class StaffService {
         String email    = json.optString("email",     "").trim();
         String role     = json.optString("role",      "").trim();
 
-        // Validate
-        if (username.length() < 3 || username.length() > 50)
-            throw new IllegalArgumentException("Username must be 3-50 characters");
-        if (!username.matches("^[a-zA-Z0-9_]+$"))
-            throw new IllegalArgumentException("Username can only contain letters, numbers and underscore");
-        if (password.length() < 6)
-            throw new IllegalArgumentException("Password must be at least 6 characters");
-        if (!password.matches(".*\\d.*"))
-            throw new IllegalArgumentException("Password must contain at least one digit");
-        if (fullName.length() < 2)
-            throw new IllegalArgumentException("Full name is required");
-        if (!email.isEmpty() && !email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
-            throw new IllegalArgumentException("Invalid email address");
-        if (!List.of("admin","receptionist").contains(role))
-            throw new IllegalArgumentException("Role must be admin or receptionist");
+        NEW_STAFF.validate(json);
         if (staffDAO.usernameExists(username))
             throw new IllegalArgumentException("Username already exists");
 
@@ -59,12 +63,11 @@ public class StaffService {
         String email    = json.optString("email",    s.getEmail()).trim();
         String role     = json.optString("role",     s.getRole()).trim();
 
-        if (fullName.length() < 2)
-            throw new IllegalArgumentException("Full name is required");
-        if (!email.isEmpty() && !email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
-            throw new IllegalArgumentException("Invalid email");
-        if (!List.of("admin","receptionist").contains(role))
-            throw new IllegalArgumentException("Invalid role");
+        STAFF_UPDATE.validate(field -> switch (field) {
+            case "fullName" -> fullName;
+            case "email"    -> email;
+            default         -> role;
+        });
 
         s.setFullName(fullName);
         s.setEmail   (email);
@@ -85,14 +88,4 @@ public class StaffService {
         if (!ok) throw new RuntimeException("Delete failed");
         return new JSONObject().put("message", "Staff deleted").toString();
     }
-
-    private JSONObject toJson(Staff s) {
-        return new JSONObject()
-                .put("staffId",  s.getStaffId())
-                .put("username", s.getUsername())
-                .put("fullName", s.getFullName())
-                .put("email",    s.getEmail())
-                .put("role",     s.getRole());
-        // Note: never include passwordHash in JSON response
-    }
 }
\ No newline at end of file
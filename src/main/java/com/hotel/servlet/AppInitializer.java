@@ -1,5 +1,7 @@
 package com.hotel.servlet;
 
+import com.hotel.service.AvailabilityIndex;
+import com.hotel.util.Log;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
@@ -7,15 +9,20 @@ import jakarta.servlet.annotation.WebListener;
 @WebListener
 public class AppInitializer implements ServletContextListener {
 
+    private static final Log LOG = Log.get(AppInitializer.class);
+
     @Override
     public void contextInitialized(ServletContextEvent sce) {
-        System.out.println("=================================");
-        System.out.println("  Hotel System Starting Up...   ");
-        System.out.println("=================================");
+        LOG.info("Hotel System starting up");
+        try {
+            AvailabilityIndex.getInstance().load();
+        } catch (Exception e) {
+            LOG.warn("Availability index not loaded, will retry on first use: {}", e.getMessage());
+        }
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
-        System.out.println("[AppInitializer] Hotel System shutting down...");
+        LOG.info("Hotel System shutting down");
     }
 }
@@ -1,15 +1,20 @@
 package com.hotel.servlet;
 
 import com.hotel.service.AuthService;
+import com.hotel.util.Log;
+import com.hotel.util.TooManyRequestsException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.json.JSONObject;
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
 
 @WebServlet("/api/auth/*")
 public class AuthServlet extends BaseServlet {
 
+    private static final Log LOG = Log.get(AuthServlet.class);
+
     private final AuthService authService = new AuthService();
 
     @Override
@@ -22,7 +27,6 @@ public class AuthServlet extends BaseServlet {
         res.setHeader("Access-Control-Allow-Headers", "Content-Type,Authorization");
 
         String path = req.getPathInfo();
-        System.out.println("[AuthServlet] POST path: " + path);
 
         try {
             if (path == null) {
@@ -30,13 +34,8 @@ public class AuthServlet extends BaseServlet {
             }
 
             if (path.equals("/login")) {
-                String body = readBody(req);
-                System.out.println("[AuthServlet] Login body: " + body);
-
-                JSONObject json   = new JSONObject(body);
-                String     result = authService.login(json);
-
-                System.out.println("[AuthServlet] Login result: " + result);
+                JSONObject json   = new JSONObject(readBody(req));
+                String     result = authService.login(json, req.getRemoteAddr());
                 sendJson(res, 200, result);
 
             } else if (path.equals("/logout")) {
@@ -51,12 +50,19 @@ public class AuthServlet extends BaseServlet {
             }
 
         } catch (IllegalArgumentException e) {
-            System.err.println("[AuthServlet] Bad request: " + e.getMessage());
+            LOG.debug("Bad request: {}", e.getMessage());
             sendError(res, 400, e.getMessage());
 
+        } catch (TooManyRequestsException e) {
+            res.setHeader("Retry-After", String.valueOf(e.getRetryAfterSeconds()));
+            sendError(res, 429, e.getMessage());
+
+        } catch (RejectedExecutionException e) {
+            res.setHeader("Retry-After", "1");
+            sendError(res, 503, e.getMessage());
+
         } catch (Exception e) {
-            System.err.println("[AuthServlet] Server error: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e);
             sendError(res, 500, "Internal server error: " + e.getMessage());
         }
     }
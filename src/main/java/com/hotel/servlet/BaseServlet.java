@@ -3,24 +3,54 @@ package com.hotel.servlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.hotel.util.JsonStreamWriter;
 import com.hotel.util.SessionManager;
+import com.hotel.util.Log;
 import org.json.JSONObject;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 public abstract class BaseServlet extends HttpServlet {
 
+    private static final Log LOG = Log.get(BaseServlet.class);
+
     protected void sendJson(HttpServletResponse res,
                             int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
         res.setStatus(status);
         res.setContentType("application/json;charset=UTF-8");
         setCorsHeaders(res);
-        PrintWriter out = res.getWriter();
-        out.print(json);
+        res.setContentLength(bytes.length);
+        OutputStream out = res.getOutputStream();
+        out.write(bytes);
         out.flush();
     }
 
+    // Serializes the body straight into the response stream; the container
+    // switches to chunked encoding once its buffer fills. If the body fails
+    // before the response is committed the buffer is discarded and the
+    // exception propagates so the caller can still send an error.
+    protected void streamJson(HttpServletResponse res, int status,
+                              JsonStreamWriter.Body body) throws IOException {
+        res.setStatus(status);
+        res.setContentType("application/json;charset=UTF-8");
+        setCorsHeaders(res);
+        JsonStreamWriter w = new JsonStreamWriter(res.getOutputStream());
+        try {
+            body.writeTo(w);
+            w.flush();
+        } catch (IOException | RuntimeException e) {
+            if (res.isCommitted()) {
+                LOG.warn("Response aborted mid-stream: {}", e.getMessage());
+                return;
+            }
+            res.resetBuffer();
+            throw e;
+        }
+    }
+
     protected void sendError(HttpServletResponse res,
                              int code, String message) throws IOException {
         String json = new JSONObject()
@@ -41,8 +71,6 @@ public abstract class BaseServlet extends HttpServlet {
 
     protected String getToken(HttpServletRequest req) {
         String auth = req.getHeader("Authorization");
-        System.out.println("[BaseServlet] Authorization header: " +
-                (auth != null ? auth.substring(0, Math.min(30, auth.length())) : "NULL"));
         if (auth != null && auth.startsWith("Bearer ")) {
             return auth.substring(7).trim();
         }
@@ -50,11 +78,7 @@ public abstract class BaseServlet extends HttpServlet {
     }
 
     protected boolean isAuthenticated(HttpServletRequest req) {
-        String token = getToken(req);
-        boolean valid = SessionManager.getInstance().isValid(token);
-        System.out.println("[BaseServlet] isAuthenticated: " + valid +
-                " token=" + (token != null ? token.substring(0,8)+"..." : "null"));
-        return valid;
+        return SessionManager.getInstance().isValid(getToken(req));
     }
 
     protected boolean isAdmin(HttpServletRequest req) {
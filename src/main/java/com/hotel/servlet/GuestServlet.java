@@ -1,6 +1,7 @@
 package com.hotel.servlet;
 
 import com.hotel.service.GuestService;
+import com.hotel.util.Log;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,6 +12,8 @@ import java.io.IOException;
 @WebServlet("/api/guests/*")
 public class GuestServlet extends BaseServlet {
 
+    private static final Log LOG = Log.get(GuestServlet.class);
+
     private final GuestService service = new GuestService();
 
     @Override
@@ -28,7 +31,7 @@ public class GuestServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -42,7 +45,7 @@ public class GuestServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -57,7 +60,7 @@ public class GuestServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.hotel.servlet;
 
 import com.hotel.service.ReportService;
+import com.hotel.util.Log;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,6 +12,8 @@ import java.time.LocalDate;
 @WebServlet("/api/reports/*")
 public class ReportServlet extends BaseServlet {
 
+    private static final Log LOG = Log.get(ReportServlet.class);
+
     private final ReportService service = new ReportService();
 
     @Override
@@ -46,7 +49,7 @@ public class ReportServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 }
@@ -1,6 +1,8 @@
 package com.hotel.servlet;
 
+import com.hotel.model.ReservationQuery;
 import com.hotel.service.ReservationService;
+import com.hotel.util.Log;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,28 +13,29 @@ import java.io.IOException;
 @WebServlet("/api/reservations/*")
 public class ReservationServlet extends BaseServlet {
 
+    private static final Log LOG = Log.get(ReservationServlet.class);
+
     private final ReservationService service = new ReservationService();
 
     @Override
     protected void doGet(HttpServletRequest req,
                          HttpServletResponse res) throws IOException {
 
-        System.out.println("[ReservationServlet] GET request");
-        System.out.println("[ReservationServlet] Auth header: " +
-                req.getHeader("Authorization"));
-
         if (!isAuthenticated(req)) {
-            System.out.println("[ReservationServlet] NOT authenticated — returning 401");
             sendError(res, 401, "Unauthorized");
             return;
         }
 
-        System.out.println("[ReservationServlet] Authenticated OK");
-
         try {
             String path = req.getPathInfo();
             if (path == null || path.equals("/")) {
-                sendJson(res, 200, service.getAllReservations());
+                // Any paging/filter parameter switches to the keyset page format
+                if (ReservationQuery.PARAMS.stream().anyMatch(p -> req.getParameter(p) != null)) {
+                    ReservationQuery q = ReservationQuery.fromParams(req::getParameter);
+                    streamJson(res, 200, w -> service.writeReservations(q, w));
+                } else {
+                    streamJson(res, 200, service::writeAllReservations);
+                }
             } else {
                 String number = path.substring(1);
                 sendJson(res, 200, service.getReservation(number));
@@ -40,7 +43,7 @@ public class ReservationServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e);
             sendError(res, 500, "Server error: " + e.getMessage());
         }
     }
@@ -55,7 +58,7 @@ public class ReservationServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -71,7 +74,7 @@ public class ReservationServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -86,7 +89,7 @@ public class ReservationServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 }
\ No newline at end of file
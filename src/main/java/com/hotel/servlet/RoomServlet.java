@@ -1,6 +1,7 @@
 package com.hotel.servlet;
 
 import com.hotel.service.RoomService;
+import com.hotel.util.Log;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,6 +12,8 @@ import java.io.IOException;
 @WebServlet("/api/rooms/*")
 public class RoomServlet extends BaseServlet {
 
+    private static final Log LOG = Log.get(RoomServlet.class);
+
     private final RoomService service = new RoomService();
 
     @Override
@@ -34,7 +37,7 @@ public class RoomServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -49,7 +52,7 @@ public class RoomServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -75,7 +78,7 @@ public class RoomServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 
@@ -91,7 +94,7 @@ public class RoomServlet extends BaseServlet {
         } catch (IllegalArgumentException e) {
             sendError(res, 400, e.getMessage());
         } catch (Exception e) {
-            e.printStackTrace(); sendError(res, 500, "Server error");
+            LOG.error("Request failed: " + req.getMethod() + " " + req.getRequestURI(), e); sendError(res, 500, "Server error");
         }
     }
 }
@@ -0,0 +1,201 @@
+package com.hotel.util;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+// Minimal forward-only JSON generator that writes straight to a stream,
+// so large responses are serialized as rows are read instead of being
+// built up as a JSONArray, then a String, then a byte[].
+//
+//   w.beginObject().name("items").beginArray();
+//   for (...) w.value(row);
+//   w.endArray().name("nextCursor").value(cursor).endObject();
+public class JsonStreamWriter implements Closeable {
+
+    // A response body written through a JsonStreamWriter
+    @FunctionalInterface
+    public interface Body {
+        void writeTo(JsonStreamWriter w) throws IOException;
+    }
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Writer    out;
+    private final boolean[] hasElements = new boolean[MAX_DEPTH];   // per open container
+    private int             depth;
+    private boolean         afterName;
+
+    public JsonStreamWriter(OutputStream os) {
+        this(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+    }
+
+    public JsonStreamWriter(Writer out) {
+        this.out = out;
+    }
+
+    // ─── Structure ────────────────────────────────────────────────────────
+
+    public JsonStreamWriter beginObject() throws IOException { return open('{'); }
+    public JsonStreamWriter endObject()   throws IOException { return close('}'); }
+    public JsonStreamWriter beginArray()  throws IOException { return open('['); }
+    public JsonStreamWriter endArray()    throws IOException { return close(']'); }
+
+    public JsonStreamWriter name(String name) throws IOException {
+        separate();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    // Field name escaped and quoted once, up front
+    public static final class Name {
+        private final char[] chars;
+
+        private Name(char[] chars) { this.chars = chars; }
+
+        public static Name of(String name) {
+            StringWriter sw = new StringWriter(name.length() + 3);
+            try {
+                new JsonStreamWriter(sw).writeString(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            sw.write(':');
+            return new Name(sw.toString().toCharArray());
+        }
+    }
+
+    public JsonStreamWriter name(Name name) throws IOException {
+        separate();
+        out.write(name.chars);
+        afterName = true;
+        return this;
+    }
+
+    private JsonStreamWriter open(char c) throws IOException {
+        if (depth == MAX_DEPTH) throw new IllegalStateException("JSON nested too deeply");
+        separate();
+        out.write(c);
+        hasElements[depth++] = false;
+        return this;
+    }
+
+    private JsonStreamWriter close(char c) throws IOException {
+        if (depth == 0) throw new IllegalStateException("No open JSON container");
+        depth--;
+        out.write(c);
+        return this;
+    }
+
+    // Comma before every element except the first; none straight after a name
+    private void separate() throws IOException {
+        if (afterName) { afterName = false; return; }
+        if (depth > 0) {
+            if (hasElements[depth - 1]) out.write(',');
+            hasElements[depth - 1] = true;
+        }
+    }
+
+    // ─── Values ───────────────────────────────────────────────────────────
+
+    public JsonStreamWriter value(String s) throws IOException {
+        if (s == null) return nullValue();
+        separate();
+        writeString(s);
+        return this;
+    }
+
+    public JsonStreamWriter value(long n) throws IOException {
+        separate();
+        out.write(Long.toString(n));
+        return this;
+    }
+
+    public JsonStreamWriter value(boolean b) throws IOException {
+        separate();
+        out.write(b ? "true" : "false");
+        return this;
+    }
+
+    public JsonStreamWriter value(BigDecimal n) throws IOException {
+        if (n == null) return nullValue();
+        separate();
+        out.write(n.toPlainString());
+        return this;
+    }
+
+    public JsonStreamWriter nullValue() throws IOException {
+        separate();
+        out.write("null");
+        return this;
+    }
+
+    // An already-built org.json value, written as one element
+    public JsonStreamWriter value(JSONObject o) throws IOException {
+        if (o == null) return nullValue();
+        separate();
+        o.write(out);
+        return this;
+    }
+
+    public JsonStreamWriter value(JSONArray a) throws IOException {
+        if (a == null) return nullValue();
+        separate();
+        a.write(out);
+        return this;
+    }
+
+    // ─── Output ───────────────────────────────────────────────────────────
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeString(String s) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String esc;
+            switch (c) {
+                case '"':  esc = "\\\""; break;
+                case '\\': esc = "\\\\"; break;
+                case '\n': esc = "\\n";  break;
+                case '\r': esc = "\\r";  break;
+                case '\t': esc = "\\t";  break;
+                case '\b': esc = "\\b";  break;
+                case '\f': esc = "\\f";  break;
+                case '/':
+                    // Like org.json: keep "</script>" from closing an inline script
+                    if (i > 0 && s.charAt(i - 1) == '<') { esc = "\\/"; break; }
+                    continue;
+                default:
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {   // JS line separators
+                        esc = String.format("\\u%04x", (int) c);
+                        break;
+                    }
+                    continue;
+            }
+            out.write(s, start, i - start);
+            out.write(esc);
+            start = i + 1;
+        }
+        out.write(s, start, s.length() - start);
+        out.write('"');
+    }
+}
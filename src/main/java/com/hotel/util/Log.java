@@ -0,0 +1,266 @@
+package com.hotel.util;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Leveled logging for com.hotel.
+//
+//   private static final Log LOG = Log.get(SessionManager.class);
+//   LOG.debug("Token {} checked: {}", token, valid);   // formatted off-thread
+//   LOG.debug(() -> expensiveSummary());              // only called if enabled
+//   LOG.error("Query failed", e);
+//
+// A disabled call is one int comparison and allocates nothing, as long as
+// its arguments are existing objects (a primitive argument is boxed at the
+// call site; guard those with isDebugEnabled()). Enabled events go into a
+// preallocated ring buffer and one daemon thread formats and prints them
+// in batches, so request threads never block on the console lock. When
+// the ring is full, events are dropped and counted rather than waited on.
+// {} arguments are formatted on that thread, so pass values that are not
+// mutated afterwards.
+//
+// Configure with -Dhotel.log.level=TRACE|DEBUG|INFO|WARN|ERROR|OFF (INFO),
+// -Dhotel.log.level.<LoggerName>=... per logger, -Dhotel.log.async=false
+// to print on the calling thread, and -Dhotel.log.bufferSize (8192).
+public final class Log {
+
+    public enum Level { TRACE, DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final Level   ROOT_LEVEL = level(System.getProperty("hotel.log.level"), Level.INFO);
+    private static final boolean ASYNC      =
+            Boolean.parseBoolean(System.getProperty("hotel.log.async", "true"));
+    private static final int     BUFFER     = Integer.getInteger("hotel.log.bufferSize", 8192);
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final String name;
+    private final int    threshold;   // ordinal of the lowest enabled level
+
+    private Log(String name, Level level) {
+        this.name      = name;
+        this.threshold = level.ordinal();
+    }
+
+    public static Log get(Class<?> type) {
+        return get(type.getSimpleName());
+    }
+
+    public static Log get(String name) {
+        return new Log(name, level(System.getProperty("hotel.log.level." + name), ROOT_LEVEL));
+    }
+
+    private static Level level(String value, Level fallback) {
+        if (value == null || value.isEmpty()) return fallback;
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    // ─── Level Checks ─────────────────────────────────────────────────────
+
+    public boolean isEnabled(Level level) { return level.ordinal() >= threshold && level != Level.OFF; }
+    public boolean isTraceEnabled()       { return threshold <= Level.TRACE.ordinal(); }
+    public boolean isDebugEnabled()       { return threshold <= Level.DEBUG.ordinal(); }
+    public boolean isInfoEnabled()        { return threshold <= Level.INFO.ordinal(); }
+
+    // ─── Logging Calls ────────────────────────────────────────────────────
+
+    public void trace(String msg)                           { log(Level.TRACE, msg, null, null, null, 0, null); }
+    public void trace(Supplier<String> msg)                 { if (isTraceEnabled()) log(Level.TRACE, msg.get(), null, null, null, 0, null); }
+    public void trace(String pattern, Object a)             { log(Level.TRACE, pattern, a, null, null, 1, null); }
+    public void trace(String pattern, Object a, Object b)   { log(Level.TRACE, pattern, a, b, null, 2, null); }
+
+    public void debug(String msg)                           { log(Level.DEBUG, msg, null, null, null, 0, null); }
+    public void debug(Supplier<String> msg)                 { if (isDebugEnabled()) log(Level.DEBUG, msg.get(), null, null, null, 0, null); }
+    public void debug(String pattern, Object a)             { log(Level.DEBUG, pattern, a, null, null, 1, null); }
+    public void debug(String pattern, Object a, Object b)   { log(Level.DEBUG, pattern, a, b, null, 2, null); }
+    public void debug(String pattern, Object a, Object b, Object c) { log(Level.DEBUG, pattern, a, b, c, 3, null); }
+
+    public void info(String msg)                            { log(Level.INFO, msg, null, null, null, 0, null); }
+    public void info(Supplier<String> msg)                  { if (isInfoEnabled()) log(Level.INFO, msg.get(), null, null, null, 0, null); }
+    public void info(String pattern, Object a)              { log(Level.INFO, pattern, a, null, null, 1, null); }
+    public void info(String pattern, Object a, Object b)    { log(Level.INFO, pattern, a, b, null, 2, null); }
+    public void info(String pattern, Object a, Object b, Object c) { log(Level.INFO, pattern, a, b, c, 3, null); }
+
+    public void warn(String msg)                            { log(Level.WARN, msg, null, null, null, 0, null); }
+    public void warn(String pattern, Object a)              { log(Level.WARN, pattern, a, null, null, 1, null); }
+    public void warn(String pattern, Object a, Object b)    { log(Level.WARN, pattern, a, b, null, 2, null); }
+    public void warn(String msg, Throwable t)               { log(Level.WARN, msg, null, null, null, 0, t); }
+
+    public void error(String msg)                           { log(Level.ERROR, msg, null, null, null, 0, null); }
+    public void error(String pattern, Object a)             { log(Level.ERROR, pattern, a, null, null, 1, null); }
+    public void error(String msg, Throwable t)              { log(Level.ERROR, msg, null, null, null, 0, t); }
+
+    private void log(Level level, String pattern, Object a, Object b, Object c, int argc, Throwable t) {
+        if (level.ordinal() < threshold) return;
+        if (ASYNC) {
+            Appender.INSTANCE.publish(level, name, pattern, a, b, c, argc, t);
+        } else {
+            print(out(level), System.currentTimeMillis(), level,
+                    Thread.currentThread().getName(), name, format(pattern, a, b, c, argc), t);
+        }
+    }
+
+    // Replaces up to argc "{}" markers in order
+    static String format(String pattern, Object a, Object b, Object c, int argc) {
+        if (argc == 0 || pattern == null) return pattern;
+        StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        int from = 0;
+        for (int i = 0; i < argc; i++) {
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) break;
+            sb.append(pattern, from, at).append(i == 0 ? a : i == 1 ? b : c);
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
+    }
+
+    // Used by both modes; kept out of Appender so the synchronous mode never
+    // initializes it (no ring, no appender thread, no shutdown hook)
+    private static PrintStream out(Level level) {
+        return level.ordinal() >= Level.WARN.ordinal() ? System.err : System.out;
+    }
+
+    private static void print(PrintStream out, long time, Level level, String thread,
+                              String logger, String message, Throwable t) {
+        String ts = TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault()));
+        out.println(ts + " " + String.format("%-5s", level) + " [" + thread + "] "
+                + logger + " - " + message);
+        if (t != null) t.printStackTrace(out);
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public static long getDroppedCount() { return ASYNC ? Appender.INSTANCE.dropped.sum() : 0; }
+
+    // Waits until everything logged before this call has been printed
+    public static boolean flush(long timeout, TimeUnit unit) {
+        return !ASYNC || Appender.INSTANCE.flush(unit.toNanos(timeout));
+    }
+
+    // ─── Async Appender ───────────────────────────────────────────────────
+
+    // Bounded multi-producer ring (Vyukov style). Slot i is free for the
+    // producer claiming position p when sequence[i] == p, and ready for the
+    // consumer when sequence[i] == p + 1. Events are reused, not allocated.
+    private static final class Appender {
+        static final Appender INSTANCE = new Appender(Integer.highestOneBit(Math.max(64, BUFFER)));
+
+        final Event[]         events;
+        final AtomicLongArray sequence;
+        final int             mask;
+        final AtomicLong      tail = new AtomicLong();   // next position to claim
+        volatile long         head;                      // next position to print
+        final LongAdder       dropped = new LongAdder();
+        final Thread          worker;
+        volatile boolean      parked;
+
+        Appender(int size) {
+            events   = new Event[size];
+            sequence = new AtomicLongArray(size);
+            mask     = size - 1;
+            for (int i = 0; i < size; i++) {
+                events[i] = new Event();
+                sequence.set(i, i);
+            }
+            worker = new Thread(this::drain, "log-appender");
+            worker.setDaemon(true);
+            worker.start();
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> flush(TimeUnit.SECONDS.toNanos(2)), "log-shutdown"));
+        }
+
+        void publish(Level level, String logger, String pattern,
+                     Object a, Object b, Object c, int argc, Throwable t) {
+            long pos;
+            while (true) {
+                pos = tail.get();
+                long seq = sequence.get((int) pos & mask);
+                if (seq == pos) {
+                    if (tail.compareAndSet(pos, pos + 1)) break;
+                } else if (seq < pos) {
+                    dropped.increment();   // full
+                    return;
+                }
+            }
+            Event e = events[(int) pos & mask];
+            e.time    = System.currentTimeMillis();
+            e.level   = level;
+            e.thread  = Thread.currentThread().getName();
+            e.logger  = logger;
+            e.pattern = pattern;
+            e.a = a; e.b = b; e.c = c;
+            e.argc    = argc;
+            e.error   = t;
+            sequence.set((int) pos & mask, pos + 1);
+            if (parked) LockSupport.unpark(worker);
+        }
+
+        private void drain() {
+            long pos = 0;
+            while (true) {
+                int  slot = (int) pos & mask;
+                if (sequence.get(slot) != pos + 1) {
+                    System.out.flush();
+                    System.err.flush();
+                    head   = pos;
+                    parked = true;
+                    if (sequence.get(slot) != pos + 1) LockSupport.parkNanos(50_000_000);
+                    parked = false;
+                    continue;
+                }
+                Event e = events[slot];
+                try {
+                    print(out(e.level), e.time, e.level, e.thread, e.logger,
+                            format(e.pattern, e.a, e.b, e.c, e.argc), e.error);
+                } catch (RuntimeException ignored) {
+                    // a failing toString() must not stop the appender
+                }
+                e.clear();
+                sequence.set(slot, pos + mask + 1);   // free for the next lap
+                pos++;
+                head = pos;
+            }
+        }
+
+        boolean flush(long timeoutNanos) {
+            long target   = tail.get();
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (head < target) {
+                if (System.nanoTime() > deadline) return false;
+                LockSupport.unpark(worker);
+                LockSupport.parkNanos(100_000);
+            }
+            return true;
+        }
+    }
+
+    private static final class Event {
+        long      time;
+        Level     level;
+        String    thread;
+        String    logger;
+        String    pattern;
+        Object    a, b, c;
+        int       argc;
+        Throwable error;
+
+        void clear() {
+            thread = logger = pattern = null;
+            a = b = c = null;
+            error = null;
+        }
+    }
+}
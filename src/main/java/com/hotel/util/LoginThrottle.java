@@ -0,0 +1,192 @@
+package com.hotel.util;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Failed-login lockout by username and by client address.
+// Each key keeps the times of its last `limit` failures. The key is locked
+// while all of them fall within the window, i.e. until the oldest one is
+// windowMillis old (a sliding window, not a fixed bucket that resets on the
+// hour). A successful login clears the username's failures but not the
+// address's, so one valid account cannot be used to reset the IP limit.
+// Usernames are compared case-insensitively, as MySQL's default collation
+// does.
+//
+// Each key has its own small lock; the maps are ConcurrentHashMaps. Keys
+// with no failure inside the window are swept every SWEEP_EVERY failures
+// and whenever a map grows past maxEntries. In the second case keys are
+// then dropped (counted as evictions) down to 90% of maxEntries, so a flood
+// of distinct names cannot grow memory without bound and pays for one full
+// scan per tenth of the map, not one per new key. Keys that are not locked
+// go first, so flooding the map does not lift anyone's lockout; only when
+// more than 90% of the map is locked are locked keys dropped too (counted
+// separately), which lets those names or addresses try again early.
+//
+// Configure the shared instance with -Dhotel.auth.maxFailures (3),
+// -Dhotel.auth.maxFailuresPerIp (20, 0 disables), -Dhotel.auth.lockoutMinutes
+// (15) and -Dhotel.auth.throttleEntries (100000 per map).
+public class LoginThrottle {
+
+    static final int SWEEP_EVERY = 1024;
+
+    private final int          userLimit;
+    private final int          ipLimit;
+    private final long         windowMillis;
+    private final int          maxEntries;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Window> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> ips   = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted  = new LongAdder();
+    private final LongAdder evictedLocked = new LongAdder();
+
+    private LoginThrottle() {
+        this(Integer.getInteger("hotel.auth.maxFailures", 3),
+             Integer.getInteger("hotel.auth.maxFailuresPerIp", 20),
+             Long.getLong("hotel.auth.lockoutMinutes", 15) * 60_000L,
+             Integer.getInteger("hotel.auth.throttleEntries", 100_000),
+             System::currentTimeMillis);
+    }
+
+    // A limit of 0 turns that check off
+    public LoginThrottle(int userLimit, int ipLimit, long windowMillis, int maxEntries,
+                         LongSupplier clock) {
+        this.userLimit    = userLimit;
+        this.ipLimit      = ipLimit;
+        this.windowMillis = windowMillis;
+        this.maxEntries   = maxEntries;
+        this.clock        = clock;
+    }
+
+    private static final class Holder {
+        static final LoginThrottle INSTANCE = new LoginThrottle();
+    }
+
+    public static LoginThrottle getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // ─── Checks ───────────────────────────────────────────────────────────
+
+    // Milliseconds until the username or address may try again; 0 if allowed.
+    // Either argument may be null.
+    public long retryAfterMillis(String username, String ip) {
+        long now  = clock.getAsLong();
+        long wait = Math.max(retryAfter(users, userKey(username), now),
+                             retryAfter(ips,   ip,                now));
+        if (wait > 0) rejected.increment();
+        return wait;
+    }
+
+    public boolean isLocked(String username) {
+        return retryAfter(users, userKey(username), clock.getAsLong()) > 0;
+    }
+
+    private long retryAfter(Map<String, Window> map, String key, long now) {
+        if (key == null) return 0;
+        Window w = map.get(key);
+        return w == null ? 0 : w.retryAfter(now, windowMillis);
+    }
+
+    // ─── Updates ──────────────────────────────────────────────────────────
+
+    public void recordFailure(String username, String ip) {
+        long now = clock.getAsLong();
+        record(users, userKey(username), userLimit, now);
+        record(ips,   ip,                ipLimit,   now);
+        if (failures.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep(users, now, false);
+            sweep(ips,   now, false);
+        }
+    }
+
+    public void recordSuccess(String username) {
+        String key = userKey(username);
+        if (key != null) users.remove(key);
+    }
+
+    private void record(ConcurrentHashMap<String, Window> map, String key, int limit, long now) {
+        if (key == null || limit <= 0) return;
+        map.computeIfAbsent(key, k -> new Window(limit)).add(now);
+        if (map.size() > maxEntries) sweep(map, now, true);
+    }
+
+    // Drops expired keys; when full, also unlocked ones and then, as a last
+    // resort, locked ones down to the low-water mark. One thread sweeps at a
+    // time; the others carry on.
+    private void sweep(ConcurrentHashMap<String, Window> map, long now, boolean full) {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            map.values().removeIf(w -> w.isStale(now, windowMillis));
+            if (!full) return;
+            int target = maxEntries - Math.max(1, maxEntries / 10);
+            Iterator<Window> it = map.values().iterator();
+            while (map.size() > target && it.hasNext()) {
+                if (it.next().retryAfter(now, windowMillis) > 0) continue;
+                it.remove();
+                evicted.increment();
+            }
+            it = map.values().iterator();
+            while (map.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                evicted.increment();
+                evictedLocked.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static String userKey(String username) {
+        return username == null ? null : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    public long getRejectedCount()  { return rejected.sum(); }
+    public long getEvictionCount()  { return evicted.sum(); }
+    public long getLockedEvictionCount() { return evictedLocked.sum(); }
+    public int  getTrackedUsers()   { return users.size(); }
+    public int  getTrackedIps()     { return ips.size(); }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────
+
+    // Ring of the most recent failure times; once full, `next` is the oldest
+    private static final class Window {
+        private final long[] times;
+        private int next;
+        private int count;
+
+        Window(int limit) {
+            this.times = new long[limit];
+        }
+
+        synchronized void add(long now) {
+            times[next] = now;
+            next = (next + 1) % times.length;
+            if (count < times.length) count++;
+        }
+
+        synchronized long retryAfter(long now, long windowMillis) {
+            if (count < times.length) return 0;
+            long until = times[next] + windowMillis;
+            return until > now ? until - now : 0;
+        }
+
+        synchronized boolean isStale(long now, long windowMillis) {
+            int newest = (next - 1 + times.length) % times.length;
+            return count == 0 || now - times[newest] >= windowMillis;
+        }
+    }
+}
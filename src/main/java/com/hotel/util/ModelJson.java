@@ -0,0 +1,204 @@
+package com.hotel.util;
+
+import com.hotel.model.*;
+import com.hotel.util.JsonStreamWriter.Name;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+// JSON serializers for the com.hotel.model types.
+// Fields are written straight into a JsonStreamWriter using field names
+// escaped once up front, with no intermediate JSONObject per row. The
+// output matches what the services built with org.json: same keys, ""
+// for the display fields that fell back to "", and a null value omits the
+// key just as JSONObject.put(key, null) did.
+public final class ModelJson {
+
+    private ModelJson() {}
+
+    // ─── Field Names ──────────────────────────────────────────────────────
+    private static final Name RESERVATION_ID     = Name.of("reservationId");
+    private static final Name RESERVATION_NUMBER = Name.of("reservationNumber");
+    private static final Name GUEST_ID           = Name.of("guestId");
+    private static final Name ROOM_ID            = Name.of("roomId");
+    private static final Name STAFF_ID           = Name.of("staffId");
+    private static final Name CHECKIN_DATE       = Name.of("checkinDate");
+    private static final Name CHECKOUT_DATE      = Name.of("checkoutDate");
+    private static final Name STATUS             = Name.of("status");
+    private static final Name CREATED_AT         = Name.of("createdAt");
+    private static final Name GUEST_NAME         = Name.of("guestName");
+    private static final Name ROOM_NUMBER        = Name.of("roomNumber");
+    private static final Name STAFF_NAME         = Name.of("staffName");
+
+    private static final Name FLOOR_NUMBER = Name.of("floorNumber");
+    private static final Name ROOM_TYPE_ID = Name.of("roomTypeId");
+    private static final Name TYPE_NAME    = Name.of("typeName");
+    private static final Name ROOM_STATUS  = Name.of("roomStatus");
+
+    private static final Name BILL_ID         = Name.of("billId");
+    private static final Name BILL_NUMBER     = Name.of("billNumber");
+    private static final Name SUBTOTAL        = Name.of("subtotal");
+    private static final Name TAX_RATE        = Name.of("taxRate");
+    private static final Name TAX_AMOUNT      = Name.of("taxAmount");
+    private static final Name DISCOUNT_AMOUNT = Name.of("discountAmount");
+    private static final Name TOTAL_AMOUNT    = Name.of("totalAmount");
+    private static final Name PAYMENT_STATUS  = Name.of("paymentStatus");
+
+    private static final Name ADDRESS        = Name.of("address");
+    private static final Name CONTACT_NUMBER = Name.of("contactNumber");
+    private static final Name EMAIL          = Name.of("email");
+
+    private static final Name USERNAME  = Name.of("username");
+    private static final Name FULL_NAME = Name.of("fullName");
+    private static final Name ROLE      = Name.of("role");
+
+    private static final Name PAYMENT_ID     = Name.of("paymentId");
+    private static final Name AMOUNT_PAID    = Name.of("amountPaid");
+    private static final Name PAYMENT_METHOD = Name.of("paymentMethod");
+    private static final Name PAYMENT_DATE   = Name.of("paymentDate");
+
+    // ─── Models ───────────────────────────────────────────────────────────
+
+    public static void write(JsonStreamWriter w, Reservation r) throws IOException {
+        w.beginObject();
+        w.name(RESERVATION_ID).value(r.getReservationId());
+        field(w, RESERVATION_NUMBER, r.getReservationNumber());
+        w.name(GUEST_ID).value(r.getGuestId());
+        w.name(ROOM_ID).value(r.getRoomId());
+        w.name(STAFF_ID).value(r.getStaffId());
+        w.name(CHECKIN_DATE).value(r.getCheckinDate().toString());
+        w.name(CHECKOUT_DATE).value(r.getCheckoutDate().toString());
+        field(w, STATUS, r.getStatus());
+        w.name(CREATED_AT).value(r.getCreatedAt() != null ? r.getCreatedAt().toString() : "");
+        w.name(GUEST_NAME).value(orEmpty(r.getGuestName()));
+        w.name(ROOM_NUMBER).value(orEmpty(r.getRoomNumber()));
+        w.name(STAFF_NAME).value(orEmpty(r.getStaffName()));
+        w.endObject();
+    }
+
+    public static void write(JsonStreamWriter w, Room r) throws IOException {
+        w.beginObject();
+        w.name(ROOM_ID).value(r.getRoomId());
+        field(w, ROOM_NUMBER, r.getRoomNumber());
+        w.name(FLOOR_NUMBER).value(r.getFloorNumber());
+        w.name(ROOM_TYPE_ID).value(r.getRoomTypeId());
+        w.name(TYPE_NAME).value(orEmpty(r.getTypeName()));
+        field(w, ROOM_STATUS, r.getRoomStatus());
+        w.endObject();
+    }
+
+    public static void write(JsonStreamWriter w, Bill b) throws IOException {
+        w.beginObject();
+        w.name(BILL_ID).value(b.getBillId());
+        field(w, BILL_NUMBER, b.getBillNumber());
+        w.name(RESERVATION_ID).value(b.getReservationId());
+        field(w, SUBTOTAL,        b.getSubtotal());
+        field(w, TAX_RATE,        b.getTaxRate());
+        field(w, TAX_AMOUNT,      b.getTaxAmount());
+        field(w, DISCOUNT_AMOUNT, b.getDiscountAmount());
+        field(w, TOTAL_AMOUNT,    b.getTotalAmount());
+        field(w, PAYMENT_STATUS,  b.getPaymentStatus());
+        w.name(RESERVATION_NUMBER).value(orEmpty(b.getReservationNumber()));
+        w.name(GUEST_NAME).value(orEmpty(b.getGuestName()));
+        w.endObject();
+    }
+
+    public static void write(JsonStreamWriter w, Guest g) throws IOException {
+        w.beginObject();
+        w.name(GUEST_ID).value(g.getGuestId());
+        field(w, GUEST_NAME, g.getGuestName());
+        w.name(ADDRESS).value(orEmpty(g.getAddress()));
+        field(w, CONTACT_NUMBER, g.getContactNumber());
+        w.name(EMAIL).value(orEmpty(g.getEmail()));
+        w.endObject();
+    }
+
+    // Never includes the password hash
+    public static void write(JsonStreamWriter w, Staff s) throws IOException {
+        w.beginObject();
+        w.name(STAFF_ID).value(s.getStaffId());
+        field(w, USERNAME,  s.getUsername());
+        field(w, FULL_NAME, s.getFullName());
+        field(w, EMAIL,     s.getEmail());
+        field(w, ROLE,      s.getRole());
+        w.endObject();
+    }
+
+    public static void write(JsonStreamWriter w, Payment p) throws IOException {
+        w.beginObject();
+        w.name(PAYMENT_ID).value(p.getPaymentId());
+        w.name(BILL_ID).value(p.getBillId());
+        field(w, AMOUNT_PAID,     p.getAmountPaid());
+        field(w, DISCOUNT_AMOUNT, p.getDiscountAmount());
+        field(w, PAYMENT_METHOD,  p.getPaymentMethod());
+        field(w, PAYMENT_STATUS,  p.getPaymentStatus());
+        if (p.getPaymentDate() != null) w.name(PAYMENT_DATE).value(p.getPaymentDate().toString());
+        w.endObject();
+    }
+
+    // ─── Rendering ────────────────────────────────────────────────────────
+
+    public interface ItemWriter<T> {
+        void write(JsonStreamWriter w, T item) throws IOException;
+    }
+
+    // A JSON array of the items
+    public static <T> String array(Iterable<T> items, ItemWriter<T> writer) {
+        return render(w -> {
+            w.beginArray();
+            for (T item : items) writer.write(w, item);
+            w.endArray();
+        });
+    }
+
+    public static <T> String object(T item, ItemWriter<T> writer) {
+        return render(w -> writer.write(w, item));
+    }
+
+    // Per-thread buffer reused across calls; one that grew past
+    // MAX_RETAINED_CHARS for a big list is dropped instead of kept
+    private static final int MAX_RETAINED_CHARS = 256 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    public static String render(JsonStreamWriter.Body body) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        try {
+            body.writeTo(new JsonStreamWriter(new BuilderWriter(sb)));
+            return sb.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);   // cannot happen with an in-memory buffer
+        } finally {
+            if (sb.capacity() > MAX_RETAINED_CHARS) BUFFER.remove();
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────
+
+    private static void field(JsonStreamWriter w, Name name, String value) throws IOException {
+        if (value != null) w.name(name).value(value);
+    }
+
+    private static void field(JsonStreamWriter w, Name name, BigDecimal value) throws IOException {
+        if (value != null) w.name(name).value(value);
+    }
+
+    private static String orEmpty(String s) {
+        return s != null ? s : "";
+    }
+
+    // Unsynchronized Writer over a StringBuilder (StringWriter locks a StringBuffer)
+    private static final class BuilderWriter extends Writer {
+        private final StringBuilder sb;
+
+        BuilderWriter(StringBuilder sb) { this.sb = sb; }
+
+        @Override public void write(int c)                        { sb.append((char) c); }
+        @Override public void write(char[] buf, int off, int len) { sb.append(buf, off, len); }
+        @Override public void write(String s, int off, int len)   { sb.append(s, off, off + len); }
+        @Override public void flush() {}
+        @Override public void close() {}
+    }
+}
@@ -0,0 +1,17 @@
+package com.hotel.util;
+
+// One password storage scheme. Stored hashes carry enough of a prefix or
+// shape for PasswordUtil to pick the hasher that wrote them.
+public interface PasswordHasher {
+
+    // True if this hasher wrote the stored value
+    boolean owns(String stored);
+
+    String hash(String password);
+
+    boolean verify(String password, String stored);
+
+    // True if the stored value should be replaced by a fresh hash(),
+    // e.g. because it was written with a lower cost
+    boolean needsRehash(String stored);
+}
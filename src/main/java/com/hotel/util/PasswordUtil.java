@@ -1,30 +1,101 @@
 package com.hotel.util;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 
+// New passwords are hashed with PBKDF2 (Pbkdf2Hasher); the cost is set with
+// -Dhotel.password.iterations (210000, ~150ms on one core). Hashes written
+// before that, unsalted SHA-256 as 64 hex chars, still verify, and
+// needsRehash reports them so AuthService can replace them on the next
+// successful login. A failed legacy check also runs one PBKDF2 check, so
+// that a wrong password costs the same whichever format the account is on
+// (and the same as AuthService's check for an unknown username).
 public class PasswordUtil {
 
-    // Hash a plain-text password using SHA-256
+    static final int ITERATIONS = Integer.getInteger("hotel.password.iterations", 210_000);
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final PasswordHasher CURRENT = new Pbkdf2Hasher(ITERATIONS);
+    private static final PasswordHasher LEGACY  = new LegacySha256Hasher();
+
+    // Current-cost hash of a random password, created on the first failed legacy check
+    private static final class Dummy {
+        static final String HASH = CURRENT.hash(UUID.randomUUID().toString());
+    }
+
+    // Checked in order by verify and needsRehash
+    private static final List<PasswordHasher> HASHERS = List.of(CURRENT, LEGACY);
+
+    // Hash a plain-text password with the current hasher
     public static String hash(String password) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = md.digest(password.getBytes("UTF-8"));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashed)
-                sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) {
-            throw new RuntimeException("Error hashing password", e);
-        }
+        return CURRENT.hash(password);
     }
 
-    // Verify plain-text password against stored hash
+    // Verify plain-text password against stored hash, whichever hasher wrote it
     public static boolean verify(String rawPassword, String storedHash) {
         if (rawPassword == null || storedHash == null) return false;
-        return hash(rawPassword).equals(storedHash);
+        PasswordHasher h = hasherFor(storedHash);
+        return h != null && h.verify(rawPassword, storedHash);
+    }
+
+    // True if storedHash was not written by the current hasher at its current cost
+    public static boolean needsRehash(String storedHash) {
+        PasswordHasher h = hasherFor(storedHash);
+        return h != CURRENT || CURRENT.needsRehash(storedHash);
+    }
+
+    private static PasswordHasher hasherFor(String stored) {
+        for (PasswordHasher h : HASHERS) {
+            if (h.owns(stored)) return h;
+        }
+        return null;
+    }
+
+    // Unsalted SHA-256 as lowercase hex, the pre-PBKDF2 storage format
+    public static String sha256Hex(String password) {
+        return HEX.formatHex(sha256(password));
+    }
+
+    private static byte[] sha256(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // every JRE ships SHA-256
+        }
+    }
+
+    // Verifies legacy hashes; never used to write new ones
+    private static final class LegacySha256Hasher implements PasswordHasher {
+        @Override
+        public boolean owns(String stored) {
+            if (stored == null || stored.length() != 64) return false;
+            for (int i = 0; i < 64; i++) {
+                if (!HexFormat.isHexDigit(stored.charAt(i))) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public String hash(String password) {
+            return sha256Hex(password);
+        }
+
+        @Override
+        public boolean verify(String password, String stored) {
+            if (MessageDigest.isEqual(HEX.parseHex(stored), sha256(password))) return true;
+            CURRENT.verify(password, Dummy.HASH);   // pay for a PBKDF2 check like any failure
+            return false;
+        }
+
+        @Override
+        public boolean needsRehash(String stored) {
+            return true;
+        }
     }
 
     // Validate password strength
@@ -33,7 +104,7 @@ public class PasswordUtil {
         if (password == null || password.length() < 6)
             throw new IllegalArgumentException(
                     "Password must be at least 6 characters");
-        if (!password.matches(".*\\d.*"))
+        if (!Validators.hasDigit(password))
             throw new IllegalArgumentException(
                     "Password must contain at least one digit");
         if (password.contains(" "))
@@ -48,4 +119,4 @@ public class PasswordUtil {
         for (String p : passwords)
             System.out.println("Password: " + p + " → Hash: " + hash(p));
     }
-}
\ No newline at end of file
+}
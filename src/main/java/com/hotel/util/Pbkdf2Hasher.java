@@ -0,0 +1,90 @@
+package com.hotel.util;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+// PBKDF2-HMAC-SHA256 with a random 16-byte salt per password.
+// Stored as  pbkdf2-sha256$<iterations>$<salt>$<hash>  (base64, no padding)
+// so the cost can be raised later: hashes with fewer iterations than
+// configured still verify, and needsRehash reports them for upgrade.
+public class Pbkdf2Hasher implements PasswordHasher {
+
+    static final String PREFIX = "pbkdf2-sha256$";
+
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS  = 256;
+
+    private static final Base64.Encoder B64  = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder B64D = Base64.getDecoder();
+
+    private final int          iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    public Pbkdf2Hasher(int iterations) {
+        if (iterations < 1) throw new IllegalArgumentException("iterations must be positive");
+        this.iterations = iterations;
+    }
+
+    public int getIterations() { return iterations; }
+
+    @Override
+    public boolean owns(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        return PREFIX + iterations + "$" + B64.encodeToString(salt)
+                + "$" + B64.encodeToString(derive(password, salt, iterations));
+    }
+
+    @Override
+    public boolean verify(String password, String stored) {
+        String[] f = fields(stored);
+        if (f == null) return false;
+        try {
+            int    cost     = Integer.parseInt(f[0]);
+            byte[] salt     = B64D.decode(f[1]);
+            byte[] expected = B64D.decode(f[2]);
+            if (cost < 1 || expected.length == 0) return false;
+            return MessageDigest.isEqual(expected, derive(password, salt, cost));
+        } catch (IllegalArgumentException e) {   // includes NumberFormatException
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String stored) {
+        String[] f = fields(stored);
+        if (f == null) return true;
+        try {
+            return Integer.parseInt(f[0]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    // iterations, salt, hash
+    private static String[] fields(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) return null;
+        String[] f = stored.substring(PREFIX.length()).split("\\$");
+        return f.length == 3 ? f : null;
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);   // every JRE ships PBKDF2WithHmacSHA256
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hotel.util;
+
+import org.json.JSONObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Declarative checks for a request body. Built once per endpoint:
+//
+//   static final Schema GUEST = Schema.builder()
+//       .field   ("guestName",     s -> s.length() >= 2, "Guest name must be at least 2 characters")
+//       .field   ("contactNumber", Validators::isContact, "Invalid contact number format")
+//       .optional("email",         Validators::isEmail,   "Invalid email format")
+//       .build();
+//
+//   GUEST.validate(json);   // throws ValidationException listing every failure
+//
+// Rules run in declaration order. Several rules may be given for one field;
+// after the first of them fails the rest are skipped, so a missing value
+// reports "required" and not also "invalid format". Nothing is allocated
+// unless a rule fails.
+public final class Schema {
+
+    private final String[]            fields;
+    private final Predicate<String>[] rules;
+    private final String[]            messages;
+    private final boolean[]           optional;
+
+    private Schema(Builder b) {
+        int n = b.fields.size();
+        this.fields   = b.fields.toArray(new String[n]);
+        this.rules    = b.rules.toArray(newRules(n));
+        this.messages = b.messages.toArray(new String[n]);
+        this.optional = new boolean[n];
+        for (int i = 0; i < n; i++) optional[i] = b.optional.get(i);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate<String>[] newRules(int n) {
+        return (Predicate<String>[]) new Predicate[n];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Values are read with optString(name, "").trim(), as the services do
+    public void validate(JSONObject json) {
+        validate(name -> json.optString(name, "").trim());
+    }
+
+    // Values are looked up by field name; null is treated as empty
+    public void validate(Function<String, String> values) {
+        List<String> errors  = null;
+        String       skip    = null;   // field whose earlier rule failed
+        String       name    = null;
+        String       value   = null;
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].equals(name)) {
+                name  = fields[i];
+                value = values.apply(name);
+                if (value == null) value = "";
+            }
+            if (name.equals(skip)) continue;
+            if (optional[i] && value.isEmpty()) continue;
+            if (rules[i].test(value)) continue;
+            if (errors == null) errors = new ArrayList<>(4);
+            errors.add(messages[i]);
+            skip = name;
+        }
+        if (errors != null) throw new ValidationException(errors);
+    }
+
+    // ─── Builder ──────────────────────────────────────────────────────────
+
+    public static final class Builder {
+        private final List<String>            fields   = new ArrayList<>();
+        private final List<Predicate<String>> rules    = new ArrayList<>();
+        private final List<String>            messages = new ArrayList<>();
+        private final List<Boolean>           optional = new ArrayList<>();
+
+        private Builder() {}
+
+        // The value must satisfy rule; an empty value is tested like any other
+        public Builder field(String name, Predicate<String> rule, String message) {
+            return add(name, rule, message, false);
+        }
+
+        // An empty value passes; anything else must satisfy rule
+        public Builder optional(String name, Predicate<String> rule, String message) {
+            return add(name, rule, message, true);
+        }
+
+        // The value must not be empty
+        public Builder required(String name, String message) {
+            return add(name, s -> !s.isEmpty(), message, false);
+        }
+
+        private Builder add(String name, Predicate<String> rule, String message, boolean opt) {
+            fields.add(name);
+            rules.add(rule);
+            messages.add(message);
+            optional.add(opt);
+            return this;
+        }
+
+        public Schema build() {
+            return new Schema(this);
+        }
+    }
+}
@@ -1,38 +1,156 @@
 package com.hotel.util;
 
 import com.hotel.model.Staff;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
+// Login sessions keyed by bearer token.
+// A session ends after IDLE_MINUTES without use (each use slides that
+// window) or ABSOLUTE_HOURS after login, whichever comes first. At most
+// MAX_SESSIONS are kept; creating one more evicts the least recently used.
+// Lookups are lock-free; the LRU order is only updated under the lock when
+// a session's last use is more than TOUCH_MS old, so a burst of requests
+// on one token costs one reorder. Expired sessions are removed lazily: on
+// lookup, and by a bounded sweep from the LRU head on every write.
+// Sessions hold a copy of the Staff without the password hash.
+//
+// With -Dhotel.session.mode=stateless the store is bypassed: tokens are
+// HMAC-signed SignedTokens carrying staffId, username, role and expiry
+// (ABSOLUTE_HOURS; there is no idle timeout), and logout revokes them.
+// Every instance given the same -Dhotel.session.secret (base64) accepts
+// them. Revocations are per instance, so behind a load balancer a logout
+// only takes effect on the instance that handled it.
 public class SessionManager {
 
-    private static SessionManager instance;
-    private final ConcurrentHashMap<String, Staff> sessions
-            = new ConcurrentHashMap<>();
+    private static final Log LOG = Log.get(SessionManager.class);
 
-    private SessionManager() {}
+    private static final long IDLE_MS      = Long.getLong("hotel.session.idleMinutes", 30) * 60_000L;
+    private static final long ABSOLUTE_MS  = Long.getLong("hotel.session.absoluteHours", 12) * 3_600_000L;
+    private static final int  MAX_SESSIONS = Integer.getInteger("hotel.session.max", 10_000);
 
-    public static synchronized SessionManager getInstance() {
-        if (instance == null) instance = new SessionManager();
-        return instance;
+    private static final boolean STATELESS =
+            "stateless".equalsIgnoreCase(System.getProperty("hotel.session.mode", "stateful"));
+    private static final int REVOCATION_BITS = Integer.getInteger("hotel.session.revocationBits", 1 << 16);
+
+    static final long TOUCH_MS    = 1_000;
+    static final int  SWEEP_BATCH = 32;
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+
+    // Access-ordered; guarded by lock. Eldest = least recently used.
+    private final LinkedHashMap<String, Session> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lock = new Object();
+
+    private final LongSupplier clock;
+    private final long         idleMillis;
+    private final long         absoluteMillis;
+    private final int          maxSessions;
+    private final SignedTokens tokens;   // null in stateful mode
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    private SessionManager() {
+        this(System::currentTimeMillis, IDLE_MS, ABSOLUTE_MS, MAX_SESSIONS,
+             STATELESS ? new SignedTokens(secret(), ABSOLUTE_MS, REVOCATION_BITS,
+                                          System.currentTimeMillis()) : null);
+    }
+
+    SessionManager(LongSupplier clock, long idleMillis, long absoluteMillis, int maxSessions) {
+        this(clock, idleMillis, absoluteMillis, maxSessions, null);
+    }
+
+    SessionManager(LongSupplier clock, long idleMillis, long absoluteMillis, int maxSessions,
+                   SignedTokens tokens) {
+        this.clock          = clock;
+        this.idleMillis     = idleMillis;
+        this.absoluteMillis = absoluteMillis;
+        this.maxSessions    = maxSessions;
+        this.tokens         = tokens;
+    }
+
+    // Without a configured secret, tokens are only valid on this instance
+    // until it restarts
+    private static byte[] secret() {
+        String configured = System.getProperty("hotel.session.secret");
+        if (configured != null && !configured.isEmpty())
+            return Base64.getDecoder().decode(configured);
+        LOG.warn("hotel.session.secret not set; using a random per-process key");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static final class Holder {
+        static final SessionManager INSTANCE = new SessionManager();
+    }
+
+    public static SessionManager getInstance() {
+        return Holder.INSTANCE;
     }
 
     public String createSession(Staff staff) {
-        String token = UUID.randomUUID().toString();
-        sessions.put(token, staff);
-        System.out.println("[Session] Created for: " + staff.getUsername());
+        if (tokens != null) {
+            created.increment();
+            return tokens.issue(staff, clock.getAsLong());
+        }
+        String  token = UUID.randomUUID().toString();
+        long    now   = clock.getAsLong();
+        Session s     = new Session(withoutSecrets(staff), now);
+        synchronized (lock) {
+            sessions.put(token, s);
+            lru.put(token, s);
+            sweep(now);
+            while (lru.size() > maxSessions) {
+                Iterator<Map.Entry<String, Session>> it = lru.entrySet().iterator();
+                sessions.remove(it.next().getKey());
+                it.remove();
+                evicted.increment();
+            }
+        }
+        created.increment();
+        LOG.info("Session created for {}", staff.getUsername());
         return token;
     }
 
+    // A copy of the session's Staff, or null if the token is unknown or expired
     public Staff getSession(String token) {
         if (token == null || token.trim().isEmpty()) return null;
-        return sessions.get(token.trim());
+        token = token.trim();
+        if (tokens != null) return tokens.verify(token, clock.getAsLong());
+        Session s = sessions.get(token);
+        if (s == null) return null;
+
+        long now = clock.getAsLong();
+        if (s.isExpired(now, idleMillis, absoluteMillis)) {
+            synchronized (lock) {
+                if (sessions.remove(token, s)) {
+                    lru.remove(token);
+                    expired.increment();
+                }
+            }
+            return null;
+        }
+        if (now - s.lastAccess >= TOUCH_MS) {
+            s.lastAccess = now;
+            synchronized (lock) {
+                lru.get(token);   // move to most recently used
+                sweep(now);
+            }
+        }
+        return copy(s.staff);
     }
 
     public boolean isValid(String token) {
-        boolean v = getSession(token) != null;
-        System.out.println("[Session] isValid: " + v);
-        return v;
+        return getSession(token) != null;
     }
 
     public boolean isAdmin(String token) {
@@ -41,6 +159,66 @@ public class SessionManager {
     }
 
     public void invalidate(String token) {
-        if (token != null) sessions.remove(token);
+        if (token == null) return;
+        if (tokens != null) {
+            tokens.revoke(token.trim(), clock.getAsLong());
+            return;
+        }
+        synchronized (lock) {
+            if (sessions.remove(token.trim()) != null) lru.remove(token.trim());
+        }
+    }
+
+    // Drops up to SWEEP_BATCH expired sessions from the LRU head. Idle
+    // sessions collect there; one past only its absolute limit further in
+    // is caught on its next lookup or once it goes idle. Caller holds lock.
+    private void sweep(long now) {
+        Iterator<Map.Entry<String, Session>> it = lru.entrySet().iterator();
+        for (int i = 0; i < SWEEP_BATCH && it.hasNext(); i++) {
+            Map.Entry<String, Session> e = it.next();
+            if (!e.getValue().isExpired(now, idleMillis, absoluteMillis)) break;
+            sessions.remove(e.getKey());
+            it.remove();
+            expired.increment();
+        }
+    }
+
+    // ─── Metrics ──────────────────────────────────────────────────────────
+
+    // Always 0 in stateless mode
+    public int  getLiveSessions()   { return sessions.size(); }
+    public long getCreatedCount()   { return created.sum(); }
+    public long getExpiredCount()   { return expired.sum(); }
+    public long getEvictionCount()  { return evicted.sum(); }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────
+
+    private static final class Session {
+        final Staff   staff;
+        final long    createdAt;
+        volatile long lastAccess;
+
+        Session(Staff staff, long now) {
+            this.staff      = staff;
+            this.createdAt  = now;
+            this.lastAccess = now;
+        }
+
+        boolean isExpired(long now, long idleMillis, long absoluteMillis) {
+            return now - lastAccess >= idleMillis || now - createdAt >= absoluteMillis;
+        }
+    }
+
+    private static Staff withoutSecrets(Staff s) {
+        Staff c = copy(s);
+        c.setPasswordHash(null);
+        return c;
+    }
+
+    private static Staff copy(Staff s) {
+        Staff c = new Staff(s.getUsername(), s.getPasswordHash(),
+                s.getFullName(), s.getEmail(), s.getRole());
+        c.setStaffId(s.getStaffId());
+        return c;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.hotel.util;
+
+import com.hotel.model.Staff;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+// Stateless session tokens: the claims travel in the token, signed with
+// HMAC-SHA256, so any instance holding the same secret can authenticate a
+// request without a session lookup.
+//
+//   token   = base64url(payload) "." base64url(HMAC(payload))
+//   payload = "v1|" jti "|" staffId "|" role "|" expiresAt "|" username
+//
+// Logout adds the token's random id (jti) to a revocation bloom filter.
+// The filter is per instance and rotates every token lifetime, keeping the
+// previous generation, so a revoked id is remembered until the token would
+// have expired anyway. A false positive only ends a session early.
+public class SignedTokens {
+
+    private static final String VERSION   = "v1";
+    private static final int    MAX_TOKEN = 512;
+    private static final int    HASHES    = 4;
+
+    private static final Base64.Encoder B64  = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+
+    private final byte[]           key;
+    private final long             ttlMillis;
+    private final SecureRandom     random = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+
+    private final int           filterBits;
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public SignedTokens(byte[] key, long ttlMillis, int filterBits, long now) {
+        this.key        = key.clone();
+        this.ttlMillis  = ttlMillis;
+        this.filterBits = filterBits;
+        this.current    = new Generation(filterBits, now);
+        this.previous   = new Generation(filterBits, now);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac m = Mac.getInstance("HmacSHA256");
+                m.init(new SecretKeySpec(this.key, "HmacSHA256"));
+                return m;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);   // every JRE ships HmacSHA256
+            }
+        });
+    }
+
+    // ─── Issue / Verify ───────────────────────────────────────────────────
+
+    public String issue(Staff staff, long now) {
+        byte[] jti = new byte[16];
+        random.nextBytes(jti);
+        String payload = VERSION + "|" + B64.encodeToString(jti) + "|" + staff.getStaffId()
+                + "|" + staff.getRole() + "|" + (now + ttlMillis) + "|" + staff.getUsername();
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        return B64.encodeToString(body) + "." + B64.encodeToString(sign(body));
+    }
+
+    // The Staff (id, username, role) a valid token was issued to, or null
+    // if it is malformed, tampered with, expired or revoked
+    public Staff verify(String token, long now) {
+        byte[] body = authenticated(token);
+        if (body == null) return null;
+        String[] f = new String(body, StandardCharsets.UTF_8).split("\\|", 6);
+        if (f.length != 6 || !VERSION.equals(f[0])) return null;
+        try {
+            if (now >= Long.parseLong(f[4])) return null;
+            if (isRevoked(B64D.decode(f[1]), now)) return null;
+            Staff s = new Staff();
+            s.setStaffId(Integer.parseInt(f[2]));
+            s.setRole(f[3]);
+            s.setUsername(f[5]);
+            return s;
+        } catch (IllegalArgumentException e) {   // includes NumberFormatException
+            return null;
+        }
+    }
+
+    // Revokes a valid token; anything else is ignored
+    public void revoke(String token, long now) {
+        byte[] body = authenticated(token);
+        if (body == null) return;
+        String[] f = new String(body, StandardCharsets.UTF_8).split("\\|", 3);
+        if (f.length < 2) return;
+        try {
+            generation(now).add(B64D.decode(f[1]));
+        } catch (IllegalArgumentException ignored) {
+            // not a token we issued
+        }
+    }
+
+    // Decoded payload if the signature checks out
+    private byte[] authenticated(String token) {
+        if (token == null || token.length() > MAX_TOKEN) return null;
+        int dot = token.indexOf('.');
+        if (dot <= 0) return null;
+        try {
+            byte[] body = B64D.decode(token.substring(0, dot));
+            byte[] sig  = B64D.decode(token.substring(dot + 1));
+            return MessageDigest.isEqual(sig, sign(body)) ? body : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] body) {
+        return mac.get().doFinal(body);   // doFinal resets the Mac for the next call
+    }
+
+    // ─── Revocation Filter ────────────────────────────────────────────────
+
+    private boolean isRevoked(byte[] jti, long now) {
+        Generation cur  = generation(now);
+        Generation prev = previous;
+        return cur.mightContain(jti) || prev.mightContain(jti);
+    }
+
+    private Generation generation(long now) {
+        Generation g = current;
+        if (now - g.startedAt < ttlMillis) return g;
+        synchronized (this) {
+            if (current == g) {
+                previous = g;
+                current  = new Generation(filterBits, now);
+            }
+            return current;
+        }
+    }
+
+    // Bloom filter over jti values. The ids are random, so two longs from
+    // the id serve as the hashes (double hashing, h1 + i * h2).
+    private static final class Generation {
+        final AtomicLongArray bits;
+        final int             size;
+        final long            startedAt;
+
+        Generation(int size, long startedAt) {
+            this.bits      = new AtomicLongArray((size + 63) / 64);
+            this.size      = bits.length() * 64;
+            this.startedAt = startedAt;
+        }
+
+        void add(byte[] jti) {
+            if (jti.length < 16) return;
+            ByteBuffer b = ByteBuffer.wrap(jti);
+            long h1 = b.getLong(), h2 = b.getLong() | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (int) Long.remainderUnsigned(h1 + i * h2, size);
+                long mask = 1L << (bit & 63);
+                long old;
+                do {
+                    old = bits.get(bit >>> 6);
+                } while ((old & mask) == 0 && !bits.compareAndSet(bit >>> 6, old, old | mask));
+            }
+        }
+
+        boolean mightContain(byte[] jti) {
+            if (jti.length < 16) return false;
+            ByteBuffer b = ByteBuffer.wrap(jti);
+            long h1 = b.getLong(), h2 = b.getLong() | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (int) Long.remainderUnsigned(h1 + i * h2, size);
+                if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) return false;
+            }
+            return true;
+        }
+    }
+}
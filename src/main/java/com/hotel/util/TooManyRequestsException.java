@@ -0,0 +1,17 @@
+package com.hotel.util;
+
+// The caller must wait before retrying; handlers answer it with
+// 429 Too Many Requests and a Retry-After header.
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -0,0 +1,19 @@
+package com.hotel.util;
+
+import java.util.List;
+
+// Every failed check of one request body. It is an IllegalArgumentException,
+// so existing handlers answer it with 400; the message joins all errors.
+public class ValidationException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> errors;
+
+    public ValidationException(List<String> errors) {
+        super(String.join("; ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() { return errors; }
+}
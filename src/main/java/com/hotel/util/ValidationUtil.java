@@ -21,38 +21,38 @@ public class ValidationUtil {
 
     public static void requireValidEmail(String email, String fieldName) {
         if (email == null || email.trim().isEmpty()) return; // email optional
-        if (!email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
+        if (!Validators.isEmail(email))
             throw new IllegalArgumentException("Invalid " + fieldName + " format");
     }
 
     public static void requireValidContact(String contact, String fieldName) {
         requireNonEmpty(contact, fieldName);
-        if (!contact.matches("^[0-9+\\-]{7,15}$"))
+        if (!Validators.isContact(contact))
             throw new IllegalArgumentException(
                     fieldName + " must be 7-15 digits (numbers, +, - only)");
     }
 
     public static void requireValidUsername(String username) {
         requireLength(username, "Username", 3, 50);
-        if (!username.matches("^[a-zA-Z0-9_]+$"))
+        if (!Validators.isUsername(username))
             throw new IllegalArgumentException(
                     "Username can only contain letters, numbers and underscore");
     }
 
     public static void requireValidRole(String role) {
-        if (!"admin".equals(role) && !"receptionist".equals(role))
+        if (role == null || !Validators.ROLES.contains(role))
             throw new IllegalArgumentException(
                     "Role must be 'admin' or 'receptionist'");
     }
 
     public static void requireValidRoomType(String type) {
-        if (!java.util.List.of("Single","Double","Deluxe","Suite").contains(type))
+        if (type == null || !Validators.ROOM_TYPES.contains(type))
             throw new IllegalArgumentException(
                     "Room type must be Single, Double, Deluxe or Suite");
     }
 
     public static void requireValidRoomStatus(String status) {
-        if (!java.util.List.of("AVAILABLE","OCCUPIED","MAINTENANCE").contains(status))
+        if (status == null || !Validators.ROOM_STATUSES.contains(status))
             throw new IllegalArgumentException(
                     "Room status must be AVAILABLE, OCCUPIED or MAINTENANCE");
     }
@@ -0,0 +1,95 @@
+package com.hotel.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+// Field checks shared by the services, ValidationUtil and Schema.
+// The format checks are hand-written scanners that accept exactly what the
+// regexes they replace accepted, without compiling a Pattern or creating a
+// Matcher per call:
+//
+//   isContact   ^[0-9+\-]{7,15}$
+//   isEmail     ^[\w.+\-]+@[\w\-]+\.[a-zA-Z]{2,}$
+//   isUsername  ^[a-zA-Z0-9_]+$
+//
+// The value sets are immutable Set.of constants, so membership checks are
+// a hash lookup with no per-call list. Like List.of, they throw on
+// contains(null); check for null first where a value may be missing.
+public final class Validators {
+
+    public static final Set<String> ROOM_TYPES          = Set.of("Single", "Double", "Deluxe", "Suite");
+    public static final Set<String> ROOM_STATUSES       = Set.of("AVAILABLE", "OCCUPIED", "MAINTENANCE");
+    public static final Set<String> RESERVATION_STATUSES =
+            Set.of("CONFIRMED", "CHECKED_IN", "CHECKED_OUT", "CANCELLED");
+    public static final Set<String> PAYMENT_METHODS     = Set.of("CASH", "CARD", "ONLINE");
+    public static final Set<String> ROLES               = Set.of("admin", "receptionist");
+
+    private Validators() {}
+
+    // ─── Format Checks ────────────────────────────────────────────────────
+
+    public static boolean isContact(String s) {
+        if (s == null || s.length() < 7 || s.length() > 15) return false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c) && c != '+' && c != '-') return false;
+        }
+        return true;
+    }
+
+    // local@domain.tld, where the domain has no dots of its own
+    public static boolean isEmail(String s) {
+        if (s == null) return false;
+        int at = s.indexOf('@');
+        if (at < 1) return false;
+        for (int i = 0; i < at; i++) {
+            char c = s.charAt(i);
+            if (!isWord(c) && c != '.' && c != '+' && c != '-') return false;
+        }
+        int i = at + 1;
+        while (i < s.length() && (isWord(s.charAt(i)) || s.charAt(i) == '-')) i++;
+        if (i == at + 1 || i >= s.length() || s.charAt(i) != '.') return false;
+        int tld = ++i;
+        while (i < s.length() && isLetter(s.charAt(i))) i++;
+        return i == s.length() && i - tld >= 2;
+    }
+
+    public static boolean isUsername(String s) {
+        if (s == null || s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (!isWord(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    public static boolean hasDigit(String s) {
+        if (s == null) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (isDigit(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // Anything LocalDate.parse accepts (YYYY-MM-DD)
+    public static boolean isDate(String s) {
+        if (s == null || s.isEmpty()) return false;
+        try {
+            LocalDate.parse(s);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    public static boolean isEmpty(String s) {
+        return s == null || s.isEmpty();
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────
+
+    // ASCII only, like the regex classes without UNICODE_CHARACTER_CLASS
+    private static boolean isDigit(char c)  { return c >= '0' && c <= '9'; }
+    private static boolean isLetter(char c) { return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'); }
+    private static boolean isWord(char c)   { return isLetter(c) || isDigit(c) || c == '_'; }
+}
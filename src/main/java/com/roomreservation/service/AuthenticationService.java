@@ -1,21 +1,31 @@
 package com.roomreservation.service;
 
+import com.hotel.util.LoginThrottle;
 import com.roomreservation.model.User;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HexFormat;
 
 public class AuthenticationService {
 
-    private static final int MAX_ATTEMPTS = 3;
+    private static final int  MAX_ATTEMPTS = 3;
+    private static final long LOCKOUT_MS   = 15 * 60_000L;
+    private static final int  MAX_TRACKED  = 10_000;
+    private static final HexFormat HEX = HexFormat.of();
 
     private final DataStore dataStore;
-    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    private final LoginThrottle failedAttempts;
 
     public AuthenticationService(DataStore dataStore) {
-        this.dataStore = dataStore;
+        this(dataStore, new LoginThrottle(MAX_ATTEMPTS, 0, LOCKOUT_MS, MAX_TRACKED,
+                                          System::currentTimeMillis));
+    }
+
+    AuthenticationService(DataStore dataStore, LoginThrottle failedAttempts) {
+        this.dataStore      = dataStore;
+        this.failedAttempts = failedAttempts;
     }
 
     public boolean authenticate(String username, String password) {
@@ -28,27 +38,24 @@ public class AuthenticationService {
         if (user == null) return false;
 
         if (hashPassword(password).equals(user.getHashedPassword())) {
-            failedAttempts.remove(username);
+            failedAttempts.recordSuccess(username);
             return true;
         }
 
-        failedAttempts.merge(username, 1, Integer::sum);
+        failedAttempts.recordFailure(username, null);
         return false;
     }
 
     public String hashPassword(String password) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = md.digest(password.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : bytes) sb.append(String.format("%02x", b));
-            return sb.toString();
+            return HEX.formatHex(md.digest(password.getBytes(StandardCharsets.UTF_8)));
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
     }
 
     public boolean isAccountLocked(String username) {
-        return failedAttempts.getOrDefault(username, 0) >= MAX_ATTEMPTS;
+        return failedAttempts.isLocked(username);
     }
 }
@@ -0,0 +1,93 @@
+package com.hotel;
+
+import com.hotel.model.Reservation;
+import com.hotel.util.ModelJson;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Serializes a reservation list with the old org.json path (JSONObject per
+// row, JSONArray, toString) and with ModelJson, and reports time and bytes
+// allocated per list. No database needed.
+//
+//   mvn -q test-compile
+//   java -cp target/classes:target/test-classes:<json.jar> com.hotel.JsonBenchmark [rows] [rounds]
+public class JsonBenchmark {
+
+    // Results are stored here so the JIT cannot drop the work
+    static volatile String sink;
+
+    public static void main(String[] args) {
+        int rows   = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<Reservation> list = sample(rows);
+
+        System.out.println("=================================================");
+        System.out.println("   JSON SERIALIZATION BENCHMARK");
+        System.out.printf ("   rows=%d  rounds=%d  runtime: JDK %s%n", rows, rounds, Runtime.version());
+        System.out.println("=================================================\n");
+        System.out.printf("%-12s %12s %14s %12s%n", "path", "ms/list", "MB alloc/list", "chars");
+
+        // First round of each warms up the JIT
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+            run(print, "org.json", rounds, () -> {
+                JSONArray arr = new JSONArray();
+                for (Reservation r : list) arr.put(orgJson(r));
+                return arr.toString();
+            });
+            run(print, "ModelJson", rounds, () -> ModelJson.array(list, ModelJson::write));
+        }
+    }
+
+    interface Job { String run(); }
+
+    private static void run(boolean print, String name, int rounds, Job job) {
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid        = Thread.currentThread().getId();
+        long allocStart = mx.getThreadAllocatedBytes(tid);
+        long start      = System.nanoTime();
+        for (int i = 0; i < rounds; i++) sink = job.run();
+        long nanos      = System.nanoTime() - start;
+        long alloc      = mx.getThreadAllocatedBytes(tid) - allocStart;
+        if (print) System.out.printf("%-12s %12.2f %14.2f %12d%n", name,
+                nanos / 1e6 / rounds, alloc / 1048576.0 / rounds, sink.length());
+    }
+
+    // The per-row JSONObject the services built before ModelJson
+    private static JSONObject orgJson(Reservation r) {
+        return new JSONObject()
+                .put("reservationId",     r.getReservationId())
+                .put("reservationNumber", r.getReservationNumber())
+                .put("guestId",           r.getGuestId())
+                .put("roomId",            r.getRoomId())
+                .put("staffId",           r.getStaffId())
+                .put("checkinDate",       r.getCheckinDate().toString())
+                .put("checkoutDate",      r.getCheckoutDate().toString())
+                .put("status",            r.getStatus())
+                .put("createdAt",         r.getCreatedAt() != null ? r.getCreatedAt().toString() : "")
+                .put("guestName",         r.getGuestName()  != null ? r.getGuestName()  : "")
+                .put("roomNumber",        r.getRoomNumber() != null ? r.getRoomNumber() : "")
+                .put("staffName",         r.getStaffName()  != null ? r.getStaffName()  : "");
+    }
+
+    private static List<Reservation> sample(int rows) {
+        List<Reservation> list = new ArrayList<>(rows);
+        LocalDate base = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            Reservation r = new Reservation(String.format("RES-%08X", i), i % 500, i % 40 + 1,
+                    i % 5 + 1, base.plusDays(i % 300), base.plusDays(i % 300 + 3));
+            r.setReservationId(i + 1);
+            r.setGuestName ("Guest " + i);
+            r.setRoomNumber(String.valueOf(100 + i % 40));
+            r.setStaffName ("Receptionist " + (i % 5));
+            list.add(r);
+        }
+        return list;
+    }
+}
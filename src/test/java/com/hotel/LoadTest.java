@@ -0,0 +1,108 @@
+package com.hotel;
+
+import com.hotel.config.HttpExecutors;
+import com.hotel.handler.AdmissionFilter;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+// Throughput comparison of the HttpServer executor modes.
+// Each request sleeps to simulate a blocking JDBC call, so the numbers show
+// how many requests each mode keeps in flight — not database speed.
+//
+//   mvn -q test-compile
+//   java -cp target/classes:target/test-classes com.hotel.LoadTest [clients] [seconds] [blockMs]
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int blockMs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        System.out.println("=================================================");
+        System.out.println("   HTTP EXECUTOR LOAD TEST");
+        System.out.printf ("   clients=%d  duration=%ds  simulated JDBC=%dms%n",
+                clients, seconds, blockMs);
+        System.out.println("   runtime: JDK " + Runtime.version());
+        System.out.println("=================================================\n");
+        System.out.printf("%-14s %10s %10s %10s %10s %12s%n",
+                "mode", "requests", "req/s", "503s", "errors", "avg ms");
+
+        for (HttpExecutors.Mode mode : HttpExecutors.Mode.values()) {
+            if (mode == HttpExecutors.Mode.VIRTUAL && !HttpExecutors.virtualThreadsSupported()) {
+                System.out.printf("%-14s %10s%n", mode, "skipped (needs JDK 21+)");
+                continue;
+            }
+            run(mode, clients, seconds, blockMs, Integer.MAX_VALUE);
+        }
+
+        // Same fixed pool, but shedding load past 50 in-flight requests
+        run(HttpExecutors.Mode.FIXED, clients, seconds, blockMs, 50);
+    }
+
+    private static void run(HttpExecutors.Mode mode, int clients, int seconds,
+                            int blockMs, int maxInFlight) throws Exception {
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        AdmissionFilter admission = new AdmissionFilter(maxInFlight, 1);
+        server.createContext("/api/load", ex -> {
+            try { Thread.sleep(blockMs); }
+            catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            ex.sendResponseHeaders(200, body.length);
+            try (OutputStream os = ex.getResponseBody()) { os.write(body); }
+        }).getFilters().add(admission);
+
+        ExecutorService serverPool = HttpExecutors.create(mode, HttpExecutors.DEFAULT_THREADS);
+        server.setExecutor(admission.track(serverPool));
+        server.start();
+
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/load");
+        // Client threads only block in send(); the HttpClient keeps its own executor
+        ExecutorService clientPool = Executors.newFixedThreadPool(clients);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        LongAdder ok = new LongAdder(), busy = new LongAdder(), errors = new LongAdder();
+        LongAdder latencyNanos = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            clientPool.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> res = client.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() == 503) busy.increment();
+                        else { ok.increment(); latencyNanos.add(System.nanoTime() - t0); }
+                    }
+                } catch (Exception e) {
+                    errors.increment();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(seconds + 30L, TimeUnit.SECONDS);
+        clientPool.shutdownNow();
+        server.stop(0);
+        serverPool.shutdownNow();
+
+        long n = ok.sum();
+        String label = maxInFlight == Integer.MAX_VALUE ? mode.toString() : mode + "/shed" + maxInFlight;
+        System.out.printf("%-14s %10d %10.0f %10d %10d %12.1f%n",
+                label, n, n / (double) seconds, busy.sum(), errors.sum(),
+                n == 0 ? 0 : latencyNanos.sum() / 1e6 / n);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hotel;
+
+import com.hotel.config.DatabaseConfig;
+import com.hotel.dao.RoomDAO;
+import com.hotel.model.Room;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Compares room lookups served from RoomInventoryCache with the SQL the
+// DAO used to run on every call. Needs the database from DatabaseConfig.
+//
+//   mvn -q test-compile
+//   java -cp target/classes:target/test-classes:<mysql-connector.jar> com.hotel.RoomCacheBenchmark [iterations]
+public class RoomCacheBenchmark {
+
+    private static final String BY_ID_SQL = "SELECT r.*, rt.type_name FROM room r " +
+            "JOIN room_type rt ON r.room_type_id = rt.room_type_id WHERE r.room_id=?";
+    private static final String TYPE_SQL  =
+            "SELECT room_type_id FROM room_type WHERE type_name = ?";
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        RoomDAO dao = new RoomDAO();
+        List<Room> rooms = dao.findAll();
+        if (rooms.isEmpty()) {
+            System.out.println("No rooms in the database — nothing to benchmark.");
+            return;
+        }
+        int[] ids = rooms.stream().mapToInt(Room::getRoomId).toArray();
+
+        System.out.println("=================================================");
+        System.out.println("   ROOM INVENTORY CACHE BENCHMARK");
+        System.out.printf ("   rooms=%d  iterations=%d%n", ids.length, iterations);
+        System.out.println("=================================================\n");
+        System.out.printf("%-26s %12s %14s%n", "operation", "ns/op", "ops/s");
+
+        // Warm up both paths before measuring
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+            report(print, "findById (cache)", iterations, () ->
+                    dao.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+            report(print, "findById (SQL)", iterations, () ->
+                    queryById(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+            report(print, "findTypeIdByName (cache)", iterations, () ->
+                    dao.findTypeIdByName("Deluxe"));
+            report(print, "findTypeIdByName (SQL)", iterations, () ->
+                    queryTypeId("Deluxe"));
+            report(print, "findAll (cache)", iterations, dao::findAll);
+        }
+    }
+
+    interface Op { Object run() throws Exception; }
+
+    // Results are stored here so the JIT cannot drop the lookups
+    static volatile Object sink;
+
+    private static void report(boolean print, String name, int iterations, Op op)
+            throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) sink = op.run();
+        long nanos = System.nanoTime() - start;
+        if (print) System.out.printf("%-26s %12.0f %14.0f%n", name,
+                (double) nanos / iterations, iterations / (nanos / 1e9));
+    }
+
+    private static Object queryById(int roomId) throws Exception {
+        try (Connection c = DatabaseConfig.getInstance().getConnection();
+             PreparedStatement ps = c.prepareStatement(BY_ID_SQL)) {
+            ps.setInt(1, roomId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString("room_number") : null;
+            }
+        }
+    }
+
+    private static Object queryTypeId(String typeName) throws Exception {
+        try (Connection c = DatabaseConfig.getInstance().getConnection();
+             PreparedStatement ps = c.prepareStatement(TYPE_SQL)) {
+            ps.setString(1, typeName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.hotel;
+
+import com.hotel.config.DatabaseConfig;
+import com.hotel.observer.NotificationService;
+import com.hotel.util.SessionManager;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// getInstance() throughput under contention: the old static synchronized
+// lazy getter against the holder idiom, plus the real DatabaseConfig,
+// SessionManager and NotificationService getters. No database needed
+// (DatabaseConfig only connects on the first borrow).
+//
+//   mvn -q test-compile
+//   java -cp target/classes:target/test-classes:<mysql.jar> com.hotel.SingletonBenchmark [seconds]
+public class SingletonBenchmark {
+
+    // Results are stored here so the JIT cannot drop the calls
+    static volatile Object sink;
+
+    // The pattern the three services used before
+    static final class SynchronizedLazy {
+        private static SynchronizedLazy instance;
+        static synchronized SynchronizedLazy getInstance() {
+            if (instance == null) instance = new SynchronizedLazy();
+            return instance;
+        }
+    }
+
+    static final class HolderLazy {
+        private static final class Holder {
+            static final HolderLazy INSTANCE = new HolderLazy();
+        }
+        static HolderLazy getInstance() { return Holder.INSTANCE; }
+    }
+
+    public static void main(String[] args) throws Exception {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 1.0;
+        int[]  threads = {1, 8, 32};
+
+        System.out.println("=================================================");
+        System.out.println("   SINGLETON CONTENTION BENCHMARK");
+        System.out.printf ("   %.1fs per run  cpus=%d  runtime: JDK %s%n",
+                seconds, Runtime.getRuntime().availableProcessors(), Runtime.version());
+        System.out.println("=================================================\n");
+        System.out.printf("%-22s %14s %14s %14s%n", "getInstance (M calls/s)",
+                "1 thread", "8 threads", "32 threads");
+
+        for (int round = 0; round < 2; round++) {   // first round warms up the JIT
+            boolean print = round == 1;
+            row(print, "synchronized (before)", SynchronizedLazy::getInstance, threads, seconds);
+            row(print, "holder (after)",        HolderLazy::getInstance,       threads, seconds);
+            row(print, "DatabaseConfig",        DatabaseConfig::getInstance,   threads, seconds);
+            row(print, "SessionManager",        SessionManager::getInstance,   threads, seconds);
+            row(print, "NotificationService",   NotificationService::getInstance, threads, seconds);
+        }
+    }
+
+    private static void row(boolean print, String name, Supplier<?> getter,
+                            int[] threads, double seconds) throws InterruptedException {
+        StringBuilder line = new StringBuilder(String.format("%-22s", name));
+        for (int n : threads) line.append(String.format(" %14.1f", run(getter, n, seconds)));
+        if (print) System.out.println(line);
+    }
+
+    // Millions of calls per second across all threads
+    private static double run(Supplier<?> getter, int threads, double seconds)
+            throws InterruptedException {
+        LongAdder      calls = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[]         end   = new long[1];
+        Thread[]       ts    = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            ts[i] = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                long n = 0;
+                Object last = null;
+                while (System.nanoTime() < end[0]) {
+                    for (int j = 0; j < 1_000; j++) last = getter.get();
+                    n += 1_000;
+                }
+                sink = last;
+                calls.add(n);
+            });
+            ts[i].start();
+        }
+        long begin = System.nanoTime();
+        end[0] = begin + (long) (seconds * 1e9);
+        start.countDown();
+        for (Thread t : ts) t.join();
+        return calls.sum() / ((System.nanoTime() - begin) / 1e9) / 1e6;
+    }
+}
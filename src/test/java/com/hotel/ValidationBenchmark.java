@@ -0,0 +1,104 @@
+package com.hotel;
+
+import com.hotel.util.Schema;
+import com.hotel.util.Validators;
+import org.json.JSONObject;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+// The validate phase of POST /api/reservations: the old String.matches and
+// List.of checks against Validators and a Schema, on a valid booking body.
+// Reports ns and bytes allocated per body. No database needed.
+//
+//   mvn -q test-compile
+//   java -cp target/classes:target/test-classes:<json.jar> com.hotel.ValidationBenchmark [iterations]
+public class ValidationBenchmark {
+
+    // Results are stored here so the JIT cannot drop the work
+    static volatile Object sink;
+
+    static final Schema BOOKING = Schema.builder()
+            .field   ("guestName",     s -> s.length() >= 2,   "Guest name must be at least 2 characters")
+            .field   ("contactNumber", Validators::isContact, "Invalid contact number (7-15 digits)")
+            .optional("email",         Validators::isEmail,   "Invalid email address")
+            .required("checkinDate",                          "Check-in date required")
+            .field   ("checkinDate",   Validators::isDate,    "Invalid check-in date format")
+            .required("checkoutDate",                         "Check-out date required")
+            .field   ("checkoutDate",  Validators::isDate,    "Invalid check-out date format")
+            .field   ("roomType",      Validators.ROOM_TYPES::contains, "Invalid room type")
+            .build();
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        JSONObject body = new JSONObject()
+                .put("guestName",     "Nimal Perera")
+                .put("contactNumber", "+94712345678")
+                .put("email",         "nimal.perera@hotel-guest.com")
+                .put("checkinDate",   LocalDate.now().plusDays(3).toString())
+                .put("checkoutDate",  LocalDate.now().plusDays(5).toString())
+                .put("roomType",      "Deluxe");
+
+        System.out.println("=================================================");
+        System.out.println("   VALIDATION BENCHMARK");
+        System.out.printf ("   iterations=%d  runtime: JDK %s%n", iterations, Runtime.version());
+        System.out.println("=================================================\n");
+        System.out.printf("%-22s %12s %14s%n", "path", "ns/body", "bytes/body");
+
+        // First round of each warms up the JIT
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+            run(print, "String.matches (before)", iterations, () -> regex(body));
+            run(print, "Validators",              iterations, () -> scanners(body));
+            run(print, "Schema",                  iterations, () -> { BOOKING.validate(body); return body; });
+        }
+    }
+
+    interface Job { Object run(); }
+
+    private static void run(boolean print, String name, int iterations, Job job) {
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid        = Thread.currentThread().getId();
+        long allocStart = mx.getThreadAllocatedBytes(tid);
+        long start      = System.nanoTime();
+        for (int i = 0; i < iterations; i++) sink = job.run();
+        long nanos      = System.nanoTime() - start;
+        long alloc      = mx.getThreadAllocatedBytes(tid) - allocStart;
+        if (print) System.out.printf("%-22s %12.1f %14.1f%n", name,
+                (double) nanos / iterations, (double) alloc / iterations);
+    }
+
+    // The checks ReservationService.createReservation ran before
+    private static Object regex(JSONObject json) {
+        String guestName = json.optString("guestName", "").trim();
+        String contact   = json.optString("contactNumber", "").trim();
+        String email     = json.optString("email", "").trim();
+        String roomType  = json.optString("roomType", "").trim();
+        boolean ok = guestName.length() >= 2
+                && contact.matches("^[0-9+\\-]{7,15}$")
+                && (email.isEmpty() || email.matches("^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$"))
+                && dates(json)
+                && List.of("Single","Double","Deluxe","Suite").contains(roomType);
+        return ok ? json : null;
+    }
+
+    private static Object scanners(JSONObject json) {
+        String guestName = json.optString("guestName", "").trim();
+        String contact   = json.optString("contactNumber", "").trim();
+        String email     = json.optString("email", "").trim();
+        String roomType  = json.optString("roomType", "").trim();
+        boolean ok = guestName.length() >= 2
+                && Validators.isContact(contact)
+                && (email.isEmpty() || Validators.isEmail(email))
+                && dates(json)
+                && Validators.ROOM_TYPES.contains(roomType);
+        return ok ? json : null;
+    }
+
+    private static boolean dates(JSONObject json) {
+        return Validators.isDate(json.optString("checkinDate", ""))
+            && Validators.isDate(json.optString("checkoutDate", ""));
+    }
+}
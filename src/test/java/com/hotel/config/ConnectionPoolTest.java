@@ -0,0 +1,128 @@
+package com.hotel.config;
+
+import org.junit.jupiter.api.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test Suite for ConnectionPool.
+ *
+ * Physical connections are Mockito mocks, so no MySQL instance is needed.
+ * Covers reuse, the max-size bound with borrow timeout, validation on
+ * borrow, transaction reset on return and the pool metrics.
+ */
+@DisplayName("ConnectionPool Tests")
+public class ConnectionPoolTest {
+
+    private final List<Connection> opened = new ArrayList<>();
+    private ConnectionPool pool;
+
+    private Connection newMock() throws SQLException {
+        Connection c = mock(Connection.class);
+        when(c.isValid(anyInt())).thenReturn(true);
+        when(c.getAutoCommit()).thenReturn(true);
+        opened.add(c);
+        return c;
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ConnectionPool(this::newMock, 0, 2, 60_000, 200, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    // ── TC-POOL-01 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-01: Closed connection is reused by the next borrow")
+    void testConnectionIsReused() throws SQLException {
+        pool.borrow().close();
+        pool.borrow().close();
+
+        assertEquals(1, opened.size(), "Second borrow should reuse the first physical connection");
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getActiveCount());
+        verify(opened.get(0), never()).close();
+    }
+
+    // ── TC-POOL-02 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-02: Borrow times out when the pool is exhausted")
+    void testBorrowTimesOutAtMaxSize() throws SQLException {
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+
+        assertThrows(SQLTimeoutException.class, () -> pool.borrow());
+        assertEquals(1, pool.getTimeoutCount());
+        assertEquals(2, pool.getActiveCount());
+
+        a.close();
+        b.close();
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    // ── TC-POOL-03 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-03: Closing a handle twice releases it only once")
+    void testDoubleCloseIsHarmless() throws SQLException {
+        Connection c = pool.borrow();
+        c.close();
+        c.close();
+
+        assertTrue(c.isClosed());
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getActiveCount());
+        assertThrows(SQLException.class, c::createStatement,
+                "A returned handle must not reach the physical connection");
+    }
+
+    // ── TC-POOL-04 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-04: Uncommitted transaction is rolled back on return")
+    void testOpenTransactionRolledBackOnReturn() throws SQLException {
+        Connection c = pool.borrow();
+        Connection raw = opened.get(0);
+        when(raw.getAutoCommit()).thenReturn(false);
+
+        c.close();
+
+        verify(raw).rollback();
+        verify(raw).setAutoCommit(true);
+    }
+
+    // ── TC-POOL-05 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-05: Fatal SQLState marks the connection broken and discards it")
+    void testBrokenConnectionDiscarded() throws SQLException {
+        Connection c = pool.borrow();
+        Connection raw = opened.get(0);
+        when(raw.createStatement()).thenThrow(new SQLException("gone", "08S01"));
+
+        assertThrows(SQLException.class, c::createStatement);
+        c.close();
+
+        verify(raw).close();
+        assertEquals(0, pool.getTotalCount());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    // ── TC-POOL-06 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-POOL-06: Metrics count borrows and created connections")
+    void testMetrics() throws SQLException {
+        for (int i = 0; i < 5; i++) pool.borrow().close();
+
+        assertEquals(5, pool.getBorrowCount());
+        assertEquals(1, pool.getCreatedCount());
+        assertTrue(pool.getAverageWaitMillis() >= 0);
+    }
+}
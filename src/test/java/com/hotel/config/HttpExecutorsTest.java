@@ -0,0 +1,51 @@
+package com.hotel.config;
+
+import org.junit.jupiter.api.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for HttpExecutors.
+ *
+ * Covers parsing of -Dhotel.http.executor, the JDK-dependent default, and
+ * that every mode yields a working executor on this JDK.
+ */
+@DisplayName("HttpExecutors Tests")
+public class HttpExecutorsTest {
+
+    // ── TC-EXEC-01 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-EXEC-01: Mode names parse case-insensitively; unknown names are refused")
+    void testParse() {
+        assertEquals(HttpExecutors.Mode.FIXED,         HttpExecutors.parse("fixed"));
+        assertEquals(HttpExecutors.Mode.VIRTUAL,       HttpExecutors.parse(" Virtual "));
+        assertEquals(HttpExecutors.Mode.WORK_STEALING, HttpExecutors.parse("workstealing"));
+        assertEquals(HttpExecutors.Mode.WORK_STEALING, HttpExecutors.parse("WORK_STEALING"));
+        assertThrows(IllegalArgumentException.class, () -> HttpExecutors.parse("cached"));
+    }
+
+    // ── TC-EXEC-02 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-EXEC-02: Unset defaults to virtual only where the JDK supports it")
+    void testDefault() {
+        HttpExecutors.Mode expected = HttpExecutors.virtualThreadsSupported()
+                ? HttpExecutors.Mode.VIRTUAL : HttpExecutors.Mode.FIXED;
+        assertEquals(expected, HttpExecutors.parse(null));
+        assertEquals(expected, HttpExecutors.parse(""));
+    }
+
+    // ── TC-EXEC-03 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-EXEC-03: Every mode creates an executor that runs tasks")
+    void testCreate() throws Exception {
+        for (HttpExecutors.Mode mode : HttpExecutors.Mode.values()) {
+            ExecutorService pool = HttpExecutors.create(mode, 2);
+            try {
+                assertEquals(42, pool.submit(() -> 42).get(5, TimeUnit.SECONDS), mode.name());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
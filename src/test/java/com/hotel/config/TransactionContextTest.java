@@ -0,0 +1,124 @@
+package com.hotel.config;
+
+import org.junit.jupiter.api.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test Suite for TransactionContext.
+ *
+ * Runs against a ConnectionPool of Mockito connections. Covers connection
+ * sharing, commit and rollback of the outer scope, savepoints for nested
+ * scopes and the commit / rollback hooks.
+ */
+@DisplayName("TransactionContext Tests")
+public class TransactionContextTest {
+
+    private final List<Connection> opened = new ArrayList<>();
+    private ConnectionPool pool;
+
+    private Connection newMock() throws SQLException {
+        Connection c = mock(Connection.class);
+        when(c.isValid(anyInt())).thenReturn(true);
+        when(c.getAutoCommit()).thenReturn(true);
+        when(c.setSavepoint()).thenReturn(mock(Savepoint.class));
+        opened.add(c);
+        return c;
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ConnectionPool(this::newMock, 0, 2, 60_000, 200, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    // ── TC-TX-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TX-01: DAO calls in one scope share a connection and commit once")
+    void testSharedConnectionCommits() throws SQLException {
+        List<String> hooks = new ArrayList<>();
+
+        TransactionContext.inTransaction(pool, () -> {
+            Connection a = TransactionContext.boundConnection();
+            Connection b = TransactionContext.boundConnection();
+            assertSame(a, b);
+            try { a.close(); } catch (SQLException e) { fail(e); }   // no-op for DAOs
+            assertEquals(1, pool.getActiveCount());
+            TransactionContext.onCommit(() -> hooks.add("commit"));
+            TransactionContext.onRollback(() -> hooks.add("rollback"));
+            return null;
+        });
+
+        assertEquals(1, opened.size());
+        verify(opened.get(0)).setAutoCommit(false);
+        verify(opened.get(0)).commit();
+        assertEquals(List.of("commit"), hooks);
+        assertEquals(0, pool.getActiveCount());
+        assertNull(TransactionContext.boundConnection());
+    }
+
+    // ── TC-TX-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TX-02: Exception rolls back, runs rollback hooks and propagates")
+    void testRollbackOnException() throws SQLException {
+        List<String> hooks = new ArrayList<>();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                TransactionContext.inTransaction(pool, () -> {
+                    TransactionContext.onCommit(() -> hooks.add("commit"));
+                    TransactionContext.onRollback(() -> hooks.add("rollback"));
+                    throw new IllegalArgumentException("No rooms available");
+                }));
+
+        verify(opened.get(0), never()).commit();
+        verify(opened.get(0), atLeastOnce()).rollback();
+        assertEquals(List.of("rollback"), hooks);
+        assertFalse(TransactionContext.isActive());
+    }
+
+    // ── TC-TX-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TX-03: Failed nested scope rolls back to its savepoint only")
+    void testNestedScopeUsesSavepoint() throws SQLException {
+        List<String> hooks = new ArrayList<>();
+
+        TransactionContext.inTransaction(pool, () -> {
+            TransactionContext.onCommit(() -> hooks.add("outer"));
+            assertThrows(RuntimeException.class, () -> TransactionContext.inTransaction(() -> {
+                TransactionContext.onCommit(() -> hooks.add("inner-commit"));
+                TransactionContext.onRollback(() -> hooks.add("inner-rollback"));
+                throw new RuntimeException("inner failed");
+            }));
+            return null;
+        });
+
+        Connection c = opened.get(0);
+        verify(c).setSavepoint();
+        verify(c).rollback(any(Savepoint.class));
+        verify(c).commit();
+        assertEquals(List.of("inner-rollback", "outer"), hooks);
+    }
+
+    // ── TC-TX-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TX-04: Enlisted connection refuses transaction control")
+    void testEnlistedConnectionGuardsCommit() {
+        TransactionContext.inTransaction(pool, () -> {
+            Connection c = TransactionContext.boundConnection();
+            assertThrows(SQLException.class, c::commit);
+            assertThrows(SQLException.class, () -> c.setAutoCommit(true));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.hotel.dao;
+
+import com.hotel.model.Room;
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for RoomInventoryCache.
+ *
+ * The inventory is loaded from an in-memory room list instead of MySQL.
+ * Covers copy-on-read, snapshot publishing on writes, and the counters.
+ */
+@DisplayName("RoomInventoryCache Tests")
+public class RoomInventoryCacheTest {
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RoomInventoryCache cache;
+
+    private static Room room(int id, String number, int typeId, String typeName, String status) {
+        Room r = new Room(number, 1, typeId, status);
+        r.setRoomId(id);
+        r.setTypeName(typeName);
+        return r;
+    }
+
+    @BeforeEach
+    void setUp() {
+        rooms.add(room(1, "101", 1, "Single", "AVAILABLE"));
+        rooms.add(room(2, "102", 1, "Single", "MAINTENANCE"));
+        rooms.add(room(3, "201", 2, "Double", "AVAILABLE"));
+        cache = new RoomInventoryCache(version -> {
+            loads.incrementAndGet();
+            List<Room> copy = new ArrayList<>();
+            for (Room r : rooms) copy.add(room(r.getRoomId(), r.getRoomNumber(),
+                    r.getRoomTypeId(), r.getTypeName(), r.getRoomStatus()));
+            return new RoomInventoryCache.Snapshot(version, copy,
+                    Map.of("Single", 1, "Double", 2, "Deluxe", 3, "Suite", 4));
+        }, 0);
+    }
+
+    // ── TC-INV-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-INV-01: Lookups are served from one load")
+    void testLookupsFromSnapshot() {
+        assertEquals("102", cache.findById(2).getRoomNumber());
+        assertEquals(3, cache.findByNumber("201").getRoomId());
+        assertEquals(3, cache.findAll().size());
+        assertEquals(4, cache.findTypeIdByName("Suite"));
+        assertEquals(-1, cache.findTypeIdByName("Penthouse"));
+        assertNull(cache.findById(99));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(5, cache.getHitCount());
+    }
+
+    // ── TC-INV-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-INV-02: Returned rooms are copies")
+    void testCopyOnRead() {
+        cache.findById(1).setRoomStatus("OCCUPIED");
+        cache.findAll().get(0).setRoomNumber("999");
+
+        assertEquals("AVAILABLE", cache.findById(1).getRoomStatus());
+        assertEquals("101", cache.findAll().get(0).getRoomNumber());
+    }
+
+    // ── TC-INV-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-INV-03: Status change publishes a new version without reloading")
+    void testApplyStatus() {
+        assertEquals(1, cache.findAvailableByType("Single").size());
+        long before = cache.getVersion();
+
+        cache.applyStatus(1, "OCCUPIED");
+
+        assertTrue(cache.getVersion() > before);
+        assertTrue(cache.findAvailableByType("Single").isEmpty());
+        assertEquals("OCCUPIED", cache.findById(1).getRoomStatus());
+        assertEquals(1, loads.get());
+    }
+
+    // ── TC-INV-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-INV-04: Reload picks up added rooms and number checks follow")
+    void testReload() {
+        assertFalse(cache.roomNumberExists("301", 0));
+
+        rooms.add(room(4, "301", 3, "Deluxe", "AVAILABLE"));
+        cache.reload();
+
+        assertTrue(cache.roomNumberExists("301", 0));
+        assertFalse(cache.roomNumberExists("301", 4), "Own number is excluded on edit");
+        assertEquals(4, cache.findAll().size());
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,94 @@
+package com.hotel.dao;
+
+import com.hotel.model.RoomRate;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for RoomRateCache.
+ *
+ * Rates come from an in-memory timeline instead of the room_rate table.
+ * Covers date resolution, pricing a stay that spans a rate change, and
+ * the read-through / invalidation behaviour.
+ */
+@DisplayName("RoomRateCache Tests")
+public class RoomRateCacheTest {
+
+    private static final int SINGLE = 1;
+
+    private final List<RoomRate> rates = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RoomRateCache cache;
+
+    private static RoomRate rate(String perNight, LocalDate from, LocalDate to) {
+        RoomRate r = new RoomRate();
+        r.setRoomTypeId(SINGLE);
+        r.setRatePerNight(new BigDecimal(perNight));
+        r.setEffectiveFrom(from);
+        r.setEffectiveTo(to);
+        return r;
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 100/night until end of June, 120/night from July (open-ended)
+        rates.add(rate("100.00", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30)));
+        rates.add(rate("120.00", LocalDate.of(2026, 7, 1), null));
+        cache = new RoomRateCache(typeId -> { loads.incrementAndGet(); return rates; }, 0);
+    }
+
+    // ── TC-RATE-01 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RATE-01: Rate resolves by effective date")
+    void testRateOnDate() {
+        assertEquals(new BigDecimal("100.00"),
+                cache.rateOn(SINGLE, LocalDate.of(2026, 6, 30)).getRatePerNight());
+        assertEquals(new BigDecimal("120.00"),
+                cache.rateOn(SINGLE, LocalDate.of(2026, 7, 1)).getRatePerNight());
+        assertNull(cache.rateOn(SINGLE, LocalDate.of(2025, 12, 31)));
+    }
+
+    // ── TC-RATE-02 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RATE-02: Stay spanning a rate change is priced per night")
+    void testPriceAcrossRateChange() {
+        // Jun 28, 29, 30 at 100 + Jul 1, 2 at 120
+        BigDecimal price = cache.priceStay(SINGLE,
+                LocalDate.of(2026, 6, 28), LocalDate.of(2026, 7, 3));
+
+        assertEquals(0, new BigDecimal("540.00").compareTo(price));
+    }
+
+    // ── TC-RATE-03 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RATE-03: Later-starting overlapping rate takes precedence")
+    void testNewerRateWins() {
+        rates.add(rate("150.00", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2)));
+
+        BigDecimal price = cache.priceStay(SINGLE,
+                LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 4));
+
+        // Feb 28 at 100, Mar 1-2 at 150, Mar 3 back to 100
+        assertEquals(0, new BigDecimal("500.00").compareTo(price));
+    }
+
+    // ── TC-RATE-04 ──────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RATE-04: Timeline is loaded once and reloaded after invalidate")
+    void testReadThroughAndInvalidate() {
+        cache.rateOn(SINGLE, LocalDate.of(2026, 2, 1));
+        cache.rateOn(SINGLE, LocalDate.of(2026, 8, 1));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+        cache.invalidate(SINGLE);
+        cache.rateOn(SINGLE, LocalDate.of(2026, 2, 1));
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,119 @@
+package com.hotel.handler;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for AdmissionFilter.
+ *
+ * Covers the 503 + Retry-After answer for requests over the limit while
+ * the only worker is busy, the in-flight count going back down after
+ * a finished task and after a submit the executor refused, and the
+ * hand-off time that MetricsFilter measures latency from.
+ */
+@DisplayName("AdmissionFilter Tests")
+public class AdmissionFilterTest {
+
+    // ── TC-ADM-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ADM-01: Over the limit, a request gets 503 without waiting for the busy worker")
+    void testImmediate503() throws Exception {
+        AdmissionFilter admission = new AdmissionFilter(1, 7);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/rooms", ex -> {
+            entered.countDown();
+            try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            ex.sendResponseHeaders(200, 2);
+            try (OutputStream os = ex.getResponseBody()) { os.write("ok".getBytes()); }
+        }).getFilters().add(admission);
+        server.setExecutor(admission.track(worker));
+        server.start();
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/api/rooms");
+            Future<Integer> first = client.submit(
+                    () -> ((HttpURLConnection) url.openConnection()).getResponseCode());
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals(1, admission.getInFlight());
+
+            HttpURLConnection c = (HttpURLConnection) url.openConnection();
+            c.setReadTimeout(5_000);
+            assertEquals(503, c.getResponseCode());            // worker still blocked
+            assertEquals("7", c.getHeaderField("Retry-After"));
+            assertEquals(1, admission.getRejectedCount());
+
+            release.countDown();
+            assertEquals(200, first.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            server.stop(0);
+            worker.shutdownNow();
+            client.shutdownNow();
+        }
+    }
+
+    // ── TC-ADM-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ADM-02: In-flight count drops after a task and after a refused submit")
+    void testInFlightAccounting() throws Exception {
+        AdmissionFilter admission = new AdmissionFilter(10, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Executor tracked = admission.track(worker);
+            tracked.execute(() -> {
+                try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            });
+            tracked.execute(() -> {});
+            assertEquals(2, admission.getInFlight());         // running + queued
+
+            release.countDown();
+            worker.shutdown();
+            assertTrue(worker.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(0, admission.getInFlight());
+
+            Executor refusing = admission.track(task -> { throw new RejectedExecutionException("full"); });
+            assertThrows(RejectedExecutionException.class, () -> refusing.execute(() -> {}));
+            assertEquals(0, admission.getInFlight());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    // ── TC-ADM-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ADM-03: A tracked task sees its hand-off time, not the time it started running")
+    void testArrivalStamp() throws Exception {
+        AdmissionFilter admission = new AdmissionFilter(10, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            Executor tracked = admission.track(worker);
+            tracked.execute(() -> {
+                try { release.await(); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            });
+            long before = System.nanoTime();
+            CompletableFuture<Long> seen = new CompletableFuture<>();
+            tracked.execute(() -> seen.complete(AdmissionFilter.arrivalNanos(-1)));
+            long after = System.nanoTime();
+
+            Thread.sleep(50);                                  // queued behind the first task
+            release.countDown();
+            long arrived = seen.get(5, TimeUnit.SECONDS);
+            assertTrue(arrived >= before && arrived <= after);
+            assertEquals(-1, AdmissionFilter.arrivalNanos(-1));  // not a tracked thread
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+}
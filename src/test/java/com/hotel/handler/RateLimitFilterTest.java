@@ -0,0 +1,134 @@
+package com.hotel.handler;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for RateLimitFilter.
+ *
+ * Covers burst and refill of the GCRA buckets on a fake clock, that
+ * concurrent callers never get more than the burst, the reported client
+ * state, and the 429 + Retry-After answer through a real HttpServer.
+ */
+@DisplayName("RateLimitFilter Tests")
+public class RateLimitFilterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(5 * SECOND);
+
+    // ── TC-RL-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RL-01: A full bucket allows the burst, then refills at the rate")
+    void testBurstAndRefill() {
+        RateLimitFilter f = new RateLimitFilter("api", 2, 3, 100, now::get);
+
+        assertEquals(0, f.acquire("ip:a"));
+        assertEquals(0, f.acquire("ip:a"));
+        assertEquals(0, f.acquire("ip:a"));
+        assertEquals(SECOND / 2, f.acquire("ip:a"));   // one token every 500ms
+        assertEquals(0, f.acquire("ip:b"));            // other clients unaffected
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(0, f.acquire("ip:a"));
+        assertTrue(f.acquire("ip:a") > 0);
+
+        now.addAndGet(10 * SECOND);                    // idle: back to a full burst, not more
+        for (int i = 0; i < 3; i++) assertEquals(0, f.acquire("ip:a"));
+        assertTrue(f.acquire("ip:a") > 0);
+
+        assertEquals(8, f.getAllowedCount());
+        assertEquals(3, f.getLimitedCount());
+    }
+
+    // ── TC-RL-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RL-02: Concurrent callers on one client get exactly the burst")
+    void testConcurrentAcquire() throws Exception {
+        RateLimitFilter f = new RateLimitFilter("api", 1, 100, 100, now::get);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                for (int j = 0; j < 50; j++) if (f.acquire("staff:1") == 0) granted.incrementAndGet();
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) t.join();
+
+        assertEquals(100, granted.get());
+    }
+
+    // ── TC-RL-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RL-03: Client state lists the emptiest buckets; full ones are swept")
+    void testClientStateAndSweep() {
+        RateLimitFilter f = new RateLimitFilter("reports", 1, 2, 3, now::get);
+        f.acquire("ip:a"); f.acquire("ip:a");
+        f.acquire("ip:b");
+
+        List<RateLimitFilter.ClientState> low = f.lowestBuckets(1, 10);
+        assertEquals(2, low.size());
+        assertEquals("ip:a", low.get(0).key);
+        assertEquals(0,      low.get(0).tokens);
+        assertEquals(1_000,  low.get(0).retryAfterMillis);
+        assertEquals(1,      low.get(1).tokens);
+
+        now.addAndGet(3 * SECOND);                     // every bucket is full again
+        f.acquire("ip:c");
+        f.acquire("ip:d");                             // at maxKeys: sweep
+        assertEquals(2, f.getTrackedClients());
+        assertEquals(0, f.getEvictionCount());
+    }
+
+    // ── TC-RL-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RL-04: Over-budget requests get 429 with Retry-After")
+    void testHttp429() throws Exception {
+        RateLimitFilter f = new RateLimitFilter("api", 0.1, 2, 100, now::get);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/rooms", ex -> {
+            ex.sendResponseHeaders(200, 2);
+            try (OutputStream os = ex.getResponseBody()) { os.write("ok".getBytes()); }
+        }).getFilters().add(f);
+        server.start();
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/api/rooms");
+
+            assertEquals(200, ((HttpURLConnection) url.openConnection()).getResponseCode());
+            assertEquals(200, ((HttpURLConnection) url.openConnection()).getResponseCode());
+
+            HttpURLConnection c = (HttpURLConnection) url.openConnection();
+            assertEquals(429, c.getResponseCode());
+            assertEquals("10", c.getHeaderField("Retry-After"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    // ── TC-RL-05 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RL-05: At maxKeys live clients are evicted to 90%, so the next ones do not sweep")
+    void testEvictionToLowWater() {
+        RateLimitFilter f = new RateLimitFilter("api", 1, 2, 100, now::get);
+        for (int i = 0; i <= 100; i++) f.acquire("ip:" + i);      // every bucket still draining
+        assertEquals(91, f.getTrackedClients());
+        assertEquals(10, f.getEvictionCount());
+
+        for (int i = 0; i < 9; i++) f.acquire("ip:more" + i);
+        assertEquals(100, f.getTrackedClients());
+        assertEquals(10, f.getEvictionCount());
+    }
+}
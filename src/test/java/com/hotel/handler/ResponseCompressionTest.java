@@ -0,0 +1,156 @@
+package com.hotel.handler;
+
+import com.hotel.handler.ResponseCompression.Encoding;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for ResponseCompression.
+ *
+ * Covers Accept-Encoding negotiation, round trips through the JDK
+ * decoders, a streamed response served by BaseHandler over a local
+ * HttpServer, and giving the Deflater back when a stream is aborted.
+ */
+@DisplayName("ResponseCompression Tests")
+public class ResponseCompressionTest {
+
+    private static byte[] sample(int rows) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"reservationId\":").append(i).append(",\"status\":\"CONFIRMED\"}");
+        }
+        return sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(byte[] data, Encoding enc) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream z = ResponseCompression.wrap(out, enc)) {
+            z.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    // ── TC-GZ-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-GZ-01: Accept-Encoding negotiation honours q-values")
+    void testNegotiation() {
+        assertEquals(Encoding.NONE,    ResponseCompression.negotiate((String) null));
+        assertEquals(Encoding.GZIP,    ResponseCompression.negotiate("gzip, deflate, br"));
+        assertEquals(Encoding.DEFLATE, ResponseCompression.negotiate("gzip;q=0.2, deflate"));
+        assertEquals(Encoding.NONE,    ResponseCompression.negotiate("gzip;q=0, identity"));
+        assertEquals(Encoding.GZIP,    ResponseCompression.negotiate("*"));
+        assertEquals(Encoding.DEFLATE, ResponseCompression.negotiate("gzip;q=0, *"));
+    }
+
+    // ── TC-GZ-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-GZ-02: gzip and deflate output decode with the JDK streams")
+    void testRoundTrip() throws Exception {
+        byte[] data = sample(2_000);
+
+        for (int i = 0; i < 3; i++) {   // reuses pooled Deflaters after the first pass
+            byte[] gz = compress(data, Encoding.GZIP);
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gz))) {
+                assertArrayEquals(data, in.readAllBytes());
+            }
+            byte[] zl = compress(data, Encoding.DEFLATE);
+            try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(zl))) {
+                assertArrayEquals(data, in.readAllBytes());
+            }
+            assertTrue(gz.length < data.length / 4);
+        }
+    }
+
+    // ── TC-GZ-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-GZ-03: Metrics record bytes in, bytes out and the ratio")
+    void testMetrics() throws Exception {
+        long count = ResponseCompression.getCompressedResponseCount();
+        long in    = ResponseCompression.getBytesIn();
+        byte[] data = sample(500);
+
+        compress(data, Encoding.GZIP);
+
+        assertEquals(count + 1, ResponseCompression.getCompressedResponseCount());
+        assertEquals(in + data.length, ResponseCompression.getBytesIn());
+        assertTrue(ResponseCompression.getCompressionRatio() < 1.0);
+        assertTrue(ResponseCompression.getCompressionMillis() >= 0);
+    }
+
+    // ── TC-GZ-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-GZ-04: Streamed and small responses are encoded only when worthwhile")
+    void testHandlerResponses() throws Exception {
+        byte[] big = sample(5_000);
+        BaseHandler handler = new BaseHandler() {};
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/big", ex -> handler.streamJson(ex, 200, w -> {
+            w.beginArray();
+            for (int i = 0; i < 5_000; i++)
+                w.beginObject().name("reservationId").value(i)
+                 .name("status").value("CONFIRMED").endObject();
+            w.endArray();
+        }));
+        server.createContext("/small", ex -> handler.sendJson(ex, 200, "{\"ok\":true}"));
+        server.start();
+        try {
+            int port = server.getAddress().getPort();
+
+            HttpURLConnection c = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + port + "/big").openConnection();
+            c.setRequestProperty("Accept-Encoding", "gzip");
+            assertEquals("gzip", c.getHeaderField("Content-Encoding"));
+            assertEquals("Accept-Encoding", c.getHeaderField("Vary"));
+            try (InputStream in = new GZIPInputStream(c.getInputStream())) {
+                assertArrayEquals(big, in.readAllBytes());
+            }
+
+            c = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + port + "/small").openConnection();
+            c.setRequestProperty("Accept-Encoding", "gzip");
+            assertNull(c.getHeaderField("Content-Encoding"));
+            try (InputStream in = c.getInputStream()) {
+                assertEquals("{\"ok\":true}",
+                        new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    // ── TC-GZ-05 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-GZ-05: An aborted stream returns its Deflater to the pool and refuses writes")
+    void testAbortReturnsDeflater() throws Exception {
+        List<OutputStream> held = new ArrayList<>();   // empty the idle pool first
+        for (int i = 0; i < ResponseCompression.POOL_SIZE; i++)
+            held.add(ResponseCompression.wrap(new ByteArrayOutputStream(), Encoding.GZIP));
+        try {
+            OutputStream aborted = ResponseCompression.wrap(new ByteArrayOutputStream(), Encoding.GZIP);
+            aborted.write(sample(10));
+            ResponseCompression.abort(aborted);
+            assertThrows(IOException.class, () -> aborted.write(1));
+
+            long created = ResponseCompression.getDeflatersCreated();
+            held.add(ResponseCompression.wrap(new ByteArrayOutputStream(), Encoding.GZIP));
+            assertEquals(created, ResponseCompression.getDeflatersCreated());
+        } finally {
+            for (OutputStream os : held) os.close();
+        }
+    }
+}
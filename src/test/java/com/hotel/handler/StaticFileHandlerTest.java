@@ -0,0 +1,169 @@
+package com.hotel.handler;
+
+import com.hotel.handler.StaticAssetCache.Asset;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for StaticFileHandler and StaticAssetCache.
+ *
+ * Serves a temporary web root over a local HttpServer and checks the
+ * ETag / 304 handshake, the precompressed variant, the SPA fallback,
+ * reloading and byte ranges over a memory-mapped file.
+ */
+@DisplayName("StaticFileHandler Tests")
+public class StaticFileHandlerTest {
+
+    @TempDir Path root;
+
+    private final byte[] image = new byte[10_000];
+    {
+        for (int i = 0; i < image.length; i++) image[i] = (byte) (i * 31);
+    }
+
+    private HttpServer       server;
+    private StaticAssetCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(root.resolve("index.html"), "<html>" + "hello ".repeat(200) + "</html>");
+        Files.createDirectories(root.resolve("css"));
+        Files.writeString(root.resolve("css/style.css"), "body { margin: 0; }\n".repeat(50));
+        Files.createDirectories(root.resolve("WEB-INF"));
+        Files.writeString(root.resolve("WEB-INF/web.xml"), "<web-app/>");
+        Files.createDirectories(root.resolve("images"));
+        Files.write(root.resolve("images/room.jpg"), image);
+
+        cache  = new StaticAssetCache(root, false, 2048);   // room.jpg is mapped
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new StaticFileHandler(cache, false));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private HttpURLConnection get(String path) throws Exception {
+        return (HttpURLConnection) new URL("http://127.0.0.1:"
+                + server.getAddress().getPort() + path).openConnection();
+    }
+
+    private static String body(InputStream in) throws Exception {
+        try (in) { return new String(in.readAllBytes(), StandardCharsets.UTF_8); }
+    }
+
+    // ── TC-SF-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-01: A matching If-None-Match gets 304 with no body")
+    void testNotModified() throws Exception {
+        HttpURLConnection c = get("/css/style.css");
+        assertEquals(200, c.getResponseCode());
+        String etag = c.getHeaderField("ETag");
+        assertNotNull(etag);
+        assertEquals("public, max-age=3600", c.getHeaderField("Cache-Control"));
+        body(c.getInputStream());
+
+        c = get("/css/style.css");
+        c.setRequestProperty("If-None-Match", "\"other\", W/" + etag);
+        assertEquals(304, c.getResponseCode());
+        assertEquals(etag, c.getHeaderField("ETag"));
+    }
+
+    // ── TC-SF-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-02: gzip clients get the precompressed variant with its own ETag")
+    void testGzipVariant() throws Exception {
+        HttpURLConnection c = get("/index.html");
+        c.setRequestProperty("Accept-Encoding", "gzip");
+        assertEquals("gzip", c.getHeaderField("Content-Encoding"));
+        assertEquals("no-cache", c.getHeaderField("Cache-Control"));
+        Asset a = cache.get("/index.html");
+        assertEquals(a.gzipEtag, c.getHeaderField("ETag"));
+        assertNotEquals(a.etag, a.gzipEtag);
+        assertEquals(Files.readString(root.resolve("index.html")),
+                body(new GZIPInputStream(c.getInputStream())));
+    }
+
+    // ── TC-SF-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-03: Unknown paths fall back to index.html and WEB-INF is hidden")
+    void testFallbackAndWebInf() throws Exception {
+        assertNull(cache.get("/WEB-INF/web.xml"));
+        HttpURLConnection c = get("/WEB-INF/web.xml");
+        assertEquals(200, c.getResponseCode());
+        assertTrue(body(c.getInputStream()).startsWith("<html>"));
+    }
+
+    // ── TC-SF-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-04: reload() picks up edited files with a new ETag")
+    void testReload() throws Exception {
+        String before = cache.get("/css/style.css").etag;
+        Files.writeString(root.resolve("css/style.css"), "body { margin: 1px; }");
+
+        assertEquals(before, cache.get("/css/style.css").etag);
+        cache.reload();
+
+        assertNotEquals(before, cache.get("/css/style.css").etag);
+        assertEquals("body { margin: 1px; }", body(get("/css/style.css").getInputStream()));
+    }
+
+    // ── TC-SF-05 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-05: Large files are mapped and byte ranges get 206")
+    void testRangeOnMappedFile() throws Exception {
+        assertTrue(cache.get("/images/room.jpg").isMapped());
+        assertFalse(cache.get("/css/style.css").isMapped());
+
+        HttpURLConnection c = get("/images/room.jpg");
+        assertEquals(200, c.getResponseCode());
+        assertEquals("bytes", c.getHeaderField("Accept-Ranges"));
+        try (InputStream in = c.getInputStream()) {
+            assertArrayEquals(image, in.readAllBytes());
+        }
+
+        c = get("/images/room.jpg");
+        c.setRequestProperty("Range", "bytes=9000-");
+        assertEquals(206, c.getResponseCode());
+        assertEquals("bytes 9000-9999/10000", c.getHeaderField("Content-Range"));
+        try (InputStream in = c.getInputStream()) {
+            assertArrayEquals(Arrays.copyOfRange(image, 9000, 10_000), in.readAllBytes());
+        }
+    }
+
+    // ── TC-SF-06 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SF-06: Range parsing, 416 and a stale If-Range")
+    void testRangeEdgeCases() throws Exception {
+        assertArrayEquals(new long[]{0, 99},    StaticFileHandler.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[]{900, 999}, StaticFileHandler.parseRange("bytes=-100", 1000));
+        assertArrayEquals(new long[]{10, 999},  StaticFileHandler.parseRange("bytes=10-5000", 1000));
+        assertNull(StaticFileHandler.parseRange("bytes=0-1,5-6", 1000));
+        assertNull(StaticFileHandler.parseRange("items=0-1", 1000));
+        assertSame(StaticFileHandler.UNSATISFIABLE, StaticFileHandler.parseRange("bytes=1000-", 1000));
+
+        HttpURLConnection c = get("/images/room.jpg");
+        c.setRequestProperty("Range", "bytes=20000-");
+        assertEquals(416, c.getResponseCode());
+        assertEquals("bytes */10000", c.getHeaderField("Content-Range"));
+
+        c = get("/images/room.jpg");
+        c.setRequestProperty("Range", "bytes=0-9");
+        c.setRequestProperty("If-Range", "\"stale\"");
+        assertEquals(200, c.getResponseCode());
+        assertEquals("10000", c.getHeaderField("Content-Length"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.hotel.metrics;
+
+import org.junit.jupiter.api.*;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for Histogram.
+ *
+ * Covers the log-linear bucket layout, quantiles read back from a
+ * snapshot, and that concurrent recording loses nothing.
+ */
+@DisplayName("Histogram Tests")
+public class HistogramTest {
+
+    // ── TC-HG-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-HG-01: Buckets are contiguous and at most 25% wide")
+    void testBucketLayout() {
+        assertEquals(0, Histogram.index(0));
+        assertEquals(3, Histogram.index(3));
+        assertEquals(4, Histogram.index(4));
+        assertEquals(8, Histogram.index(8));
+        assertEquals(9, Histogram.index(10));
+        assertEquals(12, Histogram.upperBound(9));
+
+        long lower = 0;
+        for (int i = 0; i < Histogram.BUCKETS; i++) {
+            long upper = Histogram.upperBound(i);
+            assertEquals(i, Histogram.index(lower));
+            assertEquals(i, Histogram.index(upper - 1));
+            assertTrue(lower < 4 || (upper - lower) * 4 <= lower, "bucket " + i + " too wide");
+            lower = upper;
+        }
+        assertEquals(Histogram.MAX_MICROS, lower);
+    }
+
+    // ── TC-HG-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-HG-02: Quantiles and counts come back within bucket precision")
+    void testQuantiles() {
+        Histogram h = new Histogram();
+        for (int i = 1; i <= 1_000; i++) h.recordMicros(i * 100L);    // 100µs .. 100ms
+        h.recordNanos(-5);                                            // clock skew: counts as 0
+        h.recordMicros(Long.MAX_VALUE / 2);                           // lands in the last bucket
+
+        Histogram.Snapshot s = h.snapshot();
+        assertEquals(1_002, s.getCount());
+        assertEquals(1, s.countBelow(64));
+        assertEquals(11, s.countBelow(1_024));                        // 0 and 100..1000µs
+
+        long p50 = s.quantileMicros(0.50);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 5 / 4, "p50 = " + p50);
+        long p99 = s.quantileMicros(0.99);
+        assertTrue(p99 >= 99_000 && p99 <= 99_000 * 5 / 4, "p99 = " + p99);
+        assertEquals(Histogram.MAX_MICROS, s.quantileMicros(1.0));
+        assertEquals(0, new Histogram().snapshot().quantileMicros(0.5));
+    }
+
+    // ── TC-HG-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-HG-03: Concurrent recorders are all counted")
+    void testConcurrentRecording() throws Exception {
+        Histogram h = new Histogram();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                for (int j = 0; j < 10_000; j++) h.recordMicros(j);
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) t.join();
+
+        Histogram.Snapshot s = h.snapshot();
+        assertEquals(80_000, s.getCount());
+        assertEquals(8L * (10_000L * 9_999 / 2), s.getSumMicros());
+    }
+}
@@ -0,0 +1,118 @@
+package com.hotel.metrics;
+
+import org.junit.jupiter.api.*;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for Metrics.
+ *
+ * Covers the Prometheus text output for each metric type, label
+ * escaping, conflicting registrations, and the DB call timer that
+ * DatabaseConfig wraps around every connection.
+ */
+@DisplayName("Metrics Tests")
+public class MetricsTest {
+
+    private final Metrics metrics = new Metrics();
+
+    // ── TC-MET-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MET-01: Counters and gauges render sorted, with escaped labels")
+    void testCountersAndGauges() {
+        Metrics.Family<LongAdder> events = metrics.counter("hotel_events_total", "Events", "event");
+        events.labels("cancelled").add(2);
+        events.labels("created").increment();
+        events.labels("say \"hi\"").increment();
+        metrics.gauge  ("hotel_a_gauge", "A gauge", () -> 1.5);
+        metrics.counter("hotel_b_total", "Kept elsewhere", () -> 42L);
+        metrics.counterSeconds("hotel_c_seconds_total", "CPU time", () -> 0.25);
+        metrics.histogram("hotel_unused_seconds", "No series yet", "x");
+
+        String text = metrics.scrape();
+
+        assertEquals(String.join("\n",
+                "# HELP hotel_a_gauge A gauge",
+                "# TYPE hotel_a_gauge gauge",
+                "hotel_a_gauge 1.5",
+                "# HELP hotel_b_total Kept elsewhere",
+                "# TYPE hotel_b_total counter",
+                "hotel_b_total 42",
+                "# HELP hotel_c_seconds_total CPU time",
+                "# TYPE hotel_c_seconds_total counter",
+                "hotel_c_seconds_total 0.25",
+                "# HELP hotel_events_total Events",
+                "# TYPE hotel_events_total counter",
+                "hotel_events_total{event=\"cancelled\"} 2",
+                "hotel_events_total{event=\"created\"} 1",
+                "hotel_events_total{event=\"say \\\"hi\\\"\"} 1",
+                ""), text);
+    }
+
+    // ── TC-MET-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MET-02: Histograms render cumulative buckets in seconds, plus sum and count")
+    void testHistogramExposition() {
+        Histogram h = metrics.histogram("hotel_req_seconds", "Latency", "handler", "method")
+                             .labels("RoomHandler", "GET");
+        h.recordMicros(50);
+        h.recordMicros(1_000);
+        h.recordMicros(40_000_000);                    // beyond the last published bucket
+
+        String text = metrics.scrape();
+
+        assertTrue(text.contains("# TYPE hotel_req_seconds histogram\n"));
+        assertTrue(text.contains("hotel_req_seconds_bucket{handler=\"RoomHandler\",method=\"GET\",le=\"0.000064\"} 1\n"));
+        assertTrue(text.contains("hotel_req_seconds_bucket{handler=\"RoomHandler\",method=\"GET\",le=\"0.000512\"} 1\n"));
+        assertTrue(text.contains("hotel_req_seconds_bucket{handler=\"RoomHandler\",method=\"GET\",le=\"0.001024\"} 2\n"));
+        assertTrue(text.contains("hotel_req_seconds_bucket{handler=\"RoomHandler\",method=\"GET\",le=\"33.554432\"} 2\n"));
+        assertTrue(text.contains("hotel_req_seconds_bucket{handler=\"RoomHandler\",method=\"GET\",le=\"+Inf\"} 3\n"));
+        assertTrue(text.contains("hotel_req_seconds_sum{handler=\"RoomHandler\",method=\"GET\"} 40.00105\n"));
+        assertTrue(text.contains("hotel_req_seconds_count{handler=\"RoomHandler\",method=\"GET\"} 3\n"));
+    }
+
+    // ── TC-MET-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MET-03: Re-registering shares the family; a conflicting shape is refused")
+    void testRegistration() {
+        Metrics.Family<LongAdder> a = metrics.counter("hotel_x_total", "X", "handler");
+        assertSame(a, metrics.counter("hotel_x_total", "X", "handler"));
+        assertSame(a.labels("RoomHandler"), a.labels("RoomHandler"));
+
+        assertThrows(IllegalArgumentException.class, () -> metrics.counter("hotel_x_total", "X", "code"));
+        assertThrows(IllegalArgumentException.class, () -> metrics.histogram("hotel_x_total", "X", "handler"));
+        assertThrows(IllegalArgumentException.class, () -> metrics.counterOf("hotel_x_total", "X", "handler"));
+        assertThrows(IllegalArgumentException.class, () -> a.labels("RoomHandler", "GET"));
+        assertThrows(IllegalStateException.class,
+                () -> metrics.gauge("hotel_g", "G", "pool").labels("main"));
+    }
+
+    // ── TC-MET-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MET-04: DbTimer records once per connection, labelled with its caller")
+    void testDbTimer() throws Exception {
+        AtomicInteger closes = new AtomicInteger();
+        Connection raw = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (p, m, args) -> {
+                    if (m.getName().equals("close")) closes.incrementAndGet();
+                    return m.getName().equals("isClosed") ? Boolean.FALSE : null;
+                });
+
+        Histogram h = DbTimer.caller();
+        long before = h.snapshot().getCount();
+
+        Connection c = DbTimer.wrap(raw, System.nanoTime());
+        assertFalse(c.isClosed());
+        c.close();
+        c.close();                                     // a second close is passed on, not re-counted
+
+        assertEquals(2, closes.get());
+        assertEquals(before + 1, h.snapshot().getCount());
+        assertTrue(Metrics.getInstance().scrape().contains(
+                "hotel_db_call_duration_seconds_count{class=\"MetricsTest\",method=\"testDbTimer\"} "));
+    }
+}
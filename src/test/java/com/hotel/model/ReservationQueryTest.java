@@ -0,0 +1,87 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for ReservationQuery.
+ *
+ * Covers parsing of the listing parameters, their validation and the
+ * keyset cursor round trip.
+ */
+@DisplayName("ReservationQuery Tests")
+public class ReservationQueryTest {
+
+    private final Map<String, String> params = new HashMap<>();
+
+    // ── TC-RQ-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RQ-01: Filters are parsed and limit defaults")
+    void testParseFilters() {
+        params.put("status",  "checked_in");
+        params.put("from",    "2026-01-01");
+        params.put("to",      "2026-01-31");
+        params.put("roomId",  "12");
+
+        ReservationQuery q = ReservationQuery.fromParams(params::get);
+
+        assertEquals("CHECKED_IN", q.getStatus());
+        assertEquals(LocalDate.of(2026, 1, 1),  q.getCheckinFrom());
+        assertEquals(LocalDate.of(2026, 1, 31), q.getCheckinTo());
+        assertEquals(12, q.getRoomId());
+        assertNull(q.getGuestId());
+        assertEquals(ReservationQuery.DEFAULT_LIMIT, q.getLimit());
+        assertFalse(q.hasCursor());
+    }
+
+    // ── TC-RQ-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RQ-02: Invalid parameters are rejected")
+    void testInvalidParams() {
+        params.put("limit", "0");
+        assertThrows(IllegalArgumentException.class, () -> ReservationQuery.fromParams(params::get));
+
+        params.put("limit", "10");
+        params.put("status", "PENDING");
+        assertThrows(IllegalArgumentException.class, () -> ReservationQuery.fromParams(params::get));
+
+        params.remove("status");
+        params.put("cursor", "not-a-cursor");
+        assertThrows(IllegalArgumentException.class, () -> ReservationQuery.fromParams(params::get));
+    }
+
+    // ── TC-RQ-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RQ-03: Cursor round-trips the last row's position")
+    void testCursorRoundTrip() {
+        Reservation last = new Reservation();
+        last.setReservationId(42);
+        last.setCreatedAt(LocalDateTime.of(2026, 3, 5, 14, 30, 15));
+
+        params.put("cursor", ReservationQuery.encodeCursor(last));
+        ReservationQuery q = ReservationQuery.fromParams(params::get);
+
+        assertTrue(q.hasCursor());
+        assertEquals(last.getCreatedAt(), q.getAfterCreatedAt());
+        assertEquals(42, q.getAfterReservationId());
+    }
+
+    // ── TC-RQ-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RQ-04: A row with no created_at still yields a usable cursor")
+    void testCursorWithoutCreatedAt() {
+        Reservation last = new Reservation();
+        last.setReservationId(7);
+
+        params.put("cursor", ReservationQuery.encodeCursor(last));
+        ReservationQuery q = ReservationQuery.fromParams(params::get);
+
+        assertTrue(q.hasCursor());
+        assertEquals(ReservationQuery.NO_CREATED_AT, q.getAfterCreatedAt());
+        assertEquals(7, q.getAfterReservationId());
+    }
+}
@@ -0,0 +1,113 @@
+package com.hotel.observer;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for AuditLogWriter.
+ *
+ * Writes into a JUnit temp directory and covers batching, size-based
+ * rotation, and what a full queue does under DROP and BLOCK. The full
+ * queue cases build the writer with its thread not yet started.
+ */
+@DisplayName("AuditLogWriter Tests")
+public class AuditLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) writer.close();
+    }
+
+    // ── TC-AUDIT-01 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AUDIT-01: Appended lines are written in order after flush")
+    void testLinesWrittenInOrder() throws Exception {
+        Path log = dir.resolve("audit.log");
+        writer = new AuditLogWriter(log, 1_000_000, 2, 1_000,
+                AuditLogWriter.FsyncPolicy.PER_BATCH, 1_000, AuditLogWriter.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) assertTrue(writer.append("line " + i));
+        assertTrue(writer.flush(5, TimeUnit.SECONDS));
+
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(100, lines.size());
+        assertEquals("line 0",  lines.get(0));
+        assertEquals("line 99", lines.get(99));
+        assertEquals(0, writer.getQueueDepth());
+    }
+
+    // ── TC-AUDIT-02 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AUDIT-02: File rotates when it would exceed the size limit")
+    void testRotation() throws Exception {
+        Path log = dir.resolve("audit.log");
+        writer = new AuditLogWriter(log, 64, 2, 1_000,
+                AuditLogWriter.FsyncPolicy.NONE, 1_000, AuditLogWriter.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 5; i++) {
+            writer.append("0123456789012345678901234567890123456789 #" + i);
+            assertTrue(writer.flush(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(Files.exists(dir.resolve("audit.log.1")));
+        assertTrue(Files.exists(dir.resolve("audit.log.2")));
+        assertFalse(Files.exists(dir.resolve("audit.log.3")), "Only maxBackups files are kept");
+        assertTrue(Files.readString(log).contains("#4"));
+        assertTrue(writer.getRotationCount() >= 2);
+    }
+
+    // ── TC-AUDIT-03 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AUDIT-03: Closed writer drops new lines instead of blocking")
+    void testClosedWriterDrops() {
+        writer = new AuditLogWriter(dir.resolve("audit.log"), 1_000_000, 1, 10,
+                AuditLogWriter.FsyncPolicy.NONE, 1_000, AuditLogWriter.OverflowPolicy.BLOCK);
+        writer.close();
+
+        assertFalse(writer.append("late line"));
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    // ── TC-AUDIT-04 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AUDIT-04: DROP loses lines past capacity and counts them")
+    void testFullQueueDrops() throws Exception {
+        Path log = dir.resolve("audit.log");
+        writer = new AuditLogWriter(log, 1_000_000, 1, 3,
+                AuditLogWriter.FsyncPolicy.NONE, 1_000, AuditLogWriter.OverflowPolicy.DROP, false);
+
+        for (int i = 0; i < 3; i++) assertTrue(writer.append("kept " + i));
+        assertFalse(writer.append("lost 3"));
+        assertFalse(writer.append("lost 4"));
+        assertEquals(2, writer.getDroppedCount());
+        assertEquals(3, writer.getQueueDepth());
+
+        writer.start();
+        assertTrue(writer.flush(5, TimeUnit.SECONDS));
+        assertEquals(List.of("kept 0", "kept 1", "kept 2"), Files.readAllLines(log));
+    }
+
+    // ── TC-AUDIT-05 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AUDIT-05: BLOCK with no live writer thread drops instead of spinning")
+    void testBlockWithoutWriterDrops() {
+        writer = new AuditLogWriter(dir.resolve("audit.log"), 1_000_000, 1, 1,
+                AuditLogWriter.FsyncPolicy.NONE, 1_000, AuditLogWriter.OverflowPolicy.BLOCK, false);
+
+        assertTrue(writer.append("first"));
+        assertFalse(assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> writer.append("second")));
+        assertEquals(1, writer.getDroppedCount());
+    }
+}
@@ -0,0 +1,165 @@
+package com.hotel.observer;
+
+import com.hotel.model.Reservation;
+import org.junit.jupiter.api.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for NotificationService.
+ *
+ * Uses a service with no built-in observers (no audit file, no JDBC) and
+ * covers where each dispatch mode delivers, ordering per key on the async
+ * lanes, failure accounting, awaitQuiescence waiting for the queues, and
+ * the names reported for anonymous observers.
+ */
+@DisplayName("NotificationService Tests")
+public class NotificationServiceTest {
+
+    private static final LocalDate IN = LocalDate.of(2026, 6, 1);
+
+    private final NotificationService service = new NotificationService(4);
+
+    private static ReservationEvent event(String number, int roomId) {
+        return event(number, roomId, 1);
+    }
+
+    // guestId carries a sequence number for the ordering checks
+    private static ReservationEvent event(String number, int roomId, int seq) {
+        return new ReservationEvent(new Reservation(number, seq, roomId, 1, IN, IN.plusDays(2)),
+                ReservationEvent.CREATED);
+    }
+
+    // Observer that only handles created events
+    private static ReservationObserver onCreated(Consumer<ReservationEvent> callback) {
+        return new ReservationObserver() {
+            @Override public void onReservationCreated(ReservationEvent e)   { callback.accept(e); }
+            @Override public void onReservationCancelled(ReservationEvent e) { }
+            @Override public void onReservationUpdated(ReservationEvent e)   { }
+        };
+    }
+
+    private NotificationService.ObserverStats stats(int i) {
+        return service.getObserverStats().get(i);
+    }
+
+    // ── TC-NOTIFY-01 ────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-NOTIFY-01: SYNC runs on the caller before notify returns; async modes run elsewhere")
+    void testDispatchModes() {
+        Thread caller = Thread.currentThread();
+        Map<String, Thread> seenOn = new ConcurrentHashMap<>();
+        service.addObserver(onCreated(e -> seenOn.put("sync",      Thread.currentThread())),
+                NotificationService.DispatchMode.SYNC);
+        service.addObserver(onCreated(e -> seenOn.put("ordered",   Thread.currentThread())),
+                NotificationService.DispatchMode.ASYNC_ORDERED);
+        service.addObserver(onCreated(e -> seenOn.put("unordered", Thread.currentThread())),
+                NotificationService.DispatchMode.ASYNC_UNORDERED);
+
+        service.notifyCreated(event("RES-1", 1));
+        assertSame(caller, seenOn.get("sync"));
+
+        assertTrue(service.awaitQuiescence(5, TimeUnit.SECONDS));
+        assertNotSame(caller, seenOn.get("ordered"));
+        assertNotSame(caller, seenOn.get("unordered"));
+        for (int i = 0; i < 3; i++) assertEquals(1, stats(i).delivered);
+    }
+
+    // ── TC-NOTIFY-02 ────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-NOTIFY-02: ASYNC_ORDERED keeps each key's events in order")
+    void testPerKeyOrdering() {
+        Map<String, List<Integer>> byReservation = new ConcurrentHashMap<>();
+        Map<Integer, List<Integer>> byRoom = new ConcurrentHashMap<>();
+        service.addObserver(onCreated(e -> byReservation
+                .computeIfAbsent(e.getReservation().getReservationNumber(),
+                        k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(e.getReservation().getGuestId())),
+                NotificationService.DispatchMode.ASYNC_ORDERED);
+        service.addObserver(new ReservationObserver() {                // keyed like RoomStatusObserver
+            @Override public void onReservationCreated(ReservationEvent e) {
+                byRoom.computeIfAbsent(e.getReservation().getRoomId(),
+                        k -> Collections.synchronizedList(new ArrayList<>()))
+                      .add(e.getReservation().getGuestId());
+            }
+            @Override public void onReservationCancelled(ReservationEvent e) { }
+            @Override public void onReservationUpdated(ReservationEvent e)   { }
+            @Override public Object orderingKey(ReservationEvent e) { return e.getReservation().getRoomId(); }
+        }, NotificationService.DispatchMode.ASYNC_ORDERED);
+
+        List<Integer> sent = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            sent.add(i);
+            service.notifyCreated(event("RES-" + (i % 7), 5, i));    // every stay in room 5
+        }
+        assertTrue(service.awaitQuiescence(5, TimeUnit.SECONDS));
+
+        assertEquals(7, byReservation.size());
+        for (List<Integer> seq : byReservation.values()) {
+            List<Integer> sorted = new ArrayList<>(seq);
+            Collections.sort(sorted);
+            assertEquals(sorted, seq);
+        }
+        assertEquals(sent, byRoom.get(5));
+    }
+
+    // ── TC-NOTIFY-03 ────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-NOTIFY-03: A throwing observer is counted as failed and does not stop the others")
+    void testFailingObserver() {
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        service.addObserver(onCreated(e -> { throw new IllegalStateException("boom"); }),
+                NotificationService.DispatchMode.SYNC);
+        service.addObserver(onCreated(e -> { throw new IllegalStateException("boom"); }),
+                NotificationService.DispatchMode.ASYNC_ORDERED);
+        service.addObserver(onCreated(e -> delivered.add(e.getReservation().getReservationNumber())),
+                NotificationService.DispatchMode.SYNC);
+
+        service.notifyCreated(event("RES-1", 1));
+        service.notifyCreated(event("RES-2", 1));
+        assertTrue(service.awaitQuiescence(5, TimeUnit.SECONDS));
+
+        assertEquals(2, stats(0).failed);
+        assertEquals(0, stats(0).delivered);
+        assertEquals(2, stats(1).failed);
+        assertEquals(List.of("RES-1", "RES-2"), delivered);
+    }
+
+    // ── TC-NOTIFY-04 ────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-NOTIFY-04: awaitQuiescence returns only once the async queues have drained")
+    void testAwaitQuiescence() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        service.addObserver(onCreated(e -> {
+            try { release.await(); } catch (InterruptedException ex) { Thread.currentThread().interrupt(); }
+        }), NotificationService.DispatchMode.ASYNC_ORDERED);
+
+        for (int i = 0; i < 10; i++) service.notifyCreated(event("RES-" + i, i));
+
+        assertFalse(service.awaitQuiescence(100, TimeUnit.MILLISECONDS));
+        assertTrue(stats(0).queueDepth > 0);
+
+        release.countDown();
+        assertTrue(service.awaitQuiescence(5, TimeUnit.SECONDS));
+        assertEquals(0, stats(0).queueDepth);
+        assertEquals(10, stats(0).delivered);
+    }
+
+    // ── TC-NOTIFY-05 ────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-NOTIFY-05: An anonymous observer is reported by its class name")
+    void testAnonymousObserverName() {
+        ReservationObserver anonymous = onCreated(e -> { });
+        service.addObserver(anonymous, NotificationService.DispatchMode.SYNC);
+        service.addObserver(new RoomStatusObserver(), NotificationService.DispatchMode.SYNC);
+
+        assertEquals(anonymous.getClass().getName(), stats(0).observer);
+        assertFalse(stats(0).observer.isEmpty());
+        assertEquals("RoomStatusObserver", stats(1).observer);
+    }
+}
@@ -0,0 +1,47 @@
+package com.hotel.service;
+
+import com.hotel.util.LoginThrottle;
+import com.hotel.util.TooManyRequestsException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for AuthService.
+ *
+ * Covers the lockout check that runs before any database lookup; no
+ * database is available here, so reaching StaffDAO would fail differently.
+ */
+@DisplayName("AuthService Tests")
+public class AuthServiceTest {
+
+    private final AtomicLong    now      = new AtomicLong(0);
+    private final LoginThrottle throttle = new LoginThrottle(3, 20, 60_000, 100, now::get);
+    private final AuthService   service  = new AuthService(throttle);
+
+    private static JSONObject login(String username) {
+        return new JSONObject().put("username", username).put("password", "secret123");
+    }
+
+    // ── TC-AS-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AS-01: A locked username is rejected before StaffDAO is reached")
+    void testLockedUsernameRejectedEarly() {
+        for (int i = 0; i < 3; i++) throttle.recordFailure("admin", "10.0.0.1");
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> service.login(login("admin"), "10.0.0.2"));
+        assertEquals(60, e.getRetryAfterSeconds());
+    }
+
+    // ── TC-AS-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AS-02: A locked address is rejected for any username")
+    void testLockedAddressRejectedEarly() {
+        for (int i = 0; i < 20; i++) throttle.recordFailure("guess" + i, "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class,
+                () -> service.login(login("receptionist"), "10.0.0.1"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.hotel.service;
+
+import com.hotel.model.Reservation;
+import org.junit.jupiter.api.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for AvailabilityIndex.
+ *
+ * The index is loaded from an in-memory list instead of MySQL.
+ * Covers the half-open [checkin, checkout) overlap rule and the
+ * create / update / cancel sync paths used by ReservationService.
+ */
+@DisplayName("AvailabilityIndex Tests")
+public class AvailabilityIndexTest {
+
+    private static final LocalDate MAY_1  = LocalDate.of(2026, 5, 1);
+    private static final LocalDate MAY_5  = LocalDate.of(2026, 5, 5);
+    private static final LocalDate MAY_10 = LocalDate.of(2026, 5, 10);
+
+    private final List<Reservation> seed = new ArrayList<>();
+    private AvailabilityIndex index;
+
+    private static Reservation stay(String number, int roomId,
+                                    LocalDate in, LocalDate out, String status) {
+        Reservation r = new Reservation(number, 1, roomId, 1, in, out);
+        r.setStatus(status);
+        return r;
+    }
+
+    @BeforeEach
+    void setUp() {
+        seed.add(stay("RES-A", 101, MAY_1, MAY_5, "CONFIRMED"));
+        seed.add(stay("RES-B", 102, MAY_1, MAY_10, "CANCELLED"));
+        index = new AvailabilityIndex(() -> seed);
+        index.load();
+    }
+
+    // ── TC-AVAIL-01 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-01: Overlapping dates make the room unavailable")
+    void testOverlapDetected() {
+        assertFalse(index.isAvailable(101, MAY_1, MAY_5));
+        assertFalse(index.isAvailable(101, MAY_1.minusDays(3), MAY_1.plusDays(1)));
+        assertFalse(index.isAvailable(101, MAY_5.minusDays(1), MAY_10));
+    }
+
+    // ── TC-AVAIL-02 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-02: Back-to-back stays do not overlap")
+    void testBackToBackAllowed() {
+        assertTrue(index.isAvailable(101, MAY_5, MAY_10),
+                "Check-in on another guest's check-out day is allowed");
+        assertTrue(index.isAvailable(101, MAY_1.minusDays(4), MAY_1));
+    }
+
+    // ── TC-AVAIL-03 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-03: Cancelled reservations are not indexed")
+    void testInactiveIgnored() {
+        assertTrue(index.isAvailable(102, MAY_1, MAY_10));
+        assertEquals(1, index.size());
+    }
+
+    // ── TC-AVAIL-04 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-04: Long stay is found from a short query inside it")
+    void testLongStayFound() {
+        index.put(stay("RES-C", 103, MAY_1, MAY_1.plusDays(60), "CHECKED_IN"));
+        index.put(stay("RES-D", 103, MAY_1.plusDays(60), MAY_1.plusDays(62), "CONFIRMED"));
+
+        assertFalse(index.isAvailable(103, MAY_1.plusDays(30), MAY_1.plusDays(31)));
+    }
+
+    // ── TC-AVAIL-05 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-05: Update moves the stay, cancel frees the room")
+    void testUpdateAndCancelSync() {
+        index.put(stay("RES-A", 101, MAY_5, MAY_10, "CONFIRMED"));
+        assertTrue (index.isAvailable(101, MAY_1, MAY_5), "Old dates should be released");
+        assertFalse(index.isAvailable(101, MAY_5, MAY_10));
+
+        index.put(stay("RES-A", 104, MAY_5, MAY_10, "CONFIRMED"));
+        assertTrue (index.isAvailable(101, MAY_5, MAY_10), "Room change releases the old room");
+        assertFalse(index.isAvailable(104, MAY_5, MAY_10));
+
+        index.remove("RES-A");
+        assertTrue(index.isAvailable(104, MAY_5, MAY_10));
+        assertEquals(0, index.size());
+    }
+
+    // ── TC-AVAIL-06 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-AVAIL-06: Status change to CHECKED_OUT removes the stay")
+    void testCheckoutRemoves() {
+        index.put(stay("RES-A", 101, MAY_1, MAY_5, "CHECKED_OUT"));
+        assertTrue(index.isAvailable(101, MAY_1, MAY_5));
+    }
+}
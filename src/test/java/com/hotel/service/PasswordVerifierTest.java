@@ -0,0 +1,69 @@
+package com.hotel.service;
+
+import com.hotel.util.PasswordUtil;
+import org.junit.jupiter.api.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for PasswordVerifier.
+ *
+ * Covers the upgrade of legacy hashes on a successful check and that a
+ * saturated or slow verifier rejects instead of holding the caller.
+ */
+@DisplayName("PasswordVerifier Tests")
+public class PasswordVerifierTest {
+
+    // A PBKDF2 hash that takes a few hundred ms to check
+    private static final String SLOW =
+            "pbkdf2-sha256$300000$AAAAAAAAAAAAAAAAAAAAAA$AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    // ── TC-PV-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PV-01: A matching legacy hash comes back with a PBKDF2 replacement")
+    void testLegacyUpgrade() {
+        PasswordVerifier v = new PasswordVerifier(1, 1, 10_000);
+
+        PasswordVerifier.Result ok  = v.verify("Admin@123", PasswordUtil.sha256Hex("Admin@123"));
+        PasswordVerifier.Result bad = v.verify("wrong", PasswordUtil.sha256Hex("Admin@123"));
+
+        assertTrue(ok.matches);
+        assertTrue(PasswordUtil.verify("Admin@123", ok.rehash));
+        assertFalse(PasswordUtil.needsRehash(ok.rehash));
+        assertFalse(bad.matches);
+        assertNull(bad.rehash);
+        assertEquals(2, v.getVerifiedCount());
+    }
+
+    // ── TC-PV-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PV-02: Checks beyond threads + queue are rejected immediately")
+    void testRejectsWhenSaturated() throws Exception {
+        PasswordVerifier v = new PasswordVerifier(1, 1, 30_000);
+
+        CompletableFuture<PasswordVerifier.Result> running =
+                CompletableFuture.supplyAsync(() -> v.verify("x", SLOW));
+        while (v.getActiveCount() == 0) Thread.sleep(1);
+        CompletableFuture<PasswordVerifier.Result> queued =
+                CompletableFuture.supplyAsync(() -> v.verify("x", SLOW));
+        while (v.getQueuedCount() == 0) Thread.sleep(1);
+
+        assertThrows(RejectedExecutionException.class, () -> v.verify("x", SLOW));
+
+        assertFalse(running.get().matches);
+        assertFalse(queued.get().matches);
+        assertEquals(1, v.getRejectedCount());
+        assertEquals(2, v.getVerifiedCount());
+    }
+
+    // ── TC-PV-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PV-03: A check slower than the timeout is rejected")
+    void testTimeout() {
+        PasswordVerifier v = new PasswordVerifier(1, 1, 1);
+
+        assertThrows(RejectedExecutionException.class, () -> v.verify("x", SLOW));
+        assertEquals(1, v.getRejectedCount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotel.service;
+
+import com.hotel.dao.ReservationDAO;
+import com.hotel.dao.RoomDAO;
+import com.hotel.model.Reservation;
+import com.hotel.observer.NotificationService;
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test Suite for ReservationService.
+ *
+ * The DAOs and the notification service are Mockito mocks and the
+ * availability index starts empty, so updateReservation is exercised
+ * without MySQL. Covers the overlap check on a date change, which only
+ * applies while the stay still holds its room, and the updated event.
+ */
+@DisplayName("ReservationService Tests")
+public class ReservationServiceTest {
+
+    private static final LocalDate BASE = LocalDate.now().plusDays(30);
+
+    private final ReservationDAO      resDAO        = mock(ReservationDAO.class);
+    private final RoomDAO             roomDAO       = mock(RoomDAO.class);
+    private final NotificationService notifications = mock(NotificationService.class);
+
+    private AvailabilityIndex  index;
+    private ReservationService service;
+    private Reservation        mine;
+
+    @BeforeEach
+    void setUp() {
+        index   = new AvailabilityIndex(ArrayList::new);
+        service = new ReservationService(resDAO, roomDAO, new RoomAllocator(index, 8), index, notifications);
+
+        mine = new Reservation("RES-1", 1, 7, 1, BASE, BASE.plusDays(2));
+        index.load();                                          // empty loader: nothing to read
+        index.put(mine);
+        index.put(new Reservation("RES-2", 2, 7, 1, BASE.plusDays(5), BASE.plusDays(8)));
+        when(resDAO.findByNumber("RES-1")).thenReturn(mine);
+        when(resDAO.update(any())).thenReturn(true);
+    }
+
+    private static JSONObject move(int from, int to) {
+        return new JSONObject()
+                .put("checkinDate",  BASE.plusDays(from).toString())
+                .put("checkoutDate", BASE.plusDays(to).toString());
+    }
+
+    // ── TC-RS-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RS-01: Moving an active stay onto another stay is refused")
+    void testMoveOntoOtherStayRefused() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.updateReservation("RES-1", move(4, 6)));
+        assertTrue(e.getMessage().contains("already booked"));
+        verify(resDAO, never()).update(any());
+        verify(notifications, never()).notifyUpdated(any());
+        assertFalse(index.isAvailable(7, BASE, BASE.plusDays(1)));      // still on its old dates
+    }
+
+    // ── TC-RS-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-RS-02: Cancelling while moving onto another stay is saved and frees the room")
+    void testCancelWithDateMove() {
+        service.updateReservation("RES-1", move(4, 6).put("status", "CANCELLED"));
+
+        verify(resDAO).update(mine);
+        verify(notifications).notifyUpdated(any());
+        assertTrue(index.isAvailable(7, BASE, BASE.plusDays(2)));
+        assertFalse(index.isAvailable(7, BASE.plusDays(5), BASE.plusDays(6)));   // RES-2 untouched
+    }
+}
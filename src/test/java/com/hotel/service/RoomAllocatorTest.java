@@ -0,0 +1,177 @@
+package com.hotel.service;
+
+import com.hotel.model.Reservation;
+import com.hotel.model.Room;
+import org.junit.jupiter.api.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for RoomAllocator.
+ *
+ * Persistence is replaced by an in-memory list, so the tests exercise the
+ * locking and the availability re-check rather than MySQL. The stress test
+ * fires 1000 concurrent bookings at a small inventory and then proves that
+ * no two saved stays overlap in the same room.
+ */
+@DisplayName("RoomAllocator Tests")
+public class RoomAllocatorTest {
+
+    private static final LocalDate BASE = LocalDate.of(2026, 6, 1);
+
+    private AvailabilityIndex index;
+    private RoomAllocator allocator;
+    private final List<Reservation> saved = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger seq = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        index     = new AvailabilityIndex(ArrayList::new);
+        allocator = new RoomAllocator(index, 8);
+    }
+
+    private static List<Room> rooms(int count) {
+        List<Room> list = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Room r = new Room(String.valueOf(100 + i), 1, 1, "AVAILABLE");
+            r.setRoomId(i);
+            list.add(r);
+        }
+        return list;
+    }
+
+    private Reservation persist(Room room, LocalDate in, LocalDate out) {
+        Reservation r = new Reservation("RES-" + seq.incrementAndGet(), 1,
+                room.getRoomId(), 1, in, out);
+        Thread.yield();   // widen the window between check and insert
+        saved.add(r);
+        return r;
+    }
+
+    // ── TC-ALLOC-01 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ALLOC-01: Booked room is not handed out again for the same dates")
+    void testNoDoubleBookingSequential() {
+        List<Room> one = rooms(1);
+        LocalDate out = BASE.plusDays(2);
+
+        assertNotNull(allocator.allocate(one, BASE, out, r -> persist(r, BASE, out)));
+        assertNull(allocator.allocate(one, BASE.plusDays(1), out.plusDays(1),
+                r -> persist(r, BASE, out)));
+        assertEquals(1, saved.size());
+    }
+
+    // ── TC-ALLOC-02 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ALLOC-02: Failed insert leaves the room free for the next request")
+    void testFailedPersistReleasesRoom() {
+        List<Room> one = rooms(1);
+        LocalDate out = BASE.plusDays(2);
+
+        assertThrows(RuntimeException.class, () -> allocator.allocate(one, BASE, out, r -> {
+            throw new RuntimeException("insert failed");
+        }));
+        assertNotNull(allocator.allocate(one, BASE, out, r -> persist(r, BASE, out)));
+    }
+
+    // ── TC-ALLOC-03 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ALLOC-03: Concurrent requests for one date spread over all rooms")
+    void testConcurrentRequestsSpread() throws Exception {
+        List<Room> inventory = rooms(10);
+        LocalDate out = BASE.plusDays(1);
+        List<Reservation> results = runConcurrently(10, 10,
+                i -> allocator.allocate(inventory, BASE, out, r -> persist(r, BASE, out)));
+
+        Set<Integer> roomIds = new HashSet<>();
+        for (Reservation r : results) {
+            assertNotNull(r, "Ten rooms must satisfy ten requests");
+            roomIds.add(r.getRoomId());
+        }
+        assertEquals(10, roomIds.size(), "Every room should be used exactly once");
+    }
+
+    // ── TC-ALLOC-04 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ALLOC-04: 1000 concurrent bookings produce zero overlaps")
+    void testStressZeroOverlaps() throws Exception {
+        List<Room> inventory = rooms(20);
+        Random random = new Random(42);
+        LocalDate[][] ranges = new LocalDate[1000][];
+        for (int i = 0; i < ranges.length; i++) {
+            LocalDate in = BASE.plusDays(random.nextInt(60));
+            ranges[i] = new LocalDate[]{in, in.plusDays(1 + random.nextInt(5))};
+        }
+
+        List<Reservation> results = runConcurrently(ranges.length, 64, i -> {
+            LocalDate in = ranges[i][0], out = ranges[i][1];
+            return allocator.allocate(inventory, in, out, r -> persist(r, in, out));
+        });
+
+        long booked = results.stream().filter(Objects::nonNull).count();
+        assertEquals(booked, saved.size());
+        assertTrue(booked > 0);
+
+        Map<Integer, List<Reservation>> byRoom = new HashMap<>();
+        for (Reservation r : saved)
+            byRoom.computeIfAbsent(r.getRoomId(), k -> new ArrayList<>()).add(r);
+        for (List<Reservation> stays : byRoom.values()) {
+            stays.sort(Comparator.comparing(Reservation::getCheckinDate));
+            for (int i = 1; i < stays.size(); i++) {
+                Reservation prev = stays.get(i - 1), cur = stays.get(i);
+                assertFalse(cur.getCheckinDate().isBefore(prev.getCheckoutDate()),
+                        "Overlap in room " + cur.getRoomId() + ": " +
+                        prev.getReservationNumber() + " and " + cur.getReservationNumber());
+            }
+        }
+    }
+
+    // ── TC-ALLOC-05 ─────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-ALLOC-05: Moving a stay onto another stay is refused; overlapping itself is fine")
+    void testRescheduleChecksOtherStays() {
+        List<Room> one = rooms(1);
+        Reservation a = allocator.allocate(one, BASE, BASE.plusDays(3), r -> persist(r, BASE, BASE.plusDays(3)));
+        Reservation b = allocator.allocate(one, BASE.plusDays(5), BASE.plusDays(7),
+                r -> persist(r, BASE.plusDays(5), BASE.plusDays(7)));
+        AtomicInteger writes = new AtomicInteger();
+
+        a.setCheckoutDate(BASE.plusDays(6));                        // runs into b
+        assertFalse(allocator.reschedule(a, writes::incrementAndGet));
+        assertEquals(0, writes.get());
+
+        a.setCheckinDate(BASE.plusDays(1));
+        a.setCheckoutDate(BASE.plusDays(5));                        // overlaps only its old dates
+        assertTrue(allocator.reschedule(a, writes::incrementAndGet));
+        assertEquals(1, writes.get());
+
+        assertTrue(index.isAvailable(1, BASE, BASE.plusDays(1)));   // old nights released
+        assertFalse(index.isAvailable(1, BASE.plusDays(4), BASE.plusDays(5)));
+        assertFalse(index.isAvailable(1, BASE.plusDays(5), BASE.plusDays(6), a.getReservationNumber()));
+        assertNotNull(b);
+    }
+
+    private interface Attempt { Reservation run(int i); }
+
+    private static List<Reservation> runConcurrently(int tasks, int threads, Attempt attempt)
+            throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Reservation>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int n = i;
+                futures.add(pool.submit(() -> { start.await(); return attempt.run(n); }));
+            }
+            start.countDown();
+            List<Reservation> results = new ArrayList<>();
+            for (Future<Reservation> f : futures) results.add(f.get(30, TimeUnit.SECONDS));
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
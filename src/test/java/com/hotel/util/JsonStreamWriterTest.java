@@ -0,0 +1,77 @@
+package com.hotel.util;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for JsonStreamWriter.
+ *
+ * Output is parsed back with org.json to check separators, nesting and
+ * string escaping.
+ */
+@DisplayName("JsonStreamWriter Tests")
+public class JsonStreamWriterTest {
+
+    private final StringWriter out = new StringWriter();
+    private final JsonStreamWriter w = new JsonStreamWriter(out);
+
+    // ── TC-JSW-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-JSW-01: Nested objects and arrays get correct separators")
+    void testNesting() throws Exception {
+        w.beginObject()
+         .name("items").beginArray()
+             .beginObject().name("id").value(1).endObject()
+             .beginObject().name("id").value(2).endObject()
+         .endArray()
+         .name("total").value(new BigDecimal("12.50"))
+         .name("more").value(false)
+         .name("nextCursor").value((String) null)
+         .endObject();
+        w.flush();
+
+        JSONObject o = new JSONObject(out.toString());
+        assertEquals(2, o.getJSONArray("items").length());
+        assertEquals(2, o.getJSONArray("items").getJSONObject(1).getInt("id"));
+        assertEquals(0, new BigDecimal("12.50").compareTo(o.getBigDecimal("total")));
+        assertFalse(o.getBoolean("more"));
+        assertTrue(o.isNull("nextCursor"));
+    }
+
+    // ── TC-JSW-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-JSW-02: Strings are escaped and round-trip")
+    void testEscaping() throws Exception {
+        String nasty = "Quote \" slash \\ newline \n tab \t ctrl \u0001 </script>  ";
+        w.beginArray().value(nasty).endArray();
+        w.flush();
+
+        assertEquals(nasty, new JSONArray(out.toString()).getString(0));
+        assertFalse(out.toString().contains("</script>"));
+    }
+
+    // ── TC-JSW-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-JSW-03: Prebuilt JSONObject rows are embedded as elements")
+    void testEmbeddedJsonObjects() throws Exception {
+        w.beginArray();
+        for (int i = 0; i < 3; i++) w.value(new JSONObject().put("n", i));
+        w.endArray();
+        w.flush();
+
+        JSONArray a = new JSONArray(out.toString());
+        assertEquals(3, a.length());
+        assertEquals(2, a.getJSONObject(2).getInt("n"));
+    }
+
+    // ── TC-JSW-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-JSW-04: Closing an unopened container is rejected")
+    void testUnbalancedClose() {
+        assertThrows(IllegalStateException.class, w::endArray);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for Log.
+ *
+ * Covers {} substitution, per-logger level thresholds, that disabled
+ * suppliers are never called, and that flush drains the async appender.
+ */
+@DisplayName("Log Tests")
+public class LogTest {
+
+    // ── TC-LOG-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LOG-01: {} markers are replaced in order, extras left as is")
+    void testFormat() {
+        assertEquals("a=1 b=x", Log.format("a={} b={}", 1, "x", null, 2));
+        assertEquals("only 1 {}", Log.format("only {} {}", 1, null, null, 1));
+        assertEquals("no markers", Log.format("no markers", 1, 2, 3, 3));
+        assertEquals("{}", Log.format("{}", null, null, null, 0));
+    }
+
+    // ── TC-LOG-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LOG-02: A per-logger level overrides the root level")
+    void testPerLoggerLevel() {
+        System.setProperty("hotel.log.level.LogTestQuiet", "ERROR");
+        System.setProperty("hotel.log.level.LogTestChatty", "trace");
+        try {
+            Log quiet  = Log.get("LogTestQuiet");
+            Log chatty = Log.get("LogTestChatty");
+
+            assertFalse(quiet.isInfoEnabled());
+            assertFalse(quiet.isEnabled(Log.Level.WARN));
+            assertTrue(quiet.isEnabled(Log.Level.ERROR));
+            assertTrue(chatty.isTraceEnabled());
+            assertFalse(chatty.isEnabled(Log.Level.OFF));
+        } finally {
+            System.clearProperty("hotel.log.level.LogTestQuiet");
+            System.clearProperty("hotel.log.level.LogTestChatty");
+        }
+    }
+
+    // ── TC-LOG-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LOG-03: Suppliers are only evaluated when the level is enabled")
+    void testSupplierNotCalledWhenDisabled() {
+        System.setProperty("hotel.log.level.LogTestOff", "OFF");
+        try {
+            Log off = Log.get("LogTestOff");
+            AtomicInteger calls = new AtomicInteger();
+
+            off.debug(() -> "n=" + calls.incrementAndGet());
+            off.info(() -> "n=" + calls.incrementAndGet());
+
+            assertEquals(0, calls.get());
+        } finally {
+            System.clearProperty("hotel.log.level.LogTestOff");
+        }
+    }
+
+    // ── TC-LOG-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LOG-04: flush returns once every published event is printed")
+    void testFlush() {
+        Log log = Log.get("LogTest");
+        long dropped = Log.getDroppedCount();
+
+        for (int i = 0; i < 20; i++) log.info("event {}", i);
+
+        assertTrue(Log.flush(5, TimeUnit.SECONDS));
+        assertEquals(dropped, Log.getDroppedCount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for LoginThrottle.
+ *
+ * Covers the per-username and per-address limits, the sliding window,
+ * what a successful login clears, bounded memory and concurrent use.
+ */
+@DisplayName("LoginThrottle Tests")
+public class LoginThrottleTest {
+
+    private static final long WINDOW = 60_000;
+
+    private final AtomicLong    now      = new AtomicLong(1_000_000);
+    private final LoginThrottle throttle = new LoginThrottle(3, 5, WINDOW, 100, now::get);
+
+    // ── TC-LT-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-01: Third failure locks the username until the oldest leaves the window")
+    void testSlidingWindowLockout() {
+        throttle.recordFailure("admin", null);
+        now.addAndGet(10_000);
+        throttle.recordFailure("ADMIN", null);
+        assertFalse(throttle.isLocked("admin"));
+
+        now.addAndGet(10_000);
+        throttle.recordFailure("admin ", null);
+
+        assertTrue(throttle.isLocked("Admin"));
+        assertEquals(WINDOW - 20_000, throttle.retryAfterMillis("admin", "10.0.0.1"));
+
+        now.addAndGet(WINDOW - 20_000);            // first failure ages out
+        assertFalse(throttle.isLocked("admin"));
+        assertEquals(0, throttle.retryAfterMillis("admin", "10.0.0.1"));
+    }
+
+    // ── TC-LT-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-02: One address spraying many usernames is locked; success only clears the username")
+    void testPerAddressLimit() {
+        for (int i = 0; i < 5; i++) throttle.recordFailure("user" + i, "10.0.0.9");
+
+        assertTrue(throttle.retryAfterMillis("someone-else", "10.0.0.9") > 0);
+        assertEquals(0, throttle.retryAfterMillis("someone-else", "10.0.0.10"));
+
+        throttle.recordFailure("clerk", "10.0.0.10");
+        throttle.recordFailure("clerk", "10.0.0.10");
+        throttle.recordFailure("clerk", "10.0.0.10");
+        throttle.recordSuccess("clerk");
+
+        assertFalse(throttle.isLocked("clerk"));
+        assertTrue(throttle.retryAfterMillis("clerk", "10.0.0.9") > 0);
+        assertEquals(2, throttle.getRejectedCount());
+    }
+
+    // ── TC-LT-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-03: Tracked keys stay within maxEntries")
+    void testBoundedMemory() {
+        for (int i = 0; i < 1_000; i++) {
+            throttle.recordFailure("user" + i, "10.0." + (i / 256) + "." + (i % 256));
+            now.incrementAndGet();
+        }
+
+        assertTrue(throttle.getTrackedUsers() <= 100);
+        assertTrue(throttle.getTrackedIps()   <= 100);
+        assertTrue(throttle.getEvictionCount() > 0);
+
+        now.addAndGet(WINDOW);
+        for (int i = 0; i < 11; i++)                    // crosses the cap again: sweep
+            throttle.recordFailure("late" + i, null);
+        assertEquals(11, throttle.getTrackedUsers());  // the rest had expired
+    }
+
+    // ── TC-LT-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-04: Concurrent failures on one username all count")
+    void testConcurrentFailures() throws Exception {
+        LoginThrottle t = new LoginThrottle(1_000, 0, WINDOW, 100, now::get);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                for (int j = 0; j < 125; j++) t.recordFailure("admin", null);
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread th : threads) th.join();
+
+        assertTrue(t.isLocked("admin"));
+    }
+
+    // ── TC-LT-05 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-05: A full map is evicted to 90%, so the next keys do not sweep again")
+    void testEvictionToLowWater() {
+        for (int i = 0; i <= 100; i++) throttle.recordFailure("user" + i, null);   // all live
+        assertEquals(90, throttle.getTrackedUsers());
+        assertEquals(11, throttle.getEvictionCount());
+
+        for (int i = 0; i < 10; i++) throttle.recordFailure("more" + i, null);
+        assertEquals(100, throttle.getTrackedUsers());
+        assertEquals(11, throttle.getEvictionCount());
+    }
+
+    // ── TC-LT-06 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-06: Flooding the map with new names does not lift a lockout")
+    void testEvictionKeepsLockouts() {
+        for (int i = 0; i < 3; i++) throttle.recordFailure("victim", "10.0.0.9");
+        for (int i = 0; i < 5; i++) throttle.recordFailure(null, "10.0.0.9");
+        assertTrue(throttle.isLocked("victim"));
+
+        for (int i = 0; i < 1_000; i++) throttle.recordFailure("flood" + i, "10.1." + (i / 250) + "." + (i % 250));
+
+        assertTrue(throttle.getEvictionCount() > 0);
+        assertEquals(0, throttle.getLockedEvictionCount());
+        assertTrue(throttle.isLocked("victim"));
+        assertTrue(throttle.retryAfterMillis("someone", "10.0.0.9") > 0);
+    }
+
+    // ── TC-LT-07 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-LT-07: When nearly every key is locked, locked keys are evicted as a last resort")
+    void testLockedEvictionLastResort() {
+        for (int i = 0; i <= 100; i++)
+            for (int j = 0; j < 3; j++) throttle.recordFailure("locked" + i, null);
+
+        assertTrue(throttle.getTrackedUsers() <= 100);
+        assertTrue(throttle.getLockedEvictionCount() > 0);
+    }
+}
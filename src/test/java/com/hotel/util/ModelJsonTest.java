@@ -0,0 +1,96 @@
+package com.hotel.util;
+
+import com.hotel.model.*;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for ModelJson.
+ *
+ * Each serializer is checked against the JSONObject the services used
+ * to build for the same model, including the "" fallbacks and the keys
+ * org.json omitted for null values.
+ */
+@DisplayName("ModelJson Tests")
+public class ModelJsonTest {
+
+    // ── TC-MJ-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MJ-01: Reservation matches the org.json shape")
+    void testReservation() {
+        Reservation r = new Reservation("RES-1A2B3C4D", 7, 12, 3,
+                LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 4));
+        r.setReservationId(99);
+        r.setGuestName("Nimal \"Nim\" Perera");
+
+        JSONObject expected = new JSONObject()
+                .put("reservationId",     99)
+                .put("reservationNumber", "RES-1A2B3C4D")
+                .put("guestId",           7)
+                .put("roomId",            12)
+                .put("staffId",           3)
+                .put("checkinDate",       "2026-05-01")
+                .put("checkoutDate",      "2026-05-04")
+                .put("status",            "CONFIRMED")
+                .put("createdAt",         "")
+                .put("guestName",         "Nimal \"Nim\" Perera")
+                .put("roomNumber",        "")
+                .put("staffName",         "");
+
+        assertTrue(expected.similar(new JSONObject(ModelJson.object(r, ModelJson::write))));
+    }
+
+    // ── TC-MJ-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MJ-02: Null amounts and names are omitted like JSONObject.put(null)")
+    void testBillOmitsNulls() {
+        Bill b = new Bill();
+        b.setBillId(5);
+        b.setReservationId(99);
+        b.setSubtotal(new BigDecimal("300.00"));
+
+        JSONObject json = new JSONObject(ModelJson.object(b, ModelJson::write));
+
+        assertFalse(json.has("billNumber"));
+        assertFalse(json.has("taxAmount"));
+        assertEquals(0, new BigDecimal("300.00").compareTo(json.getBigDecimal("subtotal")));
+        assertEquals("PENDING", json.getString("paymentStatus"));
+        assertEquals("", json.getString("guestName"));
+    }
+
+    // ── TC-MJ-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MJ-03: Staff output never contains the password hash")
+    void testStaffHasNoPassword() {
+        Staff s = new Staff();
+        s.setStaffId(1);
+        s.setUsername("admin");
+        s.setPasswordHash("secret-hash");
+        s.setRole("admin");
+
+        String json = ModelJson.object(s, ModelJson::write);
+
+        assertFalse(json.contains("secret-hash"));
+        assertEquals("admin", new JSONObject(json).getString("username"));
+    }
+
+    // ── TC-MJ-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-MJ-04: Lists render as arrays and the buffer is reused safely")
+    void testArrayRendering() {
+        Room a = new Room("101", 1, 1, "AVAILABLE");
+        Room b = new Room("102", 1, 1, "OCCUPIED");
+
+        String first  = ModelJson.array(List.of(a, b), ModelJson::write);
+        String second = ModelJson.array(List.of(b), ModelJson::write);
+
+        assertEquals(2, new JSONArray(first).length());
+        assertEquals("102", new JSONArray(second).getJSONObject(0).getString("roomNumber"));
+        assertEquals("[]", ModelJson.array(List.<Room>of(), ModelJson::write));
+    }
+}
@@ -0,0 +1,82 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for PasswordUtil and Pbkdf2Hasher.
+ *
+ * Covers the PBKDF2 round trip, verification of legacy SHA-256 hashes,
+ * which stored hashes are reported for upgrade, and that a wrong password
+ * on a legacy hash costs as much as one on a PBKDF2 hash.
+ */
+@DisplayName("PasswordUtil Tests")
+public class PasswordUtilTest {
+
+    // SHA-256("Admin@123"), as stored before PBKDF2
+    private static final String LEGACY_ADMIN =
+            "e86f78a8a3caf0b60d8e74e5942aa6d86dc150cd3c03338aef25b7d2d7e3acc7";
+
+    // ── TC-PW-01 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PW-01: PBKDF2 hashes are salted and verify")
+    void testPbkdf2RoundTrip() {
+        Pbkdf2Hasher h = new Pbkdf2Hasher(1_000);
+
+        String a = h.hash("Admin@123");
+        String b = h.hash("Admin@123");
+
+        assertTrue(a.startsWith("pbkdf2-sha256$1000$"));
+        assertNotEquals(a, b);
+        assertTrue(h.verify("Admin@123", a));
+        assertFalse(h.verify("admin@123", a));
+        assertFalse(h.verify("Admin@123", "pbkdf2-sha256$1000$!!$??"));
+        assertFalse(h.verify("Admin@123", "pbkdf2-sha256$x$AAAA$AAAA"));
+    }
+
+    // ── TC-PW-02 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PW-02: Legacy SHA-256 hashes still verify, in either hex case")
+    void testLegacyHashes() {
+        assertEquals(LEGACY_ADMIN, PasswordUtil.sha256Hex("Admin@123"));
+        assertTrue(PasswordUtil.verify("Admin@123", LEGACY_ADMIN));
+        assertTrue(PasswordUtil.verify("Admin@123", LEGACY_ADMIN.toUpperCase()));
+        assertFalse(PasswordUtil.verify("Admin@124", LEGACY_ADMIN));
+        assertFalse(PasswordUtil.verify("Admin@123", "not-a-hash"));
+        assertFalse(PasswordUtil.verify(null, LEGACY_ADMIN));
+    }
+
+    // ── TC-PW-03 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PW-03: Legacy and lower-cost hashes need a rehash, current ones do not")
+    void testNeedsRehash() {
+        String current = PasswordUtil.hash("Admin@123");
+
+        assertTrue(PasswordUtil.verify("Admin@123", current));
+        assertFalse(PasswordUtil.needsRehash(current));
+        assertTrue(PasswordUtil.needsRehash(LEGACY_ADMIN));
+        assertTrue(PasswordUtil.needsRehash(new Pbkdf2Hasher(1_000).hash("Admin@123")));
+        assertTrue(PasswordUtil.needsRehash("unknown"));
+    }
+
+    // ── TC-PW-04 ────────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-PW-04: A wrong password costs a PBKDF2 check on legacy hashes too")
+    void testLegacyFailureCost() {
+        String current = PasswordUtil.hash("Admin@123");
+        PasswordUtil.verify("Admin@124", LEGACY_ADMIN);          // warm-up, creates the dummy hash
+        PasswordUtil.verify("Admin@124", current);
+
+        long legacy = Long.MAX_VALUE, pbkdf2 = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long t0 = System.nanoTime();
+            assertFalse(PasswordUtil.verify("Admin@124", LEGACY_ADMIN));
+            long t1 = System.nanoTime();
+            assertFalse(PasswordUtil.verify("Admin@124", current));
+            long t2 = System.nanoTime();
+            legacy = Math.min(legacy, t1 - t0);
+            pbkdf2 = Math.min(pbkdf2, t2 - t1);
+        }
+        assertTrue(legacy * 2 > pbkdf2, "legacy " + legacy + "ns vs PBKDF2 " + pbkdf2 + "ns");
+    }
+}
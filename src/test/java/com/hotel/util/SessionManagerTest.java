@@ -0,0 +1,99 @@
+package com.hotel.util;
+
+import com.hotel.model.Staff;
+import org.junit.jupiter.api.*;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for SessionManager.
+ *
+ * Uses a manual clock to drive idle and absolute expiry, sliding renewal
+ * and LRU eviction at the session cap.
+ */
+@DisplayName("SessionManager Tests")
+public class SessionManagerTest {
+
+    private static final long MINUTE = 60_000;
+
+    private final AtomicLong     now = new AtomicLong(1_000_000);
+    private final SessionManager sm  = new SessionManager(now::get, 30 * MINUTE, 8 * 60 * MINUTE, 3);
+
+    private static Staff staff(String username, String role) {
+        Staff s = new Staff(username, "hash-of-" + username, username + " Full", username + "@hotel.lk", role);
+        s.setStaffId(username.length());
+        return s;
+    }
+
+    // ── TC-SES-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SES-01: Use slides the idle window; an unused session expires")
+    void testSlidingIdleExpiry() {
+        String active = sm.createSession(staff("admin", "admin"));
+        String idle   = sm.createSession(staff("reception", "receptionist"));
+
+        for (int i = 0; i < 4; i++) {
+            now.addAndGet(20 * MINUTE);
+            assertTrue(sm.isValid(active), "renewed on each use");
+        }
+        assertNull(sm.getSession(idle));
+        assertEquals(1, sm.getExpiredCount());
+        assertEquals(1, sm.getLiveSessions());
+    }
+
+    // ── TC-SES-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SES-02: The absolute limit ends even a busy session")
+    void testAbsoluteExpiry() {
+        String token = sm.createSession(staff("admin", "admin"));
+        for (int i = 0; i < 23; i++) {
+            now.addAndGet(20 * MINUTE);
+            assertTrue(sm.isValid(token));
+        }
+        now.addAndGet(20 * MINUTE);   // 8 hours after login
+        assertFalse(sm.isValid(token));
+    }
+
+    // ── TC-SES-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SES-03: Past the cap the least recently used session is evicted")
+    void testLruEviction() {
+        String a = sm.createSession(staff("a", "receptionist"));
+        now.addAndGet(SessionManager.TOUCH_MS);
+        String b = sm.createSession(staff("bb", "receptionist"));
+        now.addAndGet(SessionManager.TOUCH_MS);
+        String c = sm.createSession(staff("ccc", "receptionist"));
+        now.addAndGet(SessionManager.TOUCH_MS);
+
+        assertNotNull(sm.getSession(a));           // a is now more recent than b
+        String d = sm.createSession(staff("dddd", "admin"));
+
+        assertNull(sm.getSession(b));
+        assertNotNull(sm.getSession(a));
+        assertNotNull(sm.getSession(c));
+        assertTrue(sm.isAdmin(d));
+        assertEquals(1, sm.getEvictionCount());
+        assertEquals(3, sm.getLiveSessions());
+    }
+
+    // ── TC-SES-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-SES-04: Sessions never hold or hand out the password hash")
+    void testNoPasswordHash() {
+        Staff original = staff("admin", "admin");
+        String token = sm.createSession(original);
+
+        Staff s = sm.getSession(token);
+        assertNull(s.getPasswordHash());
+        assertEquals("admin", s.getUsername());
+        assertEquals(5, s.getStaffId());
+
+        s.setRole("receptionist");                 // callers get a copy
+        assertTrue(sm.isAdmin(token));
+        assertEquals("hash-of-admin", original.getPasswordHash());
+
+        sm.invalidate(token);
+        assertNull(sm.getSession(token));
+        assertEquals(0, sm.getLiveSessions());
+    }
+}
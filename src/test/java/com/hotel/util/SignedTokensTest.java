@@ -0,0 +1,96 @@
+package com.hotel.util;
+
+import com.hotel.model.Staff;
+import org.junit.jupiter.api.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for SignedTokens.
+ *
+ * Covers the claims round trip, signature checks across instances,
+ * expiry, and logout through the rotating revocation filter, both
+ * directly and through SessionManager in stateless mode.
+ */
+@DisplayName("SignedTokens Tests")
+public class SignedTokensTest {
+
+    private static final long   HOUR = 3_600_000;
+    private static final byte[] KEY  = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private static Staff staff() {
+        Staff s = new Staff("admin", "hash", "Admin User", "admin@hotel.lk", "admin");
+        s.setStaffId(7);
+        return s;
+    }
+
+    // ── TC-TOK-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TOK-01: Any instance with the same key accepts the token")
+    void testRoundTripAcrossInstances() {
+        SignedTokens a = new SignedTokens(KEY, HOUR, 1024, 0);
+        SignedTokens b = new SignedTokens(KEY, HOUR, 1024, 0);
+
+        Staff s = b.verify(a.issue(staff(), 0), 1_000);
+
+        assertEquals(7, s.getStaffId());
+        assertEquals("admin", s.getRole());
+        assertEquals("admin", s.getUsername());
+        assertNull(s.getPasswordHash());
+    }
+
+    // ── TC-TOK-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TOK-02: Tampered, foreign, malformed and expired tokens are rejected")
+    void testRejections() {
+        SignedTokens t = new SignedTokens(KEY, HOUR, 1024, 0);
+        String token = t.issue(staff(), 0);
+
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        String forged  = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                payload.replace("|admin|", "|receptionist|").getBytes(StandardCharsets.UTF_8))
+                + token.substring(token.indexOf('.'));
+
+        assertNull(t.verify(forged, 1));
+        assertNull(new SignedTokens(new byte[32], HOUR, 1024, 0).verify(token, 1));
+        assertNull(t.verify("not-a-token", 1));
+        assertNull(t.verify("a.b.c", 1));
+        assertNull(t.verify(token, HOUR));
+    }
+
+    // ── TC-TOK-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TOK-03: Revocations survive one filter rotation")
+    void testRevocationAcrossRotation() {
+        SignedTokens t = new SignedTokens(KEY, HOUR, 1024, 0);
+        String revoked = t.issue(staff(), HOUR / 2);
+        String kept    = t.issue(staff(), HOUR / 2);
+
+        t.revoke(revoked, HOUR / 2 + 1);
+
+        long afterRotation = HOUR + 1;                 // filter rotated once
+        assertNull(t.verify(revoked, afterRotation));
+        assertNotNull(t.verify(kept, afterRotation));
+    }
+
+    // ── TC-TOK-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-TOK-04: SessionManager in stateless mode keeps no sessions")
+    void testStatelessSessionManager() {
+        AtomicLong now = new AtomicLong(0);
+        SessionManager sm = new SessionManager(now::get, HOUR, 8 * HOUR, 10,
+                new SignedTokens(KEY, 8 * HOUR, 1024, 0));
+
+        String token = sm.createSession(staff());
+
+        assertTrue(sm.isAdmin(token));
+        assertEquals(7, sm.getSession(token).getStaffId());
+        assertEquals(0, sm.getLiveSessions());
+
+        sm.invalidate(token);
+        assertFalse(sm.isValid(token));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hotel.util;
+
+import org.junit.jupiter.api.*;
+import org.json.JSONObject;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Suite for Validators and Schema.
+ *
+ * Checks the hand-written scanners against the regexes they replaced,
+ * and that a Schema reports every failing field in declaration order.
+ */
+@DisplayName("Validators Tests")
+public class ValidatorsTest {
+
+    private static final String CONTACT  = "^[0-9+\\-]{7,15}$";
+    private static final String EMAIL    = "^[\\w.+\\-]+@[\\w\\-]+\\.[a-zA-Z]{2,}$";
+    private static final String USERNAME = "^[a-zA-Z0-9_]+$";
+
+    private static final List<String> SAMPLES = List.of(
+            "", "a", "1234567", "123456", "+94712345678", "0712-345-678", "1234567890123456",
+            "071 234 5678", "07123456a", "١٢٣٤٥٦٧",
+            "a@b.co", "john.doe+tag@hotel-lk.com", "a@b.c", "a@b.co.uk", "@b.co", "a@.co",
+            "a@b.", "a@b.c0m", "a b@c.com", "a@b@c.com", "ä@b.com", "a@b.COM", "a@b.co\n",
+            "admin", "front_desk_2", "user-name", "ユーザー", "_", "white space");
+
+    // ── TC-VAL-01 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-VAL-01: Scanners accept exactly what the old regexes accepted")
+    void testScannersMatchRegexes() {
+        for (String s : SAMPLES) {
+            assertEquals(s.matches(CONTACT),  Validators.isContact(s),  "contact: " + s);
+            assertEquals(s.matches(EMAIL),    Validators.isEmail(s),    "email: " + s);
+            assertEquals(s.matches(USERNAME), Validators.isUsername(s), "username: " + s);
+        }
+        assertFalse(Validators.isContact(null));
+        assertFalse(Validators.isEmail(null));
+        assertFalse(Validators.isUsername(null));
+    }
+
+    // ── TC-VAL-02 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-VAL-02: Digit and date checks")
+    void testDigitAndDate() {
+        assertTrue(Validators.hasDigit("secret1"));
+        assertFalse(Validators.hasDigit("secret"));
+        assertTrue(Validators.isDate("2026-02-28"));
+        assertFalse(Validators.isDate("2026-02-30"));
+        assertFalse(Validators.isDate("28/02/2026"));
+        assertFalse(Validators.isDate(""));
+    }
+
+    // ── TC-VAL-03 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-VAL-03: Schema reports every failing field, one message each")
+    void testSchemaCollectsAllErrors() {
+        Schema schema = Schema.builder()
+                .field   ("guestName",     s -> s.length() >= 2,    "name")
+                .required("contactNumber",                          "contact required")
+                .field   ("contactNumber", Validators::isContact,  "contact format")
+                .optional("email",         Validators::isEmail,    "email")
+                .field   ("roomType",      Validators.ROOM_TYPES::contains, "room type")
+                .build();
+
+        ValidationException e = assertThrows(ValidationException.class, () -> schema.validate(
+                new JSONObject().put("guestName", "A").put("roomType", "Presidential")));
+
+        assertEquals(List.of("name", "contact required", "room type"), e.getErrors());
+        assertEquals("name; contact required; room type", e.getMessage());
+        assertTrue(e instanceof IllegalArgumentException);
+    }
+
+    // ── TC-VAL-04 ───────────────────────────────────────────────
+    @Test
+    @DisplayName("TC-VAL-04: Valid bodies pass; optional fields only checked when present")
+    void testSchemaAcceptsValidBody() {
+        Schema schema = Schema.builder()
+                .field   ("contactNumber", Validators::isContact, "contact")
+                .optional("email",         Validators::isEmail,   "email")
+                .build();
+        Map<String, String> body = Map.of("contactNumber", " +94712345678 ");
+
+        assertDoesNotThrow(() -> schema.validate(new JSONObject(body)));
+        assertThrows(ValidationException.class,
+                () -> schema.validate(new JSONObject(body).put("email", "not-an-email")));
+        assertThrows(ValidationException.class, () -> schema.validate(name -> null));
+    }
+}